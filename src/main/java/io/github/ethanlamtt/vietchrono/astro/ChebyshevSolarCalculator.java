@@ -0,0 +1,237 @@
+package io.github.ethanlamtt.vietchrono.astro;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+import static io.github.ethanlamtt.vietchrono.astro.AstroUtils.normalizeAngle;
+
+/**
+ * Provides solar astronomical calculations implementation using
+ * piecewise Chebyshev polynomials fitted to {@link Vsop87SolarCalculator}.
+ *
+ * <p>The span from {@value #FROM_YEAR} to {@value #TO_YEAR} is cut into segments of
+ * {@value #SEGMENT_DAYS} days. The apparent longitude over each segment is interpolated at the
+ * Chebyshev nodes by a polynomial of degree {@value #DEGREE}, so an evaluation is a few dozen
+ * multiply-adds instead of the thousand cosines of the full series. The coefficients are fitted at
+ * build time by {@link ChebyshevSolarCalculatorGenerator} and shipped as the {@value #RESOURCE}
+ * resource.</p>
+ * <p>The deviation from the full VSOP87 series stays below {@value #MAXIMUM_ERROR} arcseconds over the
+ * whole span. Moments outside the span, or every moment if the resource is missing, are computed by
+ * {@link Vsop87SolarCalculator}.</p>
+ * <p>This calculator is selected by naming it in a
+ * {@code META-INF/services/io.github.ethanlamtt.vietchrono.astro.SolarCalculator} resource.</p>
+ * <p>This class is immutable and thread-safe.</p>
+ *
+ * @author ethanlamtt
+ * @since 1.0.0
+ */
+public final class ChebyshevSolarCalculator implements SolarCalculator {
+
+    /**
+     * The resource name of the fitted coefficients.
+     */
+    static final String RESOURCE = "data/chebyshev-sun.bin";
+
+    /**
+     * The magic number of the coefficients format, "VCCH" in ASCII.
+     */
+    static final int MAGIC = 0x56434348;
+
+    /**
+     * The version of the coefficients format.
+     */
+    static final int VERSION = 1;
+
+    /**
+     * The first covered year.
+     */
+    static final int FROM_YEAR = 1900;
+
+    /**
+     * The last covered year.
+     */
+    static final int TO_YEAR = 2100;
+
+    /**
+     * The length of a segment in days.
+     */
+    static final int SEGMENT_DAYS = 32;
+
+    /**
+     * The degree of the polynomial of each segment.
+     */
+    static final int DEGREE = 12;
+
+    /**
+     * The bound of the deviation from the full VSOP87 series over the covered span, in arcseconds.
+     */
+    static final double MAXIMUM_ERROR = 0.01;
+
+    /**
+     * Holds the coefficients loaded from {@value #RESOURCE}.
+     */
+    private static final class Holder {
+        private static final Segments SEGMENTS = loadResource();
+    }
+
+    /**
+     * Represents for the fitted coefficients of consecutive segments.
+     */
+    static final class Segments {
+
+        /**
+         * The segments of a missing resource, covering nothing.
+         */
+        static final Segments EMPTY = new Segments(0.0, 1.0, 1, new double[0]);
+
+        /**
+         * The Julian Ephemeris Day starting the first segment.
+         */
+        private final double fromJde;
+
+        /**
+         * The length of a segment in days.
+         */
+        private final double segmentDays;
+
+        /**
+         * The number of coefficients of each segment.
+         */
+        private final int coefficientCount;
+
+        /**
+         * The coefficients, segment after segment, from the lowest order.
+         */
+        private final double[] coefficients;
+
+        Segments(double fromJde, double segmentDays, int coefficientCount, double[] coefficients) {
+            this.fromJde = fromJde;
+            this.segmentDays = segmentDays;
+            this.coefficientCount = coefficientCount;
+            this.coefficients = Objects.requireNonNull(coefficients, "coefficients");
+        }
+
+        /**
+         * Obtains the number of segments.
+         *
+         * @return the number of segments
+         */
+        int segmentCount() {
+            return coefficients.length / coefficientCount;
+        }
+
+        /**
+         * Reads segments from a buffer holding the generated format.
+         *
+         * @param buffer the buffer positioned at the start of the segments
+         * @return the segments
+         * @throws IllegalArgumentException if the buffer does not hold segments of the supported version
+         */
+        static Segments read(ByteBuffer buffer) {
+            if (buffer.remaining() < 8 || buffer.getInt() != MAGIC)
+                throw new IllegalArgumentException("Not a Chebyshev coefficients resource");
+
+            int version = buffer.getInt();
+            if (version != VERSION)
+                throw new IllegalArgumentException("Unsupported Chebyshev coefficients version: " + version);
+
+            double fromJde = buffer.getDouble();
+            double segmentDays = buffer.getDouble();
+            int coefficientCount = buffer.getInt();
+            int segmentCount = buffer.getInt();
+
+            if (buffer.remaining() != segmentCount * coefficientCount * Double.BYTES)
+                throw new IllegalArgumentException("Unexpected Chebyshev coefficients length");
+
+            double[] coefficients = new double[segmentCount * coefficientCount];
+            buffer.asDoubleBuffer()
+                    .get(coefficients);
+
+            return new Segments(fromJde, segmentDays, coefficientCount, coefficients);
+        }
+    }
+
+    /**
+     * The segments evaluated by this calculator.
+     */
+    private final Segments segments;
+
+    /**
+     * The calculator of moments outside the segments.
+     */
+    private final SolarCalculator fallback;
+
+    /**
+     * Constructs a {@code ChebyshevSolarCalculator} from the shipped coefficients.
+     *
+     * <p>This constructor is public so that {@link java.util.ServiceLoader} can instantiate this class.
+     * Instances share the loaded coefficients.</p>
+     */
+    public ChebyshevSolarCalculator() {
+        this(Holder.SEGMENTS);
+    }
+
+    /**
+     * Constructs a {@code ChebyshevSolarCalculator} evaluating the specified segments.
+     *
+     * @param segments the fitted segments
+     */
+    ChebyshevSolarCalculator(Segments segments) {
+        this.segments = segments;
+        this.fallback = Vsop87SolarCalculator.getInstance();
+    }
+
+    /**
+     * Loads the coefficients from the class path.
+     *
+     * @return the segments, or empty segments if the resource is missing or unreadable
+     */
+    private static Segments loadResource() {
+        try (InputStream is = ChebyshevSolarCalculator.class.getClassLoader().getResourceAsStream(RESOURCE)) {
+            if (is == null)
+                return Segments.EMPTY;
+
+            return Segments.read(ByteBuffer.wrap(is.readAllBytes()));
+        } catch (IOException | RuntimeException e) {
+            return Segments.EMPTY;
+        }
+    }
+
+    @Override
+    public double apparentLongitude(double jde) {
+        double offset = jde - segments.fromJde;
+        double position = offset / segments.segmentDays;
+        int segment = (int) Math.floor(position);
+
+        if (offset < 0 || segment >= segments.segmentCount())
+            return fallback.apparentLongitude(jde);
+
+        // Clenshaw's recurrence on x in [-1, 1]
+        double x = 2 * (position - segment) - 1;
+        double[] coefficients = segments.coefficients;
+        int first = segment * segments.coefficientCount;
+
+        double b1 = 0.0;
+        double b2 = 0.0;
+        for (int j = first + segments.coefficientCount - 1; j > first; j--) {
+            double b0 = 2 * x * b1 - b2 + coefficients[j];
+            b2 = b1;
+            b1 = b0;
+        }
+
+        return normalizeAngle(x * b1 - b2 + coefficients[first]);
+    }
+
+    /**
+     * Checks whether a moment is covered by the fitted segments.
+     *
+     * @param jde the Julian Ephemeris Day
+     * @return {@code true} if the longitude at {@code jde} is evaluated from the segments
+     */
+    boolean covers(double jde) {
+        double offset = jde - segments.fromJde;
+        return offset >= 0 && offset < segments.segmentDays * segments.segmentCount();
+    }
+}
@@ -0,0 +1,144 @@
+package io.github.ethanlamtt.vietchrono.astro;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+
+import static io.github.ethanlamtt.vietchrono.astro.ChebyshevSolarCalculator.*;
+import static io.github.ethanlamtt.vietchrono.astro.JulianEpoch.UNIX;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+/**
+ * Generates the {@link ChebyshevSolarCalculator} resource.
+ *
+ * <p>This class is run at build time with the output path as argument. The apparent longitude of the
+ * full VSOP87 series is sampled at the Chebyshev nodes of each segment, unwrapped so that it increases
+ * continuously over the segment, and interpolated by a Chebyshev series.</p>
+ *
+ * @author ethanlamtt
+ * @since 1.0.0
+ */
+final class ChebyshevSolarCalculatorGenerator {
+
+    /**
+     * Mean daily motion of the Sun in degrees.
+     */
+    private static final double SUN_MEAN_VELOCITY = 0.98564736;
+
+    private ChebyshevSolarCalculatorGenerator() {}
+
+    /**
+     * Writes the coefficients to the path given as argument.
+     *
+     * @param args the output path
+     * @throws IOException if the coefficients cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1)
+            throw new IllegalArgumentException("Usage: ChebyshevSolarCalculatorGenerator <output>");
+
+        write(Path.of(args[0]));
+    }
+
+    /**
+     * Writes the coefficients to a file, replacing it atomically.
+     *
+     * @param output the file to write
+     * @throws IOException if the coefficients cannot be written
+     */
+    static void write(Path output) throws IOException {
+        Path directory = output.toAbsolutePath()
+                .getParent();
+        Files.createDirectories(directory);
+
+        Path temp = Files.createTempFile(directory, "chebyshev", ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                write(out);
+            }
+            Files.move(temp, output, REPLACE_EXISTING, ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Writes the coefficients to a stream.
+     *
+     * @param out the stream to write
+     * @throws IOException if the coefficients cannot be written
+     */
+    static void write(DataOutputStream out) throws IOException {
+        SolarCalculator calculator = Vsop87SolarCalculator.of(Vsop87SolarCalculator.Truncation.FULL);
+
+        double fromJde = jdeOf(FROM_YEAR);
+        double toJde = jdeOf(TO_YEAR + 1);
+        int segmentCount = (int) Math.ceil((toJde - fromJde) / SEGMENT_DAYS);
+
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeDouble(fromJde);
+        out.writeDouble(SEGMENT_DAYS);
+        out.writeInt(DEGREE + 1);
+        out.writeInt(segmentCount);
+
+        for (int segment = 0; segment < segmentCount; segment++) {
+            for (double coefficient : fit(calculator, fromJde + (double) segment * SEGMENT_DAYS))
+                out.writeDouble(coefficient);
+        }
+    }
+
+    /**
+     * Interpolates the apparent longitude over a segment at its Chebyshev nodes.
+     *
+     * @param calculator the calculator to interpolate
+     * @param startJde the Julian Ephemeris Day starting the segment
+     * @return the Chebyshev coefficients, from the lowest order
+     */
+    static double[] fit(SolarCalculator calculator, double startJde) {
+        int n = DEGREE + 1;
+        double middle = startJde + SEGMENT_DAYS / 2.0;
+        double start = calculator.apparentLongitude(startJde);
+
+        double[] nodes = new double[n];
+        for (int k = 0; k < n; k++) {
+            double x = Math.cos(Math.PI * (k + 0.5) / n);
+            nodes[k] = middle + x * SEGMENT_DAYS / 2.0;
+        }
+
+        double[] values = new double[n];
+        calculator.apparentLongitudes(nodes, values, 0, n);
+        for (int k = 0; k < n; k++) {
+            // Unwraps around the longitude expected from the mean motion of the Sun
+            double expected = start + (nodes[k] - startJde) * SUN_MEAN_VELOCITY;
+            values[k] += 360 * Math.round((expected - values[k]) / 360);
+        }
+
+        double[] coefficients = new double[n];
+        for (int j = 0; j < n; j++) {
+            double sum = 0.0;
+            for (int k = 0; k < n; k++)
+                sum += values[k] * Math.cos(Math.PI * j * (k + 0.5) / n);
+
+            coefficients[j] = 2 * sum / n;
+        }
+        coefficients[0] /= 2;
+
+        return coefficients;
+    }
+
+    /**
+     * Returns the Julian Day of January 1 of a year, at midnight.
+     *
+     * @param year the year
+     * @return the Julian Day
+     */
+    private static double jdeOf(int year) {
+        return UNIX.value() + LocalDate.of(year, 1, 1).toEpochDay();
+    }
+}
@@ -0,0 +1,370 @@
+package io.github.ethanlamtt.vietchrono.astro;
+
+import io.github.ethanlamtt.vietchrono.scale.DeltaT;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+import static io.github.ethanlamtt.vietchrono.astro.AstroUtils.normalizeAngle;
+
+/**
+ * Provides precomputed moments of new moons and solar term transitions.
+ *
+ * <p>The table is generated at build time by {@link EphemerisTableGenerator} and shipped as the
+ * {@value #RESOURCE} resource. It holds the epoch second of every new moon, indexed by lunation
+ * number, and of every transition of the apparent solar longitude through a multiple of 15 degrees,
+ * in chronological order. The resource is memory-mapped when it is a plain file and read once
+ * otherwise.</p>
+ * <p>Lookups outside the generated year span, or against a table generated with a different deltaT
+ * provider, return {@link #NOT_COVERED} and callers fall back to live computation.</p>
+ * <p>This class is immutable and thread-safe.</p>
+ *
+ * @author ethanlamtt
+ * @since 1.0.0
+ */
+final class EphemerisTable {
+
+    /**
+     * The resource name of the generated table.
+     */
+    static final String RESOURCE = "data/ephemeris.bin";
+
+    /**
+     * The magic number of the table format, "VCEP" in ASCII.
+     */
+    static final int MAGIC = 0x56434550;
+
+    /**
+     * The version of the table format.
+     */
+    static final int VERSION = 1;
+
+    /**
+     * The value returned by lookups which the table cannot answer.
+     */
+    static final long NOT_COVERED = Long.MIN_VALUE;
+
+    /**
+     * Number of solar term transitions in a tropical year.
+     */
+    private static final int TERMS_PER_YEAR = 24;
+
+    /**
+     * Longitude difference between two consecutive solar term transitions, in degrees.
+     */
+    private static final int TERM_STEP = 15;
+
+    /**
+     * The table without any entry.
+     */
+    private static final EphemerisTable EMPTY = new EphemerisTable(
+            0, 0, "", 0, LongBuffer.allocate(0), 0, LongBuffer.allocate(0));
+
+    /**
+     * Holds the table loaded from {@value #RESOURCE}.
+     */
+    private static final class Holder {
+        private static final EphemerisTable INSTANCE = loadResource();
+    }
+
+    /**
+     * The first covered year.
+     */
+    private final int fromYear;
+
+    /**
+     * The last covered year.
+     */
+    private final int toYear;
+
+    /**
+     * The name of the solar calculator which computed the transitions.
+     */
+    private final String calculatorName;
+
+    /**
+     * The lunation number of the first new moon.
+     */
+    private final long firstLunation;
+
+    /**
+     * Epoch seconds of consecutive new moons.
+     */
+    private final LongBuffer newMoons;
+
+    /**
+     * The apparent longitude reached by the first transition, in degrees.
+     */
+    private final int firstTermLongitude;
+
+    /**
+     * Epoch seconds of consecutive solar term transitions.
+     */
+    private final LongBuffer transitions;
+
+    private EphemerisTable(int fromYear, int toYear, String calculatorName,
+                           long firstLunation, LongBuffer newMoons,
+                           int firstTermLongitude, LongBuffer transitions) {
+        this.fromYear = fromYear;
+        this.toYear = toYear;
+        this.calculatorName = Objects.requireNonNull(calculatorName, "calculatorName");
+        this.firstLunation = firstLunation;
+        this.newMoons = Objects.requireNonNull(newMoons, "newMoons");
+        this.firstTermLongitude = firstTermLongitude;
+        this.transitions = Objects.requireNonNull(transitions, "transitions");
+    }
+
+    /**
+     * Gets the table loaded from the class path.
+     *
+     * @return the loaded table, or an empty table if the resource is missing or stale
+     */
+    static EphemerisTable getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Returns a table without any entry.
+     *
+     * @return an empty table
+     */
+    static EphemerisTable empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Reads a table from a buffer holding the generated format.
+     *
+     * @param buffer the buffer positioned at the start of the table
+     * @return the table
+     * @throws IllegalArgumentException if the buffer does not hold a table of the supported version
+     */
+    static EphemerisTable read(ByteBuffer buffer) {
+        if (buffer.remaining() < 8 || buffer.getInt() != MAGIC)
+            throw new IllegalArgumentException("Not an ephemeris table");
+
+        int version = buffer.getInt();
+        if (version != VERSION)
+            throw new IllegalArgumentException("Unsupported ephemeris table version: " + version);
+
+        int fromYear = buffer.getInt();
+        int toYear = buffer.getInt();
+
+        byte[] name = new byte[buffer.getShort() & 0xFFFF];
+        buffer.get(name);
+        String calculatorName = new String(name, StandardCharsets.UTF_8);
+
+        double[] deltaTSamples = new double[buffer.getInt()];
+        for (int i = 0; i < deltaTSamples.length; i++)
+            deltaTSamples[i] = buffer.getDouble();
+
+        if (!DeltaT.getInstance().matchesFingerprint(deltaTSamples))
+            return EMPTY;
+
+        long firstLunation = buffer.getLong();
+        int newMoonCount = buffer.getInt();
+        int firstTermLongitude = buffer.getInt();
+        int transitionCount = buffer.getInt();
+
+        LongBuffer newMoons = buffer.slice(buffer.position(), newMoonCount * Long.BYTES)
+                .asLongBuffer();
+        buffer.position(buffer.position() + newMoonCount * Long.BYTES);
+
+        LongBuffer transitions = buffer.slice(buffer.position(), transitionCount * Long.BYTES)
+                .asLongBuffer();
+        buffer.position(buffer.position() + transitionCount * Long.BYTES);
+
+        return new EphemerisTable(fromYear, toYear, calculatorName,
+                                  firstLunation, newMoons, firstTermLongitude, transitions);
+    }
+
+    /**
+     * Loads the table from the class path.
+     *
+     * @return the table, or an empty table if the resource is missing, unreadable or stale
+     */
+    private static EphemerisTable loadResource() {
+        URL url = EphemerisTable.class.getClassLoader().getResource(RESOURCE);
+        if (url == null)
+            return EMPTY;
+
+        try {
+            return read(map(url));
+        } catch (IOException | RuntimeException e) {
+            return EMPTY;
+        }
+    }
+
+    /**
+     * Maps the resource into memory if it is a file, otherwise reads it into a heap buffer.
+     *
+     * @param url the resource location
+     * @return a buffer holding the whole resource
+     * @throws IOException if the resource cannot be read
+     */
+    private static ByteBuffer map(URL url) throws IOException {
+        if ("file".equals(url.getProtocol())) {
+            try (FileChannel channel = FileChannel.open(Path.of(url.toURI()), StandardOpenOption.READ)) {
+                return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            } catch (URISyntaxException e) {
+                throw new IOException(e);
+            }
+        }
+
+        try (InputStream is = url.openStream()) {
+            return ByteBuffer.wrap(is.readAllBytes());
+        }
+    }
+
+    /**
+     * Obtains the first covered year.
+     *
+     * @return the first covered year
+     */
+    int fromYear() {
+        return fromYear;
+    }
+
+    /**
+     * Obtains the last covered year.
+     *
+     * @return the last covered year
+     */
+    int toYear() {
+        return toYear;
+    }
+
+    /**
+     * Checks whether the solar term transitions were computed by the specified calculator.
+     *
+     * @param calculator the solar calculator in use
+     * @return {@code true} if the transitions can answer for {@code calculator}
+     */
+    boolean coversTermsOf(SolarCalculator calculator) {
+        return transitions.limit() > 0 && calculatorName.equals(calculator.name());
+    }
+
+    /**
+     * Returns the epoch second of the last new moon strictly before the specified epoch second.
+     *
+     * @param epochSecond the anchor epoch second
+     * @return the epoch second of the new moon, or {@link #NOT_COVERED}
+     */
+    long newMoonBefore(long epochSecond) {
+        int index = lowerBound(newMoons, epochSecond);
+        if (index < 1 || index >= newMoons.limit())
+            return NOT_COVERED;
+
+        return newMoons.get(index - 1);
+    }
+
+    /**
+     * Returns the epoch second of the first new moon strictly after the specified epoch second.
+     *
+     * @param epochSecond the anchor epoch second
+     * @return the epoch second of the new moon, or {@link #NOT_COVERED}
+     */
+    long newMoonAfter(long epochSecond) {
+        int index = upperBound(newMoons, epochSecond);
+        if (index < 1 || index >= newMoons.limit())
+            return NOT_COVERED;
+
+        return newMoons.get(index);
+    }
+
+    /**
+     * Returns the epoch second of the new moon of the specified lunation.
+     *
+     * @param lunation the lunation number, 0 is the new moon of January 6, 2000
+     * @return the epoch second of the new moon, or {@link #NOT_COVERED}
+     */
+    long newMoonAt(long lunation) {
+        long index = lunation - firstLunation;
+        if (index < 0 || index >= newMoons.limit())
+            return NOT_COVERED;
+
+        return newMoons.get((int) index);
+    }
+
+    /**
+     * Returns the epoch second nearest to an anchor at which the apparent solar longitude
+     * reaches the specified value.
+     *
+     * @param longitude the target longitude in degrees, only multiples of 15 are covered
+     * @param epochSecond the anchor epoch second
+     * @return the epoch second of the transition, or {@link #NOT_COVERED}
+     */
+    long transitionNear(double longitude, long epochSecond) {
+        double normalized = normalizeAngle(longitude);
+        if (normalized != Math.rint(normalized) || (int) normalized % TERM_STEP != 0)
+            return NOT_COVERED;
+
+        int count = transitions.limit();
+        int offset = Math.floorMod(((int) normalized - firstTermLongitude) / TERM_STEP, TERMS_PER_YEAR);
+
+        int next = upperBound(transitions, epochSecond);
+        int previousMatch = (next - 1) - Math.floorMod(next - 1 - offset, TERMS_PER_YEAR);
+        int nextMatch = previousMatch + TERMS_PER_YEAR;
+
+        if (previousMatch < 0 || nextMatch >= count)
+            return NOT_COVERED;
+
+        long before = transitions.get(previousMatch);
+        long after = transitions.get(nextMatch);
+
+        return epochSecond - before <= after - epochSecond ? before : after;
+    }
+
+    /**
+     * Returns the index of the first value greater than or equal to a key.
+     *
+     * @param values the ascending values
+     * @param key the key
+     * @return the index, or {@code values.limit()} if all values are less than the key
+     */
+    private static int lowerBound(LongBuffer values, long key) {
+        int low = 0;
+        int high = values.limit();
+
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (values.get(mid) < key)
+                low = mid + 1;
+            else
+                high = mid;
+        }
+
+        return low;
+    }
+
+    /**
+     * Returns the index of the first value strictly greater than a key.
+     *
+     * @param values the ascending values
+     * @param key the key
+     * @return the index, or {@code values.limit()} if all values are less than or equal to the key
+     */
+    private static int upperBound(LongBuffer values, long key) {
+        int low = 0;
+        int high = values.limit();
+
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (values.get(mid) <= key)
+                low = mid + 1;
+            else
+                high = mid;
+        }
+
+        return low;
+    }
+}
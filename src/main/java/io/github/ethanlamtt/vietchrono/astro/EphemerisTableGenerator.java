@@ -0,0 +1,205 @@
+package io.github.ethanlamtt.vietchrono.astro;
+
+import io.github.ethanlamtt.vietchrono.scale.DeltaT;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.github.ethanlamtt.vietchrono.astro.JulianEpoch.UNIX;
+import static io.github.ethanlamtt.vietchrono.astro.LunarPhase.MEAN_SYNODIC_MONTH;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+/**
+ * Generates the {@link EphemerisTable} resource.
+ *
+ * <p>This class is run at build time with the output path and the first and last covered years as
+ * arguments. Every entry is computed live from {@link LunarPhase} and {@link SolarCalculator}, so the
+ * table always agrees with the algorithms it is shipped with.</p>
+ *
+ * @author ethanlamtt
+ * @since 1.0.0
+ */
+final class EphemerisTableGenerator {
+
+    /**
+     * Mean new moon near J2000 epoch, occurred on January 6, 2000.
+     */
+    private static final double MEAN_NEW_MOON_BASE = 2451550.09765;
+
+    /**
+     * Mean daily motion of the Sun in degrees.
+     */
+    private static final double SUN_MEAN_VELOCITY = 0.98564736;
+
+    /**
+     * Longitude difference between two consecutive solar term transitions, in degrees.
+     */
+    private static final int TERM_STEP = 15;
+
+    /**
+     * Seconds in a day.
+     */
+    private static final double DAY_IN_SECONDS = 86400.0;
+
+    private EphemerisTableGenerator() {}
+
+    /**
+     * Writes the table to the path given as first argument, covering the years given as second and
+     * third arguments.
+     *
+     * @param args the output path, the first covered year and the last covered year
+     * @throws IOException if the table cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 3)
+            throw new IllegalArgumentException("Usage: EphemerisTableGenerator <output> <fromYear> <toYear>");
+
+        write(Path.of(args[0]), Integer.parseInt(args[1]), Integer.parseInt(args[2]));
+    }
+
+    /**
+     * Writes the table covering the specified years to a file, replacing it atomically.
+     *
+     * @param output the file to write
+     * @param fromYear the first covered year
+     * @param toYear the last covered year
+     * @throws IOException if the table cannot be written
+     */
+    static void write(Path output, int fromYear, int toYear) throws IOException {
+        Path directory = output.toAbsolutePath()
+                .getParent();
+        Files.createDirectories(directory);
+
+        Path temp = Files.createTempFile(directory, "ephemeris", ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                write(out, fromYear, toYear);
+            }
+            Files.move(temp, output, REPLACE_EXISTING, ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Writes the table covering the specified years to a stream.
+     *
+     * @param out the stream to write
+     * @param fromYear the first covered year
+     * @param toYear the last covered year
+     * @throws IOException if the table cannot be written
+     * @throws IllegalArgumentException if {@code toYear} is before {@code fromYear}
+     */
+    static void write(DataOutputStream out, int fromYear, int toYear) throws IOException {
+        if (toYear < fromYear)
+            throw new IllegalArgumentException("toYear must not be before fromYear");
+
+        SolarTime solarTime = SolarTime.getInstance();
+        DeltaT deltaT = DeltaT.getInstance();
+
+        long start = startOfYear(fromYear);
+        long end = startOfYear(toYear + 1);
+
+        long firstLunation = (long) Math.floor((toJulianDay(start) - MEAN_NEW_MOON_BASE) / MEAN_SYNODIC_MONTH);
+        while (newMoonAt(firstLunation) >= start)
+            firstLunation--;
+
+        // Evaluates the lunations of the covered years in one batch, with a lunation to spare on each side
+        double[] jdes = new double[(int) Math.ceil((end - start) / (MEAN_SYNODIC_MONTH * 86400)) + 3];
+        LunarPhase.NEW_MOON.atLunations(firstLunation, jdes.length, jdes);
+
+        List<Long> newMoons = new ArrayList<>();
+        for (int i = 0; newMoons.isEmpty() || newMoons.getLast() < end; i++) {
+            newMoons.add(i < jdes.length
+                                 ? JulianDay.ofEphemeris(jdes[i]).toMoment().value()
+                                 : newMoonAt(firstLunation + i));
+        }
+
+        // Transitions are padded by a year on each side so that the nearest occurrence of any
+        // longitude is known for every anchor inside the covered years.
+        long termStart = startOfYear(fromYear - 1);
+        long termEnd = startOfYear(toYear + 2);
+
+        double startLongitude = solarTime.apparentLongitudeAt(Moment.of(termStart));
+        int firstTermLongitude = (int) (Math.floor(startLongitude / TERM_STEP) * TERM_STEP) % 360;
+
+        double jde = Moment.of(termStart)
+                .toEphemeris()
+                .value() - (startLongitude - firstTermLongitude) / SUN_MEAN_VELOCITY;
+
+        List<Long> transitions = new ArrayList<>();
+        for (int longitude = firstTermLongitude; transitions.isEmpty() || transitions.getLast() < termEnd;
+             longitude = (longitude + TERM_STEP) % 360) {
+            jde = solarTime.solveLongitude(longitude, jde);
+            transitions.add(JulianDay.ofEphemeris(jde)
+                                    .toMoment()
+                                    .value());
+            jde += TERM_STEP / SUN_MEAN_VELOCITY;
+        }
+
+        out.writeInt(EphemerisTable.MAGIC);
+        out.writeInt(EphemerisTable.VERSION);
+        out.writeInt(fromYear);
+        out.writeInt(toYear);
+        out.writeUTF(solarTime.calculatorName());
+
+        double[] deltaTSamples = deltaT.fingerprint();
+        out.writeInt(deltaTSamples.length);
+        for (double sample : deltaTSamples)
+            out.writeDouble(sample);
+
+        out.writeLong(firstLunation);
+        out.writeInt(newMoons.size());
+        out.writeInt(firstTermLongitude);
+        out.writeInt(transitions.size());
+
+        for (long newMoon : newMoons)
+            out.writeLong(newMoon);
+
+        for (long transition : transitions)
+            out.writeLong(transition);
+    }
+
+    /**
+     * Returns the epoch second of the new moon of a lunation, computed live.
+     *
+     * @param lunation the lunation number
+     * @return the epoch second of the new moon
+     */
+    private static long newMoonAt(long lunation) {
+        return JulianDay.ofEphemeris(LunarPhase.NEW_MOON.atLunation(lunation))
+                .toMoment()
+                .value();
+    }
+
+    /**
+     * Returns the epoch second of January 1 of a year, at midnight UTC.
+     *
+     * @param year the year
+     * @return the epoch second
+     */
+    private static long startOfYear(int year) {
+        return LocalDate.of(year, 1, 1)
+                .atStartOfDay()
+                .toEpochSecond(ZoneOffset.UTC);
+    }
+
+    /**
+     * Returns the Julian Day of an epoch second, ignoring deltaT.
+     *
+     * @param epochSecond the epoch second
+     * @return the Julian Day
+     */
+    private static double toJulianDay(long epochSecond) {
+        return UNIX.value() + epochSecond / DAY_IN_SECONDS;
+    }
+}
@@ -1,5 +1,7 @@
 package io.github.ethanlamtt.vietchrono.astro;
 
+import java.util.Objects;
+
 /**
  * Represents for the lunar phases.
  *
@@ -15,7 +17,7 @@ public enum LunarPhase {
      */
     NEW_MOON(0.0) {
         @Override
-        double periodicCorrection(double m, double m1, double f, double omega) {
+        double periodicCorrection(double m, double m1, double f, double omega, double e) {
             return -0.40720 * Math.sin(m1) + 0.17241 * Math.sin(m) + 0.01608 * Math.sin(2 * m1)
                     + 0.01039 * Math.sin(2 * f) + 0.00739 * Math.sin(m1 - m)
                     - 0.00514 * Math.sin(m1 + m) + 0.00208 * Math.sin(2 * m)
@@ -29,6 +31,47 @@ public enum LunarPhase {
                     + 0.00003 * Math.sin(m1 - m + 2 * f) - 0.00002 * Math.sin(m1 - m - 2 * f)
                     - 0.00002 * Math.sin(3 * m1 + m) + 0.00002 * Math.sin(4 * m1);
         }
+    },
+
+    /**
+     * Represents for a first quarter phase.
+     */
+    FIRST_QUARTER(0.25) {
+        @Override
+        double periodicCorrection(double m, double m1, double f, double omega, double e) {
+            return quarterCorrection(m, m1, f, omega, e) + quarterAdjustment(m, m1, f, e);
+        }
+    },
+
+    /**
+     * Represents for a full moon phase.
+     */
+    FULL_MOON(0.5) {
+        @Override
+        double periodicCorrection(double m, double m1, double f, double omega, double e) {
+            return -0.40614 * Math.sin(m1) + 0.17302 * e * Math.sin(m) + 0.01614 * Math.sin(2 * m1)
+                    + 0.01043 * Math.sin(2 * f) + 0.00734 * e * Math.sin(m1 - m)
+                    - 0.00515 * e * Math.sin(m1 + m) + 0.00209 * e * e * Math.sin(2 * m)
+                    - 0.00111 * Math.sin(m1 - 2 * f) - 0.00057 * Math.sin(m1 + 2 * f)
+                    + 0.00056 * e * Math.sin(2 * m1 + m) - 0.00042 * Math.sin(3 * m1)
+                    + 0.00042 * e * Math.sin(m + 2 * f) + 0.00038 * e * Math.sin(m - 2 * f)
+                    - 0.00024 * e * Math.sin(2 * m1 - m) - 0.00017 * Math.sin(omega)
+                    - 0.00007 * Math.sin(m1 + 2 * m) + 0.00004 * Math.sin(2 * m1 - 2 * f)
+                    + 0.00004 * Math.sin(3 * m) + 0.00003 * Math.sin(m1 + m - 2 * f)
+                    + 0.00003 * Math.sin(2 * m1 + 2 * f) - 0.00003 * Math.sin(m1 + m + 2 * f)
+                    + 0.00003 * Math.sin(m1 - m + 2 * f) - 0.00002 * Math.sin(m1 - m - 2 * f)
+                    - 0.00002 * Math.sin(3 * m1 + m) + 0.00002 * Math.sin(4 * m1);
+        }
+    },
+
+    /**
+     * Represents for a last quarter phase.
+     */
+    LAST_QUARTER(0.75) {
+        @Override
+        double periodicCorrection(double m, double m1, double f, double omega, double e) {
+            return quarterCorrection(m, m1, f, omega, e) - quarterAdjustment(m, m1, f, e);
+        }
     };
 
     /**
@@ -36,6 +79,11 @@ public enum LunarPhase {
      */
     public static final double MEAN_SYNODIC_MONTH = 29.530588853;
 
+    /**
+     * Whether consecutive lunations are evaluated with the Vector API.
+     */
+    private static final boolean VECTORIZED = VectorSupport.isEnabled();
+
     /**
      * The angle fraction of the phase, represents for its position.
      */
@@ -80,12 +128,13 @@ public enum LunarPhase {
                 - 0.00000227 * Math.pow(t, 3) + 0.000000011 * Math.pow(t, 4);
         double omega = 124.7746 - 1.56375588 * k + 0.0020672 * Math.pow(t, 2)
                 + 0.00000215 * Math.pow(t, 3);
+        double e = 1 - 0.002516 * t - 0.0000074 * Math.pow(t, 2);
         double mRad = Math.toRadians(m);
         double m1Rad = Math.toRadians(m1);
         double fRad = Math.toRadians(f);
         double omegaRad = Math.toRadians(omega);
         
-        double periodicValue = periodicCorrection(mRad, m1Rad, fRad, omegaRad);
+        double periodicValue = periodicCorrection(mRad, m1Rad, fRad, omegaRad, e);
         double planetaryValue =
                 0.000325 * Math.sin(Math.toRadians(299.77 + 0.107408 * k - 0.009173 * t * t))
                         + 0.000165 * Math.sin(Math.toRadians(251.88 + 0.016321 * k))
@@ -107,6 +156,40 @@ public enum LunarPhase {
         return meanTime + correction;
     }
 
+    /**
+     * Evaluates this phase for consecutive lunation numbers.
+     *
+     * <p>When the incubating {@code jdk.incubator.vector} module is in the boot layer, for example with
+     * the {@code --add-modules jdk.incubator.vector} option, the lunations are evaluated several at a time
+     * by {@link LunarPhaseVectors} and agree with {@link #atLunation(long)} within
+     * {@value LunarPhaseVectors#TOLERANCE} days. Otherwise, and for the lunations left over by the vector
+     * width, they are evaluated one by one and are identical to {@link #atLunation(long)}.</p>
+     *
+     * @param firstN the first lunation number
+     * @param count the number of lunations
+     * @param out the array receiving the Julian Ephemeris Days of the lunations, from index 0
+     * @throws NullPointerException if {@code out} is null
+     * @throws IllegalArgumentException if {@code count} is negative or greater than the length of {@code out}
+     */
+    void atLunations(long firstN, int count, double[] out) {
+        Objects.requireNonNull(out, "out");
+        if (count < 0 || count > out.length)
+            throw new IllegalArgumentException("count must be between 0 and the length of out: " + count);
+
+        int evaluated = VECTORIZED ? LunarPhaseVectors.atLunations(this, firstN, count, out) : 0;
+        for (int i = evaluated; i < count; i++)
+            out[i] = atLunation(firstN + i);
+    }
+
+    /**
+     * Checks whether consecutive lunations are evaluated with the Vector API.
+     *
+     * @return {@code true} if the Vector API is available with more than one lane
+     */
+    static boolean isVectorized() {
+        return VECTORIZED;
+    }
+
     /**
      * Returns the periodic correction for this lunar phase.
      *
@@ -114,7 +197,48 @@ public enum LunarPhase {
      * @param m1 mean anomaly of the Moon in radians
      * @param f Moon's argument of latitude in radians
      * @param omega longitude of the ascending node of the Moon's orbit in radians
+     * @param e eccentricity factor of the Earth's orbit, applied to the terms of the Sun's mean anomaly.
+     *          The terms of the new moon are kept without it, as the precomputed new moons are.
      * @return periodic correction in days to be added to the mean phase time
      */
-    abstract double periodicCorrection(double m, double m1, double f, double omega);
+    abstract double periodicCorrection(double m, double m1, double f, double omega, double e);
+
+    /**
+     * Returns the periodic correction shared by the first and last quarters.
+     *
+     * @param m mean anomaly of the Sun in radians
+     * @param m1 mean anomaly of the Moon in radians
+     * @param f Moon's argument of latitude in radians
+     * @param omega longitude of the ascending node of the Moon's orbit in radians
+     * @param e eccentricity factor of the Earth's orbit
+     * @return periodic correction in days
+     */
+    private static double quarterCorrection(double m, double m1, double f, double omega, double e) {
+        return -0.62801 * Math.sin(m1) + 0.17172 * e * Math.sin(m) - 0.01183 * e * Math.sin(m1 + m)
+                + 0.00862 * Math.sin(2 * m1) + 0.00804 * Math.sin(2 * f)
+                + 0.00454 * e * Math.sin(m1 - m) + 0.00204 * e * e * Math.sin(2 * m)
+                - 0.00180 * Math.sin(m1 - 2 * f) - 0.00070 * Math.sin(m1 + 2 * f)
+                - 0.00040 * Math.sin(3 * m1) - 0.00034 * e * Math.sin(2 * m1 - m)
+                + 0.00032 * e * Math.sin(m + 2 * f) + 0.00032 * e * Math.sin(m - 2 * f)
+                - 0.00028 * e * e * Math.sin(m1 + 2 * m) + 0.00027 * e * Math.sin(2 * m1 + m)
+                - 0.00017 * Math.sin(omega) - 0.00005 * Math.sin(m1 - m - 2 * f)
+                + 0.00004 * Math.sin(2 * m1 + 2 * f) - 0.00004 * Math.sin(m1 + m + 2 * f)
+                + 0.00004 * Math.sin(m1 - 2 * m) + 0.00003 * Math.sin(m1 + m - 2 * f)
+                + 0.00003 * Math.sin(3 * m) + 0.00002 * Math.sin(2 * m1 - 2 * f)
+                + 0.00002 * Math.sin(m1 - m + 2 * f) - 0.00002 * Math.sin(3 * m1 + m);
+    }
+
+    /**
+     * Returns the adjustment W of the quarters, added to the first quarter and subtracted from the last one.
+     *
+     * @param m mean anomaly of the Sun in radians
+     * @param m1 mean anomaly of the Moon in radians
+     * @param f Moon's argument of latitude in radians
+     * @param e eccentricity factor of the Earth's orbit
+     * @return the adjustment in days
+     */
+    private static double quarterAdjustment(double m, double m1, double f, double e) {
+        return 0.00306 - 0.00038 * e * Math.cos(m) + 0.00026 * Math.cos(m1)
+                - 0.00002 * Math.cos(m1 - m) + 0.00002 * Math.cos(m1 + m) + 0.00002 * Math.cos(2 * f);
+    }
 }
@@ -0,0 +1,121 @@
+package io.github.ethanlamtt.vietchrono.astro;
+
+import java.util.Objects;
+
+/**
+ * Represents for an occurrence of a lunar phase.
+ *
+ * <p>This class is immutable and thread-safe.</p>
+ *
+ * @author ethanlamtt
+ * @since 1.0.0
+ */
+public final class LunarPhaseEvent {
+
+    /**
+     * The phase which occurs.
+     */
+    private final LunarPhase phase;
+
+    /**
+     * The number of lunations elapsed since the new moon of January 6, 2000.
+     */
+    private final long lunation;
+
+    /**
+     * The moment at which the phase occurs.
+     */
+    private final Moment moment;
+
+    /**
+     * Constructs a {@code LunarPhaseEvent}.
+     *
+     * @param phase the lunar phase
+     * @param lunation the lunation number
+     * @param moment the moment of the phase
+     * @throws NullPointerException if {@code phase} or {@code moment} is null
+     */
+    private LunarPhaseEvent(LunarPhase phase, long lunation, Moment moment) {
+        this.phase = Objects.requireNonNull(phase, "phase");
+        this.lunation = lunation;
+        this.moment = Objects.requireNonNull(moment, "moment");
+    }
+
+    /**
+     * Returns a {@code LunarPhaseEvent} of the specified phase, lunation and moment.
+     *
+     * @param phase the lunar phase
+     * @param lunation the number of lunations elapsed since the new moon of January 6, 2000
+     * @param moment the moment of the phase
+     * @return a {@code LunarPhaseEvent} instance.
+     * @throws NullPointerException if {@code phase} or {@code moment} is null
+     */
+    public static LunarPhaseEvent of(LunarPhase phase, long lunation, Moment moment) {
+        return new LunarPhaseEvent(phase, lunation, moment);
+    }
+
+    /**
+     * Obtains the phase which occurs.
+     * @return the lunar phase
+     */
+    public LunarPhase phase() {
+        return phase;
+    }
+
+    /**
+     * Obtains the number of lunations elapsed since the new moon of January 6, 2000.
+     * @return the lunation number, negative before that new moon
+     */
+    public long lunation() {
+        return lunation;
+    }
+
+    /**
+     * Obtains the moment at which the phase occurs.
+     * @return the moment of the phase
+     */
+    public Moment moment() {
+        return moment;
+    }
+
+    /**
+     * Compares this instance with the specified object for equality.
+     *
+     * @param o the object to be compared.
+     * @return {@code true} if the two objects are equal; otherwise {@code false}.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+
+        if (!(o instanceof LunarPhaseEvent other))
+            return false;
+
+        return phase == other.phase && lunation == other.lunation && moment.equals(other.moment);
+    }
+
+    /**
+     * Returns a hash code of this object.
+     *
+     * @return a hash code of this object.
+     */
+    @Override
+    public int hashCode() {
+        int result = 17;
+        result = 31 * result + phase.hashCode();
+        result = 31 * result + Long.hashCode(lunation);
+        result = 31 * result + moment.hashCode();
+        return result;
+    }
+
+    /**
+     * Returns a {@code String} view of this object.
+     *
+     * @return a string view of this object.
+     */
+    @Override
+    public String toString() {
+        return String.format("LunarPhaseEvent(phase=%s, lunation=%d, moment=%s)", phase, lunation, moment);
+    }
+}
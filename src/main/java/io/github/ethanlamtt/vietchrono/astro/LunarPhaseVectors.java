@@ -0,0 +1,220 @@
+package io.github.ethanlamtt.vietchrono.astro;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorSpecies;
+
+import static io.github.ethanlamtt.vietchrono.astro.LunarPhase.MEAN_SYNODIC_MONTH;
+import static io.github.ethanlamtt.vietchrono.astro.VectorMath.sin;
+
+/**
+ * Evaluates consecutive lunations of a lunar phase with the incubating Vector API, one lunation per lane.
+ *
+ * <p>This class is only loaded when the {@code jdk.incubator.vector} module is in the boot layer, as
+ * with the {@code --add-modules jdk.incubator.vector} option, see {@link LunarPhase#atLunations}. The
+ * formulas are those of {@link LunarPhase#atLunation(long)}, held as tables of terms. Sines are computed
+ * in the lanes by {@link VectorMath#sin}. These sines and the summation order differ from the scalar path,
+ * the results agree with it within {@value #TOLERANCE} days.</p>
+ * <p>This class is immutable and thread-safe.</p>
+ *
+ * @author ethanlamtt
+ * @since 1.0.0
+ */
+final class LunarPhaseVectors {
+
+    /**
+     * The bound of the difference from {@link LunarPhase#atLunation(long)}, in days, for lunations
+     * between the years 1000 and 3000.
+     */
+    static final double TOLERANCE = 1e-9;
+
+    /**
+     * The vector shape of the platform.
+     */
+    private static final VectorSpecies<Double> SPECIES = VectorMath.SPECIES;
+
+    /**
+     * The lane indexes 0, 1, 2... as doubles.
+     */
+    private static final DoubleVector IOTA = DoubleVector.zero(SPECIES)
+            .addIndex(1);
+
+    /**
+     * Periodic terms of the new moon: coefficient, power of the eccentricity factor E, then the multiples
+     * of M, M', F and Ω in the sine argument. The new moon terms do not use E.
+     */
+    private static final double[][] NEW_MOON_TERMS = {
+            {-0.40720, 0, 0, 1, 0, 0}, {0.17241, 0, 1, 0, 0, 0}, {0.01608, 0, 0, 2, 0, 0},
+            {0.01039, 0, 0, 0, 2, 0}, {0.00739, 0, -1, 1, 0, 0}, {-0.00514, 0, 1, 1, 0, 0},
+            {0.00208, 0, 2, 0, 0, 0}, {-0.00111, 0, 0, 1, -2, 0}, {-0.00057, 0, 0, 1, 2, 0},
+            {0.00056, 0, 1, 2, 0, 0}, {-0.00042, 0, 0, 3, 0, 0}, {0.00042, 0, 1, 0, 2, 0},
+            {0.00038, 0, 1, 0, -2, 0}, {-0.00024, 0, -1, 2, 0, 0}, {-0.00017, 0, 0, 0, 0, 1},
+            {-0.00007, 0, 2, 1, 0, 0}, {0.00004, 0, 0, 2, -2, 0}, {0.00004, 0, 3, 0, 0, 0},
+            {0.00003, 0, 1, 1, -2, 0}, {0.00003, 0, 0, 2, 2, 0}, {-0.00003, 0, 1, 1, 2, 0},
+            {0.00003, 0, -1, 1, 2, 0}, {-0.00002, 0, -1, 1, -2, 0}, {-0.00002, 0, 1, 3, 0, 0},
+            {0.00002, 0, 0, 4, 0, 0}
+    };
+
+    /**
+     * Periodic terms of the full moon, laid out as {@link #NEW_MOON_TERMS}.
+     */
+    private static final double[][] FULL_MOON_TERMS = {
+            {-0.40614, 0, 0, 1, 0, 0}, {0.17302, 1, 1, 0, 0, 0}, {0.01614, 0, 0, 2, 0, 0},
+            {0.01043, 0, 0, 0, 2, 0}, {0.00734, 1, -1, 1, 0, 0}, {-0.00515, 1, 1, 1, 0, 0},
+            {0.00209, 2, 2, 0, 0, 0}, {-0.00111, 0, 0, 1, -2, 0}, {-0.00057, 0, 0, 1, 2, 0},
+            {0.00056, 1, 1, 2, 0, 0}, {-0.00042, 0, 0, 3, 0, 0}, {0.00042, 1, 1, 0, 2, 0},
+            {0.00038, 1, 1, 0, -2, 0}, {-0.00024, 1, -1, 2, 0, 0}, {-0.00017, 0, 0, 0, 0, 1},
+            {-0.00007, 0, 2, 1, 0, 0}, {0.00004, 0, 0, 2, -2, 0}, {0.00004, 0, 3, 0, 0, 0},
+            {0.00003, 0, 1, 1, -2, 0}, {0.00003, 0, 0, 2, 2, 0}, {-0.00003, 0, 1, 1, 2, 0},
+            {0.00003, 0, -1, 1, 2, 0}, {-0.00002, 0, -1, 1, -2, 0}, {-0.00002, 0, 1, 3, 0, 0},
+            {0.00002, 0, 0, 4, 0, 0}
+    };
+
+    /**
+     * Periodic terms shared by the quarters, laid out as {@link #NEW_MOON_TERMS}.
+     */
+    private static final double[][] QUARTER_TERMS = {
+            {-0.62801, 0, 0, 1, 0, 0}, {0.17172, 1, 1, 0, 0, 0}, {-0.01183, 1, 1, 1, 0, 0},
+            {0.00862, 0, 0, 2, 0, 0}, {0.00804, 0, 0, 0, 2, 0}, {0.00454, 1, -1, 1, 0, 0},
+            {0.00204, 2, 2, 0, 0, 0}, {-0.00180, 0, 0, 1, -2, 0}, {-0.00070, 0, 0, 1, 2, 0},
+            {-0.00040, 0, 0, 3, 0, 0}, {-0.00034, 1, -1, 2, 0, 0}, {0.00032, 1, 1, 0, 2, 0},
+            {0.00032, 1, 1, 0, -2, 0}, {-0.00028, 2, 2, 1, 0, 0}, {0.00027, 1, 1, 2, 0, 0},
+            {-0.00017, 0, 0, 0, 0, 1}, {-0.00005, 0, -1, 1, -2, 0}, {0.00004, 0, 0, 2, 2, 0},
+            {-0.00004, 0, 1, 1, 2, 0}, {0.00004, 0, -2, 1, 0, 0}, {0.00003, 0, 1, 1, -2, 0},
+            {0.00003, 0, 3, 0, 0, 0}, {0.00002, 0, 0, 2, -2, 0}, {0.00002, 0, -1, 1, 2, 0},
+            {-0.00002, 0, 1, 3, 0, 0}
+    };
+
+    /**
+     * The adjustment W of the quarters as cosine terms, laid out as {@link #NEW_MOON_TERMS}. The constant
+     * term has a zero argument.
+     */
+    private static final double[][] QUARTER_ADJUSTMENT_TERMS = {
+            {0.00306, 0, 0, 0, 0, 0}, {-0.00038, 1, 1, 0, 0, 0}, {0.00026, 0, 0, 1, 0, 0},
+            {-0.00002, 0, -1, 1, 0, 0}, {0.00002, 0, 1, 1, 0, 0}, {0.00002, 0, 0, 0, 2, 0}
+    };
+
+    /**
+     * Planetary terms shared by all phases: coefficient, then the constant, the multiple of k and the
+     * multiple of T squared of the argument, in degrees.
+     */
+    private static final double[][] PLANETARY_TERMS = {
+            {0.000325, 299.77, 0.107408, -0.009173}, {0.000165, 251.88, 0.016321, 0},
+            {0.000164, 251.83, 0.016322, 0}, {0.000126, 349.42, 0.009173, 0},
+            {0.000110, 84.66, 0.019302, 0}, {0.000062, 141.74, 0.005614, 0},
+            {0.000060, 207.14, 0.017201, 0}, {0.000056, 154.84, 0.002783, 0},
+            {0.000047, 34.52, 0.002429, 0}, {0.000042, 207.19, 0.017203, 0},
+            {0.000040, 291.34, 0.016400, 0}, {0.000037, 161.72, 0.001666, 0},
+            {0.000035, 239.56, 0.001439, 0}, {0.000023, 331.55, 0.000400, 0}
+    };
+
+    private LunarPhaseVectors() {}
+
+    /**
+     * Evaluates the whole vectors of consecutive lunations of a phase.
+     *
+     * @param phase the lunar phase
+     * @param firstN the first lunation number
+     * @param count the number of lunations
+     * @param out the array receiving the Julian Ephemeris Days from index 0
+     * @return the number of evaluated lunations, a multiple of {@link VectorMath#laneCount()}; the remaining
+     *         lunations are left to the caller
+     */
+    static int atLunations(LunarPhase phase, long firstN, int count, double[] out) {
+        int upperBound = SPECIES.loopBound(count);
+        double fraction = phase.angleFraction();
+
+        for (int i = 0; i < upperBound; i += SPECIES.length()) {
+            DoubleVector k = IOTA.add(firstN + i + fraction);
+            atLunations(phase, k).intoArray(out, i);
+        }
+
+        return upperBound;
+    }
+
+    private static DoubleVector atLunations(LunarPhase phase, DoubleVector k) {
+        DoubleVector t = k.div(36525 / MEAN_SYNODIC_MONTH);
+        DoubleVector t2 = t.mul(t);
+        DoubleVector t3 = t2.mul(t);
+        DoubleVector t4 = t3.mul(t);
+
+        DoubleVector meanTime = k.mul(29.530588853).add(2_451_550.09766)
+                .add(t2.mul(0.000_133_7)).sub(t3.mul(0.000_000_150))
+                .add(t4.mul(0.000_000_000_73));
+        DoubleVector m = k.mul(29.10535669).add(2.5534)
+                .sub(t2.mul(0.0000218)).sub(t3.mul(0.00000011))
+                .mul(Math.PI / 180);
+        DoubleVector m1 = k.mul(385.81693528).add(201.5643)
+                .add(t2.mul(0.0107438)).add(t3.mul(0.00001239)).sub(t4.mul(0.000000058))
+                .mul(Math.PI / 180);
+        DoubleVector f = k.mul(390.67050274).add(160.7108)
+                .sub(t2.mul(0.0016341)).sub(t3.mul(0.00000227)).add(t4.mul(0.000000011))
+                .mul(Math.PI / 180);
+        DoubleVector omega = k.mul(-1.56375588).add(124.7746)
+                .add(t2.mul(0.0020672)).add(t3.mul(0.00000215))
+                .mul(Math.PI / 180);
+        DoubleVector e = t.mul(-0.002516).add(1).sub(t2.mul(0.0000074));
+
+        DoubleVector correction = switch (phase) {
+            case NEW_MOON -> sum(NEW_MOON_TERMS, 0, 1, m, m1, f, omega, e);
+            case FULL_MOON -> sum(FULL_MOON_TERMS, 0, 1, m, m1, f, omega, e);
+            case FIRST_QUARTER -> sum(QUARTER_TERMS, 0, 1, m, m1, f, omega, e)
+                    .add(sum(QUARTER_ADJUSTMENT_TERMS, 1, 1, m, m1, f, omega, e));
+            case LAST_QUARTER -> sum(QUARTER_TERMS, 0, 1, m, m1, f, omega, e)
+                    .add(sum(QUARTER_ADJUSTMENT_TERMS, 1, -1, m, m1, f, omega, e));
+        };
+
+        for (double[] term : PLANETARY_TERMS) {
+            DoubleVector argument = k.mul(term[2]).add(term[1]);
+            if (term[3] != 0)
+                argument = argument.add(t2.mul(term[3]));
+
+            correction = correction.add(sin(argument.mul(Math.PI / 180), 0)
+                                                .mul(term[0]));
+        }
+
+        return meanTime.add(correction);
+    }
+
+    /**
+     * Sums periodic terms over the lanes.
+     *
+     * @param terms the terms, laid out as {@link #NEW_MOON_TERMS}
+     * @param quadrantOffset 0 for sine terms, 1 for cosine terms
+     * @param sign the factor of the sum
+     * @param m mean anomaly of the Sun in radians
+     * @param m1 mean anomaly of the Moon in radians
+     * @param f Moon's argument of latitude in radians
+     * @param omega longitude of the ascending node of the Moon's orbit in radians
+     * @param e eccentricity factor of the Earth's orbit
+     * @return the sum of the terms in days
+     */
+    private static DoubleVector sum(double[][] terms, int quadrantOffset, double sign,
+                                    DoubleVector m, DoubleVector m1, DoubleVector f,
+                                    DoubleVector omega, DoubleVector e) {
+        DoubleVector e2 = e.mul(e);
+        DoubleVector sum = DoubleVector.zero(SPECIES);
+
+        for (double[] term : terms) {
+            DoubleVector argument = DoubleVector.zero(SPECIES);
+            if (term[2] != 0)
+                argument = argument.add(m.mul(term[2]));
+            if (term[3] != 0)
+                argument = argument.add(m1.mul(term[3]));
+            if (term[4] != 0)
+                argument = argument.add(f.mul(term[4]));
+            if (term[5] != 0)
+                argument = argument.add(omega.mul(term[5]));
+
+            DoubleVector value = sin(argument, quadrantOffset)
+                    .mul(sign * term[0]);
+            if (term[1] == 1)
+                value = value.mul(e);
+            else if (term[1] == 2)
+                value = value.mul(e2);
+
+            sum = sum.add(value);
+        }
+
+        return sum;
+    }
+}
@@ -1,6 +1,12 @@
 package io.github.ethanlamtt.vietchrono.astro;
 
-import java.time.Instant;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static io.github.ethanlamtt.vietchrono.astro.LunarPhase.MEAN_SYNODIC_MONTH;
 
@@ -19,12 +25,19 @@ public final class LunarTime {
      */
     private static final LunarTime INSTANCE = new LunarTime();
 
+    /**
+     * The precomputed new moons consulted before live computation.
+     */
+    private final EphemerisTable ephemeris;
+
     /**
      * Constructs a {@code LunarTime}.
      *
      * <p>This constructor is private to control instances of this class.</p>
      */
-    private LunarTime() {}
+    private LunarTime() {
+        this.ephemeris = EphemerisTable.getInstance();
+    }
 
     /**
      * Gets the initialized instance of this class.
@@ -48,8 +61,27 @@ public final class LunarTime {
      * @return a {@code Moment} of the specified phase preceding the anchor moment.
      */
     public Moment before(Moment anchorMoment, LunarPhase phase) {
-        double anchor = anchorMoment.toEphemeris()
-                .value();
+        return Moment.of(beforeEpochSecond(anchorMoment.value(), phase));
+    }
+
+    /**
+     * Returns the moment of the specified lunar phase occurring before the given anchor, in seconds from
+     * Unix epoch.
+     *
+     * <p>This is the primitive form of {@link #before(Moment, LunarPhase)}, it does not allocate.</p>
+     *
+     * @param anchorEpochSecond the anchor which the phase is searched, in seconds from Unix epoch.
+     * @param phase the lunar phase to compute.
+     * @return the seconds from Unix epoch of the specified phase preceding the anchor.
+     */
+    public long beforeEpochSecond(long anchorEpochSecond, LunarPhase phase) {
+        if (phase == LunarPhase.NEW_MOON) {
+            long epochSecond = ephemeris.newMoonBefore(anchorEpochSecond);
+            if (epochSecond != EphemerisTable.NOT_COVERED)
+                return epochSecond;
+        }
+
+        double anchor = Moment.jdeOfEpochSecond(anchorEpochSecond);
 
         long n = (long) Math.ceil((anchor - MEAN_NEW_MOON_BASE) / MEAN_SYNODIC_MONTH);
 
@@ -60,8 +92,7 @@ public final class LunarTime {
             jde = phase.atLunation(n);
         }
 
-        return JulianDay.ofEphemeris(jde)
-                .toMoment();
+        return Moment.epochSecondOfJde(jde);
     }
 
     /**
@@ -72,8 +103,27 @@ public final class LunarTime {
      * @return a {@code Moment} of the specified phase after the anchor moment.
      */
     public Moment after(Moment anchorMoment, LunarPhase phase) {
-        double anchor = anchorMoment.toEphemeris()
-                .value();
+        return Moment.of(afterEpochSecond(anchorMoment.value(), phase));
+    }
+
+    /**
+     * Returns the moment of the specified lunar phase occurring after the given anchor, in seconds from
+     * Unix epoch.
+     *
+     * <p>This is the primitive form of {@link #after(Moment, LunarPhase)}, it does not allocate.</p>
+     *
+     * @param anchorEpochSecond the anchor which the phase is searched, in seconds from Unix epoch.
+     * @param phase the lunar phase to compute.
+     * @return the seconds from Unix epoch of the specified phase after the anchor.
+     */
+    public long afterEpochSecond(long anchorEpochSecond, LunarPhase phase) {
+        if (phase == LunarPhase.NEW_MOON) {
+            long epochSecond = ephemeris.newMoonAfter(anchorEpochSecond);
+            if (epochSecond != EphemerisTable.NOT_COVERED)
+                return epochSecond;
+        }
+
+        double anchor = Moment.jdeOfEpochSecond(anchorEpochSecond);
 
         long n = (long) Math.floor((anchor - MEAN_NEW_MOON_BASE) / MEAN_SYNODIC_MONTH);
 
@@ -84,8 +134,117 @@ public final class LunarTime {
             jde = phase.atLunation(n);
         }
 
-        return JulianDay.ofEphemeris(jde)
-                .toMoment();
+        return Moment.epochSecondOfJde(jde);
     }
 
+    /**
+     * Returns the occurrences of the specified lunar phases in a range of moments, in chronological order.
+     *
+     * <p>The stream is lazy and walks lunation numbers from the start of the range: each event costs one
+     * evaluation of its phase, there is no search per event. Within a lunation the phases occur in the order
+     * of their angle fractions, so the events are produced in order without sorting.</p>
+     *
+     * @param from the first moment of the range, inclusive
+     * @param to the last moment of the range, exclusive
+     * @param phases the phases to include
+     * @return a sequential stream of the events of {@code phases} from {@code from} to {@code to}
+     * @throws NullPointerException if any argument is null
+     * @throws IllegalArgumentException if {@code to} is before {@code from}
+     */
+    public Stream<LunarPhaseEvent> events(Moment from, Moment to, Set<LunarPhase> phases) {
+        Objects.requireNonNull(from, "from");
+        Objects.requireNonNull(to, "to");
+        Objects.requireNonNull(phases, "phases");
+
+        if (to.compareTo(from) < 0)
+            throw new IllegalArgumentException("to must not be before from");
+
+        LunarPhase[] selected = EnumSet.allOf(LunarPhase.class)
+                .stream()
+                .filter(phases::contains)
+                .toArray(LunarPhase[]::new);
+
+        if (selected.length == 0)
+            return Stream.empty();
+
+        // Starts one lunation early, the corrections move a phase by up to a day from its mean time
+        double jde = Moment.jdeOfEpochSecond(from.value());
+        long lunation = (long) Math.floor((jde - MEAN_NEW_MOON_BASE) / MEAN_SYNODIC_MONTH) - 1;
+
+        return StreamSupport.stream(new EventSpliterator(selected, lunation, from.value(), to.value()), false);
+    }
+
+    /**
+     * Produces the events of some lunar phases, lunation after lunation.
+     *
+     * <p>This class is not thread-safe.</p>
+     */
+    private static final class EventSpliterator extends Spliterators.AbstractSpliterator<LunarPhaseEvent> {
+
+        /**
+         * The phases to produce, ordered by angle fraction.
+         */
+        private final LunarPhase[] phases;
+
+        /**
+         * The first epoch second of the range, inclusive.
+         */
+        private final long from;
+
+        /**
+         * The last epoch second of the range, exclusive.
+         */
+        private final long to;
+
+        /**
+         * The lunation of the next evaluated phase.
+         */
+        private long lunation;
+
+        /**
+         * The index of the next evaluated phase.
+         */
+        private int index;
+
+        /**
+         * Whether the end of the range was reached.
+         */
+        private boolean done;
+
+        EventSpliterator(LunarPhase[] phases, long lunation, long from, long to) {
+            super(Long.MAX_VALUE, ORDERED | DISTINCT | NONNULL | IMMUTABLE);
+            this.phases = phases;
+            this.lunation = lunation;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super LunarPhaseEvent> action) {
+            Objects.requireNonNull(action, "action");
+
+            while (!done) {
+                LunarPhase phase = phases[index];
+                long n = lunation;
+                if (++index == phases.length) {
+                    index = 0;
+                    lunation++;
+                }
+
+                long epochSecond = Moment.epochSecondOfJde(phase.atLunation(n));
+                if (epochSecond < from)
+                    continue;
+
+                if (epochSecond >= to) {
+                    done = true;
+                    break;
+                }
+
+                action.accept(LunarPhaseEvent.of(phase, n, Moment.of(epochSecond)));
+                return true;
+            }
+
+            return false;
+        }
+    }
 }
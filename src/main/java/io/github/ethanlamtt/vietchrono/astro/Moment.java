@@ -1,12 +1,9 @@
 package io.github.ethanlamtt.vietchrono.astro;
 
 import io.github.ethanlamtt.vietchrono.scale.DeltaT;
-import io.github.ethanlamtt.vietchrono.scale.TimeScale;
 
 import java.time.Instant;
 import java.time.ZoneId;
-import java.time.ZoneOffset;
-import java.time.ZonedDateTime;
 import java.util.Objects;
 
 import static io.github.ethanlamtt.vietchrono.astro.JulianEpoch.UNIX;
@@ -87,21 +84,46 @@ public final class Moment implements Comparable<Moment> {
     public static Moment ofJulianDay(JulianDay julianDay) {
         Objects.requireNonNull(julianDay, "julianDay");
 
-        TimeScale scale = julianDay.timescale();
+        if (julianDay.timescale() == TT)
+            return of(epochSecondOfJde(julianDay.value()));
 
-        double utcValue = julianDay.value();
+        double daysSinceEpoch = julianDay.value() - UNIX.value();
+        double secondsSinceEpoch = daysSinceEpoch * DAY_IN_SECONDS;
+
+        return of((long) Math.floor(secondsSinceEpoch));
+    }
 
-        if (scale == TT) {
-            double offsetSeconds = DELTA_T.atJulianDay(julianDay.value());
-            utcValue -= offsetSeconds / DAY_IN_SECONDS;
-        }
+    /**
+     * Returns the seconds from Unix epoch, in UTC, of the specified Julian Ephemeris Day.
+     *
+     * <p>This is the primitive form of {@code Moment.ofJulianDay(JulianDay.ofEphemeris(jde)).value()}.</p>
+     *
+     * @param jde the Julian Ephemeris Day, in scale TT.
+     * @return the number of seconds from Unix epoch, rounded down.
+     */
+    public static long epochSecondOfJde(double jde) {
+        // deltaT varies by milliseconds a year, the TT value locates the year closely enough
+        long approximateEpochSecond = (long) Math.floor((jde - UNIX.value()) * DAY_IN_SECONDS);
+        double offsetSeconds = DELTA_T.atEpochSecond(approximateEpochSecond);
 
-        double daysSinceEpoch = utcValue - UNIX.value();
+        double daysSinceEpoch = jde - offsetSeconds / DAY_IN_SECONDS - UNIX.value();
         double secondsSinceEpoch = daysSinceEpoch * DAY_IN_SECONDS;
 
-        long epochSecond = (long) Math.floor(secondsSinceEpoch);
+        return (long) Math.floor(secondsSinceEpoch);
+    }
 
-        return of(epochSecond);
+    /**
+     * Returns the Julian Ephemeris Day of the specified seconds from Unix epoch, in UTC.
+     *
+     * <p>This is the primitive form of {@code Moment.of(epochSecond).toEphemeris().value()}.</p>
+     *
+     * @param epochSecond the number of seconds from Unix epoch.
+     * @return the Julian Ephemeris Day, in scale TT.
+     */
+    public static double jdeOfEpochSecond(long epochSecond) {
+        double offsetSeconds = DELTA_T.atEpochSecond(epochSecond);
+
+        return UNIX.value() + ((epochSecond + offsetSeconds) / DAY_IN_SECONDS);
     }
 
     /**
@@ -180,12 +202,7 @@ public final class Moment implements Comparable<Moment> {
      * @see JulianDay#ofEphemeris(double)
      */
     public JulianDay toEphemeris() {
-        Instant instant = toInstant();
-        ZonedDateTime zdt = instant.atZone(ZoneOffset.UTC);
-        double offsetSeconds = DELTA_T.atZonedDateTime(zdt);
-        double jdTT = UNIX.value() + ((epochSecond + offsetSeconds) / DAY_IN_SECONDS);
-
-        return JulianDay.ofEphemeris(jdTT);
+        return JulianDay.ofEphemeris(jdeOfEpochSecond(epochSecond));
     }
 
     /**
@@ -1,5 +1,7 @@
 package io.github.ethanlamtt.vietchrono.astro;
 
+import java.util.Objects;
+
 /**
  * Provides solar astronomical calculations.
  *
@@ -10,6 +12,11 @@ package io.github.ethanlamtt.vietchrono.astro;
  */
 interface SolarCalculator {
 
+    /**
+     * Half of the interval of the numerical derivative of the longitude, in days.
+     */
+    double RATE_STEP = 0.01;
+
     /**
      * Returns apparent geocentric ecliptic longitude of the Sun.
      *
@@ -18,4 +25,55 @@ interface SolarCalculator {
      * range [0, 360] degrees.
      */
     double apparentLongitude(double jde);
+
+    /**
+     * Returns apparent geocentric ecliptic longitudes of the Sun at the moments of a range.
+     *
+     * <p>The default implementation calls {@link #apparentLongitude(double)} for each moment. Implementations
+     * may share work across the moments. {@code out} may be the same array as {@code jde}, each longitude then
+     * replaces its moment.</p>
+     *
+     * @param jde the Julian Ephemeris Days (TT) of the moments of observation.
+     * @param out the array receiving the longitudes at the same indexes, in degrees.
+     * @param from the first index of the range, inclusive.
+     * @param to the last index of the range, exclusive.
+     * @throws NullPointerException if {@code jde} or {@code out} is null
+     * @throws IndexOutOfBoundsException if the range is out of the bounds of {@code jde} or {@code out}
+     */
+    default void apparentLongitudes(double[] jde, double[] out, int from, int to) {
+        Objects.checkFromToIndex(from, to, jde.length);
+        Objects.checkFromToIndex(from, to, out.length);
+
+        for (int i = from; i < to; i++)
+            out[i] = apparentLongitude(jde[i]);
+    }
+
+    /**
+     * Returns the rate of change of the apparent geocentric ecliptic longitude of the Sun.
+     *
+     * <p>The default implementation differentiates {@link #apparentLongitude(double)} numerically,
+     * over {@value #RATE_STEP} days on each side.</p>
+     *
+     * @param jde the Julian Ephemeris Day (TT) representing the moment of observation.
+     * @return the rate of the apparent longitude in degrees per day
+     */
+    default double apparentLongitudeRate(double jde) {
+        double difference = apparentLongitude(jde + RATE_STEP) - apparentLongitude(jde - RATE_STEP);
+        if (difference < 0)
+            difference += 360;
+
+        return difference / (2 * RATE_STEP);
+    }
+
+    /**
+     * Returns the name identifying this calculator and its configuration.
+     *
+     * <p>Data precomputed with a calculator is tagged with this name, so that it is only used by a
+     * calculator computing the same values. The default implementation returns the class name.</p>
+     *
+     * @return the name of this calculator
+     */
+    default String name() {
+        return getClass().getName();
+    }
 }
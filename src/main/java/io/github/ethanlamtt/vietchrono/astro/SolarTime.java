@@ -1,7 +1,13 @@
 package io.github.ethanlamtt.vietchrono.astro;
 
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
 import java.util.Objects;
 import java.util.ServiceLoader;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Provides solar position calculations.
@@ -26,11 +32,113 @@ public final class SolarTime {
         INSTANCE = new SolarTime(calculator);
     }
 
+    /**
+     * Number of solar term transitions in a tropical year.
+     */
+    private static final int TERMS_PER_YEAR = 24;
+
+    /**
+     * The longitude of the first transition of a year, in degrees.
+     */
+    private static final int FIRST_TERM_LONGITUDE = 285;
+
+    /**
+     * The January day near which the first transition of a year occurs.
+     */
+    private static final int FIRST_TERM_DAY = 6;
+
+    /**
+     * Longitude difference between two consecutive solar term transitions, in degrees.
+     */
+    private static final int TERM_STEP = 15;
+
+    /**
+     * Mean duration between two consecutive solar term transitions, in seconds.
+     */
+    private static final long TERM_LENGTH_IN_SECONDS = 1_314_910;
+
+    /**
+     * Mean velocity of the Sun along the ecliptic, in degrees per day.
+     */
+    private static final double SUN_MEAN_VELOCITY = 0.98564736;
+
+    /**
+     * The low-precision calculator bracketing solutions.
+     */
+    private static final SolarCalculator MEEUS = MeeusSolarCalculator.getInstance();
+
+    /**
+     * Maximum number of low-precision iterations of a solve.
+     */
+    private static final int MAX_BRACKET_ITERATIONS = 10;
+
+    /**
+     * Step below which the low-precision iteration stops, in days.
+     */
+    private static final double BRACKET_PRECISION = 1e-4;
+
+    /**
+     * Half of the width of the bracket around the low-precision solution, in days. It is five times
+     * the error of the low-precision longitude, about 0.01 degrees, at the mean solar velocity.
+     */
+    private static final double BRACKET_HALF_WIDTH = 0.05;
+
+    /**
+     * Bound of the acceleration of the apparent longitude, in degrees per day squared. The measured
+     * maximum over the years 800 to 3200 is 6.7e-4.
+     */
+    private static final double MAX_ACCELERATION = 1e-3;
+
+    /**
+     * Maximum number of Newton steps of a solve.
+     */
+    private static final int MAX_NEWTON_ITERATIONS = 6;
+
+    /**
+     * The target time precision of a solve, in seconds.
+     */
+    private static final int PRECISION_IN_SECONDS = 1;
+
+    /**
+     * The target time precision of a solve, in days.
+     */
+    private static final double PRECISION_IN_DAYS = PRECISION_IN_SECONDS / 86400.0;
+
+    /**
+     * Number of moments below which a batch is not split further over a fork-join pool.
+     */
+    static final int PARALLEL_BATCH_SIZE = 1024;
+
+    /**
+     * The number of solves.
+     */
+    private final LongAdder solveCount = new LongAdder();
+
+    /**
+     * The number of low-precision iterations.
+     */
+    private final LongAdder bracketIterationCount = new LongAdder();
+
+    /**
+     * The number of Newton steps.
+     */
+    private final LongAdder newtonIterationCount = new LongAdder();
+
+    /**
+     * The number of solves which did not converge within their bracket.
+     */
+    private final LongAdder failureCount = new LongAdder();
+
     /**
      * The solar position algorithm calculator.
      */
     private final SolarCalculator calculator;
 
+    /**
+     * The precomputed solar term transitions consulted before live computation.
+     */
+    private final EphemerisTable ephemeris;
+
     /**
      * Constructs a {@code SolarTime}.
      *
@@ -41,6 +149,9 @@ public final class SolarTime {
      */
     private SolarTime(SolarCalculator calculator) {
         this.calculator = Objects.requireNonNull(calculator);
+
+        EphemerisTable table = EphemerisTable.getInstance();
+        this.ephemeris = table.coversTermsOf(calculator) ? table : EphemerisTable.empty();
     }
 
     /**
@@ -59,9 +170,112 @@ public final class SolarTime {
      * @return the apparent geocentric ecliptic longitude
      */
     public double apparentLongitudeAt(Moment moment) {
-        double jde = moment.toEphemeris()
-                .value();
-        return calculator.apparentLongitude(jde);
+        return apparentLongitudeAtEpochSecond(moment.value());
+    }
+
+    /**
+     * Returns the apparent geocentric ecliptic longitude at a specified moment of observation, in seconds
+     * from Unix epoch.
+     *
+     * <p>This is the primitive form of {@link #apparentLongitudeAt(Moment)}.</p>
+     *
+     * @param epochSecond the moment of observation, in seconds from Unix epoch
+     * @return the apparent geocentric ecliptic longitude
+     */
+    public double apparentLongitudeAtEpochSecond(long epochSecond) {
+        return calculator.apparentLongitude(Moment.jdeOfEpochSecond(epochSecond));
+    }
+
+    /**
+     * Returns the apparent geocentric ecliptic longitudes at the moments of a range, in seconds from Unix
+     * epoch.
+     *
+     * <p>The moments are evaluated in one batch by the solar calculator, which shares work across them.
+     * This method does not allocate.</p>
+     *
+     * @param epochSeconds the moments of observation, in seconds from Unix epoch
+     * @param out the array receiving the longitudes at the same indexes
+     * @param from the first index of the range, inclusive
+     * @param to the last index of the range, exclusive
+     * @throws NullPointerException if {@code epochSeconds} or {@code out} is null
+     * @throws IndexOutOfBoundsException if the range is out of the bounds of {@code epochSeconds} or {@code out}
+     */
+    public void apparentLongitudesAt(long[] epochSeconds, double[] out, int from, int to) {
+        Objects.checkFromToIndex(from, to, epochSeconds.length);
+        Objects.checkFromToIndex(from, to, out.length);
+
+        for (int i = from; i < to; i++)
+            out[i] = Moment.jdeOfEpochSecond(epochSeconds[i]);
+
+        calculator.apparentLongitudes(out, out, from, to);
+    }
+
+    /**
+     * Returns the apparent geocentric ecliptic longitudes at the moments of a range, split over a fork-join
+     * pool.
+     *
+     * <p>The range is split in halves down to batches of {@value #PARALLEL_BATCH_SIZE} moments, each
+     * evaluated as by {@link #apparentLongitudesAt(long[], double[], int, int)}. The results do not depend
+     * on the split.</p>
+     *
+     * @param epochSeconds the moments of observation, in seconds from Unix epoch
+     * @param out the array receiving the longitudes at the same indexes
+     * @param from the first index of the range, inclusive
+     * @param to the last index of the range, exclusive
+     * @param pool the pool running the batches
+     * @throws NullPointerException if any array or {@code pool} is null
+     * @throws IndexOutOfBoundsException if the range is out of the bounds of {@code epochSeconds} or {@code out}
+     */
+    public void apparentLongitudesAt(long[] epochSeconds, double[] out, int from, int to, ForkJoinPool pool) {
+        Objects.checkFromToIndex(from, to, epochSeconds.length);
+        Objects.checkFromToIndex(from, to, out.length);
+        Objects.requireNonNull(pool, "pool");
+
+        if (to - from <= PARALLEL_BATCH_SIZE) {
+            apparentLongitudesAt(epochSeconds, out, from, to);
+            return;
+        }
+
+        pool.invoke(new LongitudeBatch(this, epochSeconds, out, from, to));
+    }
+
+    /**
+     * Evaluates a range of longitudes, split in halves until small enough.
+     *
+     * <p>Batches are never serialized.</p>
+     */
+    @SuppressWarnings("serial")
+    private static final class LongitudeBatch extends RecursiveAction {
+
+        private final SolarTime solarTime;
+
+        private final long[] epochSeconds;
+
+        private final double[] out;
+
+        private final int from;
+
+        private final int to;
+
+        LongitudeBatch(SolarTime solarTime, long[] epochSeconds, double[] out, int from, int to) {
+            this.solarTime = solarTime;
+            this.epochSeconds = epochSeconds;
+            this.out = out;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= PARALLEL_BATCH_SIZE) {
+                solarTime.apparentLongitudesAt(epochSeconds, out, from, to);
+                return;
+            }
+
+            int middle = (from + to) >>> 1;
+            invokeAll(new LongitudeBatch(solarTime, epochSeconds, out, from, middle),
+                      new LongitudeBatch(solarTime, epochSeconds, out, middle, to));
+        }
     }
 
     /**
@@ -73,30 +287,200 @@ public final class SolarTime {
      * @return moment at which reaches target longitude
      */
     public Moment atLongitude(double longitude, Moment anchor) {
-        double epsilon = 1e-5;
-        double sunMeanVelocity = 0.98564736;
-        double jde = anchor.toEphemeris()
-                .value();
+        return Moment.of(atLongitudeEpochSecond(longitude, anchor.value()));
+    }
 
-        for (int i = 0; i < 10; i++) {
-            double residual = calculator.apparentLongitude(jde) - longitude;
+    /**
+     * Returns the moment at which the apparent ecliptic longitude reaches the given value near the
+     * specified anchor, in seconds from Unix epoch.
+     *
+     * <p>This is the primitive form of {@link #atLongitude(double, Moment)}, it does not allocate.</p>
+     *
+     * @param longitude target longitude in degrees
+     * @param anchorEpochSecond the initial guess, in seconds from Unix epoch
+     * @return the seconds from Unix epoch at which reaches target longitude
+     */
+    public long atLongitudeEpochSecond(double longitude, long anchorEpochSecond) {
+        long epochSecond = ephemeris.transitionNear(longitude, anchorEpochSecond);
+        if (epochSecond != EphemerisTable.NOT_COVERED)
+            return epochSecond;
+
+        double jde = solveLongitude(longitude, Moment.jdeOfEpochSecond(anchorEpochSecond));
+
+        return Moment.epochSecondOfJde(jde);
+    }
+
+    /**
+     * Returns the solar term transitions of a year, in one sweep.
+     *
+     * <p>The transitions are the 24 moments at which the apparent ecliptic longitude reaches a multiple
+     * of 15 degrees, starting with 285 degrees in early January and ending with 270 degrees, the winter
+     * solstice, in late December. Each transition is solved from the previous one, so that every solve
+     * starts near its solution.</p>
+     *
+     * @param year the year, in Universal Time
+     * @return the 24 transitions in chronological order
+     */
+    public List<Moment> termsOfYear(int year) {
+        long[] epochSeconds = termEpochSecondsOfYear(year);
+
+        Moment[] transitions = new Moment[TERMS_PER_YEAR];
+        for (int i = 0; i < TERMS_PER_YEAR; i++)
+            transitions[i] = Moment.of(epochSeconds[i]);
+
+        return List.of(transitions);
+    }
+
+    /**
+     * Returns the solar term transitions of a year, in seconds from Unix epoch.
+     *
+     * <p>This is the primitive form of {@link #termsOfYear(int)}.</p>
+     *
+     * @param year the year, in Universal Time
+     * @return a new array of the 24 transitions in chronological order
+     */
+    public long[] termEpochSecondsOfYear(int year) {
+        long[] transitions = new long[TERMS_PER_YEAR];
+
+        long anchor = LocalDate.of(year, 1, FIRST_TERM_DAY)
+                .atStartOfDay()
+                .toEpochSecond(ZoneOffset.UTC);
+        for (int i = 0; i < TERMS_PER_YEAR; i++) {
+            int longitude = (FIRST_TERM_LONGITUDE + i * TERM_STEP) % 360;
+            transitions[i] = atLongitudeEpochSecond(longitude, anchor);
+            anchor = transitions[i] + TERM_LENGTH_IN_SECONDS;
+        }
+
+        return transitions;
+    }
+
+    /**
+     * Returns the name of the solar position calculator in use.
+     *
+     * <p>Used to tag data precomputed with this calculator.</p>
+     *
+     * @return the calculator name
+     */
+    public String calculatorName() {
+        return calculator.name();
+    }
+
+    /**
+     * Returns the statistics of the longitude solver since the start of the application.
+     *
+     * @return a snapshot of the solver counters
+     */
+    public SolverStats solverStats() {
+        return SolverStats.of(solveCount.sum(), bracketIterationCount.sum(),
+                              newtonIterationCount.sum(), failureCount.sum());
+    }
+
+    /**
+     * Solves for the Julian Ephemeris Day at which the apparent ecliptic longitude reaches the given
+     * value, without consulting precomputed transitions.
+     *
+     * <p>The solution is first located with the low-precision {@link MeeusSolarCalculator}, iterating
+     * with the mean solar velocity, and bracketed by {@value #BRACKET_HALF_WIDTH} days around it. It is then
+     * refined by Newton steps on the solar calculator with its {@linkplain
+     * SolarCalculator#apparentLongitudeRate(double) longitude rate}, computed once at the first step, until
+     * the error left by a step, bounded from the acceleration of the longitude, is below
+     * {@value #PRECISION_IN_SECONDS} second. From a low-precision solution a single step is usually enough.
+     * Every step narrows the bracket on the side of the sign of the residual. A solve leaving its bracket
+     * or exceeding {@value #MAX_NEWTON_ITERATIONS} steps is counted as a failure and finished by the mean
+     * solar velocity iteration.</p>
+     *
+     * @param longitude target longitude in degrees
+     * @param jde the initial guess in Julian Ephemeris Day
+     * @return the Julian Ephemeris Day at which reaches target longitude
+     */
+    double solveLongitude(double longitude, double jde) {
+        solveCount.increment();
 
-            residual = residual % 360;
+        int bracketIterations = 0;
+        while (bracketIterations < MAX_BRACKET_ITERATIONS) {
+            bracketIterations++;
+            double step = residual(MEEUS, longitude, jde) / SUN_MEAN_VELOCITY;
+            jde -= step;
 
-            if (residual > 180)
-                residual -= 360;
+            if (Math.abs(step) < BRACKET_PRECISION)
+                break;
+        }
+        bracketIterationCount.add(bracketIterations);
+
+        double lower = jde - BRACKET_HALF_WIDTH;
+        double upper = jde + BRACKET_HALF_WIDTH;
+        double start = jde;
+        double rate = calculator.apparentLongitudeRate(jde);
+
+        int newtonIterations = 0;
+        while (newtonIterations < MAX_NEWTON_ITERATIONS) {
+            newtonIterations++;
+            double residual = residual(calculator, longitude, jde);
+            if (residual > 0)
+                upper = jde;
+            else
+                lower = jde;
 
-            if (residual < -180)
-                residual += 360;
+            // The error left by a step is bounded by the change of the rate since the first step
+            double step = residual / rate;
+            double error = MAX_ACCELERATION / rate * Math.abs(step) * (Math.abs(jde - start) + Math.abs(step));
+            jde -= step;
+
+            if (jde < lower || jde > upper)
+                break;
+
+            if (error < PRECISION_IN_DAYS) {
+                newtonIterationCount.add(newtonIterations);
+                return jde;
+            }
+        }
+
+        newtonIterationCount.add(newtonIterations);
+        failureCount.increment();
+        return refineByMeanVelocity(longitude, jde);
+    }
+
+    /**
+     * Solves for the Julian Ephemeris Day at which the apparent ecliptic longitude reaches the given
+     * value, by steps of the mean solar velocity.
+     *
+     * @param longitude target longitude in degrees
+     * @param jde the initial guess in Julian Ephemeris Day
+     * @return the Julian Ephemeris Day at which reaches target longitude
+     */
+    private double refineByMeanVelocity(double longitude, double jde) {
+        double epsilon = 1e-5;
+
+        for (int i = 0; i < 10; i++) {
+            double residual = residual(calculator, longitude, jde);
 
             if (Math.abs(residual) < epsilon)
                 break;
 
-            double c = residual / sunMeanVelocity;
+            double c = residual / SUN_MEAN_VELOCITY;
             jde -= c;
         }
 
-        return JulianDay.ofEphemeris(jde)
-                .toMoment();
+        return jde;
+    }
+
+    /**
+     * Returns the difference between the apparent ecliptic longitude and a target longitude.
+     *
+     * @param calculator the solar position calculator
+     * @param longitude target longitude in degrees
+     * @param jde the Julian Ephemeris Day
+     * @return the difference in degrees, in range [-180, 180]
+     */
+    private static double residual(SolarCalculator calculator, double longitude, double jde) {
+        double residual = (calculator.apparentLongitude(jde) - longitude) % 360;
+
+        if (residual > 180)
+            residual -= 360;
+
+        if (residual < -180)
+            residual += 360;
+
+        return residual;
     }
 }
@@ -0,0 +1,173 @@
+package io.github.ethanlamtt.vietchrono.astro;
+
+/**
+ * Represents for a snapshot of the statistics of the solar longitude solver.
+ *
+ * <p>A solve first brackets the solution with the low-precision calculator, then refines it with
+ * Newton steps on the high-precision calculator. The counters only cover solves which were not answered
+ * by precomputed transitions.</p>
+ * <p>This class is immutable and thread-safe.</p>
+ *
+ * @author ethanlamtt
+ * @since 1.0.0
+ */
+public final class SolverStats {
+
+    /**
+     * The number of solves.
+     */
+    private final long solveCount;
+
+    /**
+     * The number of low-precision iterations spent bracketing solutions.
+     */
+    private final long bracketIterationCount;
+
+    /**
+     * The number of Newton steps on the high-precision calculator.
+     */
+    private final long newtonIterationCount;
+
+    /**
+     * The number of solves which did not converge within their bracket.
+     */
+    private final long failureCount;
+
+    /**
+     * Constructs a {@code SolverStats} with the specified counters.
+     *
+     * @param solveCount the number of solves
+     * @param bracketIterationCount the number of low-precision iterations
+     * @param newtonIterationCount the number of Newton steps
+     * @param failureCount the number of solves which did not converge within their bracket
+     * @throws IllegalArgumentException if any counter is negative.
+     */
+    private SolverStats(long solveCount, long bracketIterationCount, long newtonIterationCount, long failureCount) {
+        if (solveCount < 0 || bracketIterationCount < 0 || newtonIterationCount < 0 || failureCount < 0)
+            throw new IllegalArgumentException("Counters must not be negative");
+
+        this.solveCount = solveCount;
+        this.bracketIterationCount = bracketIterationCount;
+        this.newtonIterationCount = newtonIterationCount;
+        this.failureCount = failureCount;
+    }
+
+    /**
+     * Returns a {@code SolverStats} with the specified counters.
+     *
+     * @param solveCount the number of solves
+     * @param bracketIterationCount the number of low-precision iterations
+     * @param newtonIterationCount the number of Newton steps
+     * @param failureCount the number of solves which did not converge within their bracket
+     * @return a {@code SolverStats} instance.
+     * @throws IllegalArgumentException if any counter is negative.
+     */
+    public static SolverStats of(long solveCount, long bracketIterationCount,
+                                 long newtonIterationCount, long failureCount) {
+        return new SolverStats(solveCount, bracketIterationCount, newtonIterationCount, failureCount);
+    }
+
+    /**
+     * Obtains the number of solves.
+     * @return the solve count
+     */
+    public long solveCount() {
+        return solveCount;
+    }
+
+    /**
+     * Obtains the number of low-precision iterations spent bracketing solutions.
+     * @return the bracket iteration count
+     */
+    public long bracketIterationCount() {
+        return bracketIterationCount;
+    }
+
+    /**
+     * Obtains the number of Newton steps on the high-precision calculator.
+     * @return the Newton iteration count
+     */
+    public long newtonIterationCount() {
+        return newtonIterationCount;
+    }
+
+    /**
+     * Obtains the number of solves which did not converge within their bracket.
+     *
+     * <p>These solves are finished by the mean solar velocity iteration instead.</p>
+     *
+     * @return the failure count
+     */
+    public long failureCount() {
+        return failureCount;
+    }
+
+    /**
+     * Returns the average number of Newton steps of a solve.
+     * @return the average Newton iteration count, 0.0 if nothing was solved
+     */
+    public double averageNewtonIterations() {
+        return solveCount == 0 ? 0.0 : (double) newtonIterationCount / solveCount;
+    }
+
+    /**
+     * Returns the difference between this and earlier statistics.
+     *
+     * @param earlier the statistics to subtract
+     * @return a {@code SolverStats} holding the differences of the counters.
+     * @throws IllegalArgumentException if a counter of {@code earlier} is greater than in this one.
+     */
+    public SolverStats minus(SolverStats earlier) {
+        return new SolverStats(solveCount - earlier.solveCount,
+                               bracketIterationCount - earlier.bracketIterationCount,
+                               newtonIterationCount - earlier.newtonIterationCount,
+                               failureCount - earlier.failureCount);
+    }
+
+    /**
+     * Compares this instance with the specified object for equality.
+     *
+     * @param o the object to be compared.
+     * @return {@code true} if the two objects are equal; otherwise {@code false}.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+
+        if (!(o instanceof SolverStats other))
+            return false;
+
+        return solveCount == other.solveCount
+                && bracketIterationCount == other.bracketIterationCount
+                && newtonIterationCount == other.newtonIterationCount
+                && failureCount == other.failureCount;
+    }
+
+    /**
+     * Returns a hash code of this object.
+     *
+     * @return a hash code of this object.
+     */
+    @Override
+    public int hashCode() {
+        int result = 17;
+        result = 31 * result + Long.hashCode(solveCount);
+        result = 31 * result + Long.hashCode(bracketIterationCount);
+        result = 31 * result + Long.hashCode(newtonIterationCount);
+        result = 31 * result + Long.hashCode(failureCount);
+        return result;
+    }
+
+    /**
+     * Returns a {@code String} view of this object.
+     *
+     * @return a string view of this object.
+     */
+    @Override
+    public String toString() {
+        return String.format("SolverStats(solveCount=%d, bracketIterationCount=%d, newtonIterationCount=%d, "
+                                     + "failureCount=%d)",
+                             solveCount, bracketIterationCount, newtonIterationCount, failureCount);
+    }
+}
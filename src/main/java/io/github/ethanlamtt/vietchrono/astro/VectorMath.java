@@ -0,0 +1,108 @@
+package io.github.ethanlamtt.vietchrono.astro;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Provides the vector shape and the trigonometry shared by the vector kernels.
+ *
+ * <p>Sines are computed in the lanes by a Cody-Waite reduction to a quarter period and the polynomials of
+ * fdlibm, since the sine operator of the Vector API falls back to scalar calls on platforms without a
+ * vector math library. This class is only loaded once {@link VectorSupport#isEnabled()} returned
+ * {@code true}, or by it.</p>
+ *
+ * @author ethanlamtt
+ * @since 1.0.0
+ */
+final class VectorMath {
+
+    /**
+     * The preferred vector shape of the platform.
+     */
+    static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    /**
+     * Adding and subtracting this value rounds a double below 2^51 to the nearest integer.
+     */
+    private static final double ROUNDING = 0x1.8p52;
+
+    /**
+     * The first 33 bits of pi / 2, exact when multiplied by a quadrant number below 2^20.
+     */
+    private static final double PIO2_1 = 1.57079632673412561417e+00;
+
+    /**
+     * The next 33 bits of pi / 2.
+     */
+    private static final double PIO2_2 = 6.07710050630396597660e-11;
+
+    /**
+     * The remainder of pi / 2.
+     */
+    private static final double PIO2_2T = 2.02226624879595063154e-21;
+
+    /**
+     * Coefficients of the sine polynomial on [-pi / 4, pi / 4], from the third order.
+     */
+    private static final double[] SIN_COEFFICIENTS = {
+            -1.66666666666666324348e-01, 8.33333333332248946124e-03, -1.98412698298579493134e-04,
+            2.75573137070700676789e-06, -2.50507602534068634195e-08, 1.58969099521155010221e-10
+    };
+
+    /**
+     * Coefficients of the cosine polynomial on [-pi / 4, pi / 4], from the fourth order.
+     */
+    private static final double[] COS_COEFFICIENTS = {
+            4.16666666666666019037e-02, -1.38888888888741095749e-03, 2.48015872894767294178e-05,
+            -2.75573143513906633035e-07, 2.08757232129817482790e-09, -1.13596475577881948265e-11
+    };
+
+    private VectorMath() {}
+
+    /**
+     * Obtains the number of doubles per vector.
+     *
+     * @return the number of lanes
+     */
+    static int laneCount() {
+        return SPECIES.length();
+    }
+
+    /**
+     * Returns the sines of the lanes shifted by quarter periods.
+     *
+     * @param x the angles in radians, below 2^20 quarter periods
+     * @param quadrantOffset the number of quarter periods added to the angles, 1 for cosines
+     * @return the sines of {@code x + quadrantOffset * pi / 2}
+     */
+    static DoubleVector sin(DoubleVector x, int quadrantOffset) {
+        // x = q pi / 2 + r with |r| <= pi / 4
+        DoubleVector q = x.mul(2 / Math.PI).add(ROUNDING).sub(ROUNDING);
+        DoubleVector r = x.sub(q.mul(PIO2_1))
+                .sub(q.mul(PIO2_2))
+                .sub(q.mul(PIO2_2T));
+
+        LongVector quadrant = ((LongVector) q.convert(VectorOperators.D2L, 0))
+                .add(quadrantOffset);
+        VectorMask<Double> odd = quadrant.and(1L).compare(VectorOperators.NE, 0L).cast(SPECIES);
+        VectorMask<Double> negative = quadrant.and(2L).compare(VectorOperators.NE, 0L).cast(SPECIES);
+
+        DoubleVector r2 = r.mul(r);
+
+        DoubleVector sinPolynomial = DoubleVector.broadcast(SPECIES, SIN_COEFFICIENTS[SIN_COEFFICIENTS.length - 1]);
+        for (int i = SIN_COEFFICIENTS.length - 2; i >= 0; i--)
+            sinPolynomial = sinPolynomial.fma(r2, DoubleVector.broadcast(SPECIES, SIN_COEFFICIENTS[i]));
+        DoubleVector sin = sinPolynomial.mul(r2).fma(r, r);
+
+        DoubleVector cosPolynomial = DoubleVector.broadcast(SPECIES, COS_COEFFICIENTS[COS_COEFFICIENTS.length - 1]);
+        for (int i = COS_COEFFICIENTS.length - 2; i >= 0; i--)
+            cosPolynomial = cosPolynomial.fma(r2, DoubleVector.broadcast(SPECIES, COS_COEFFICIENTS[i]));
+        DoubleVector cos = cosPolynomial.mul(r2).fma(r2, r2.mul(-0.5).add(1));
+
+        DoubleVector result = sin.blend(cos, odd);
+        return result.blend(result.neg(), negative);
+    }
+}
@@ -0,0 +1,44 @@
+package io.github.ethanlamtt.vietchrono.astro;
+
+/**
+ * Detects whether the incubating Vector API can be used.
+ *
+ * <p>This class does not refer to vector types itself, so that it can be loaded without the
+ * {@code jdk.incubator.vector} module. The vector kernels, {@link VectorMath} and the classes using it,
+ * are only loaded once {@link #isEnabled()} returned {@code true}.</p>
+ *
+ * @author ethanlamtt
+ * @since 1.0.0
+ */
+final class VectorSupport {
+
+    /**
+     * Whether the Vector API is available with more than one lane.
+     */
+    private static final boolean ENABLED = detect();
+
+    private VectorSupport() {}
+
+    /**
+     * Checks whether the Vector API is available with more than one lane.
+     *
+     * <p>It is available when the {@code jdk.incubator.vector} module is in the boot layer, for example
+     * with the {@code --add-modules jdk.incubator.vector} option.</p>
+     *
+     * @return {@code true} if vector kernels can be used
+     */
+    static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    private static boolean detect() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty())
+            return false;
+
+        try {
+            return VectorMath.laneCount() > 1;
+        } catch (LinkageError e) {
+            return false;
+        }
+    }
+}
@@ -1,9 +1,10 @@
 package io.github.ethanlamtt.vietchrono.astro;
 
-import java.io.*;
-import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import static io.github.ethanlamtt.vietchrono.astro.AstroUtils.normalizeAngle;
 
@@ -22,6 +23,9 @@ import static io.github.ethanlamtt.vietchrono.astro.AstroUtils.normalizeAngle;
  *  </a>
  *  as default
  * </p>
+ * <p>The terms are held in flat arrays, series after series, and the series are combined as a
+ * polynomial in time with Horner's scheme. The {@value #TRUNCATION_PROPERTY} system property selects
+ * a {@link Truncation} tier of the default instance, {@link Truncation#FULL} if it is not set.</p>
  *
  * @author ethanlamtt
  * @since 1.0.0
@@ -29,16 +33,152 @@ import static io.github.ethanlamtt.vietchrono.astro.AstroUtils.normalizeAngle;
 final class Vsop87SolarCalculator implements SolarCalculator {
 
     /**
-     * The singleton instance of this class.
+     * The system property selecting the truncation tier of the default instance.
      */
-    private static final Vsop87SolarCalculator INSTANCE = new Vsop87SolarCalculator();
+    static final String TRUNCATION_PROPERTY = "vietchrono.vsop87.truncation";
 
     /**
-     * Constructs a {@code Vsop87SolarCalculator}.
+     * Number of longitude series, from L0 to L5.
+     */
+    private static final int SERIES = Vsop87Terms.SERIES;
+
+    /**
+     * Half of the time span on which truncation errors are bounded, in Julian millennia from J2000.
+     * The span covers the years 1800 to 2200.
+     */
+    private static final double TRUNCATION_SPAN = 0.2;
+
+    /**
+     * Whether batches of moments are evaluated with the Vector API.
+     */
+    private static final boolean VECTORIZED = VectorSupport.isEnabled();
+
+    /**
+     * Represents for a truncation tier of the VSOP87 longitude series.
+     *
+     * <p>A tier drops the terms of smallest amplitude, scaled by the power of time of their series over
+     * the years 1800 to 2200, as long as the sum of the dropped amplitudes stays within the error budget
+     * of the tier. The budget is therefore a strict bound of the longitude error against the full series
+     * over these years. The measured errors and speedups below were sampled every 0.7 days over the same
+     * years, speedups are relative to the full series.</p>
+     */
+    enum Truncation {
+
+        /**
+         * All 1080 terms of the longitude series.
+         */
+        FULL(0.0),
+
+        /**
+         * At most 1″ from the full series, 132 terms. The measured maximum error is 0.22″,
+         * the measured speedup 7.9×.
+         */
+        ARCSECOND(1.0),
+
+        /**
+         * At most 0.1′ from the full series, 41 terms. The measured maximum error is 1.8″,
+         * the measured speedup 22×.
+         */
+        TENTH_ARCMINUTE(6.0),
+
+        /**
+         * At most 1′ from the full series, 7 terms. The measured maximum error is 28″,
+         * the measured speedup 61×.
+         */
+        ARCMINUTE(60.0);
+
+        /**
+         * The error budget in arcseconds.
+         */
+        private final double maximumError;
+
+        Truncation(double maximumError) {
+            this.maximumError = maximumError;
+        }
+
+        /**
+         * Obtains the bound of the longitude error against the full series, over the years 1800 to 2200.
+         *
+         * @return the maximum error in arcseconds
+         */
+        double maximumError() {
+            return maximumError;
+        }
+    }
+
+    /**
+     * The instances of the truncation tiers by ordinal, null until first used.
+     */
+    private static final AtomicReferenceArray<Vsop87SolarCalculator> INSTANCES =
+            new AtomicReferenceArray<>(Truncation.values().length);
+
+    /**
+     * The singleton instance of this class, truncated by the configured tier.
+     */
+    private static final SolarCalculator INSTANCE = of(configuredTruncation());
+
+    /**
+     * The truncation tier of this calculator.
+     */
+    private final Truncation truncation;
+
+    /**
+     * The amplitudes A of the kept terms, series after series.
+     */
+    private final double[] amplitudes;
+
+    /**
+     * The phases B of the kept terms, series after series.
+     */
+    private final double[] phases;
+
+    /**
+     * The frequencies C of the kept terms, series after series.
+     */
+    private final double[] frequencies;
+
+    /**
+     * The index of the first term of each series, followed by the number of kept terms.
+     */
+    private final int[] seriesStarts;
+
+    /**
+     * Constructs a {@code Vsop87SolarCalculator} keeping the terms of a truncation tier.
      *
      * <p>This constructor is private to control instances of this class.</p>
+     *
+     * @param truncation the truncation tier
      */
-    private Vsop87SolarCalculator() {}
+    private Vsop87SolarCalculator(Truncation truncation) {
+        this.truncation = truncation;
+
+        boolean[] kept = Loader.keptTerms(truncation.maximumError());
+        int count = 0;
+        for (boolean k : kept) {
+            if (k)
+                count++;
+        }
+
+        this.amplitudes = new double[count];
+        this.phases = new double[count];
+        this.frequencies = new double[count];
+        this.seriesStarts = new int[SERIES + 1];
+
+        int index = 0;
+        for (int i = 0; i < SERIES; i++) {
+            seriesStarts[i] = index;
+            for (int k = Loader.SERIES_STARTS[i]; k < Loader.SERIES_STARTS[i + 1]; k++) {
+                if (!kept[k])
+                    continue;
+
+                amplitudes[index] = Loader.AMPLITUDES[k];
+                phases[index] = Loader.PHASES[k];
+                frequencies[index] = Loader.FREQUENCIES[k];
+                index++;
+            }
+        }
+        seriesStarts[SERIES] = index;
+    }
 
     /**
      * Gets the initialized instance of this class.
@@ -50,74 +190,130 @@ final class Vsop87SolarCalculator implements SolarCalculator {
     }
 
     /**
-     * This class loads VSOP87 files to get periodic terms of the Earth.
+     * Gets the instance of a truncation tier, building it on first use.
+     *
+     * @param truncation the truncation tier
+     * @return {@code SolarCalculator} instance.
+     * @throws NullPointerException if {@code truncation} is null
+     */
+    static SolarCalculator of(Truncation truncation) {
+        int index = Objects.requireNonNull(truncation, "truncation").ordinal();
+
+        Vsop87SolarCalculator calculator = INSTANCES.get(index);
+        if (calculator != null)
+            return calculator;
+
+        calculator = new Vsop87SolarCalculator(truncation);
+        return INSTANCES.compareAndExchange(index, null, calculator) instanceof Vsop87SolarCalculator existing
+                ? existing
+                : calculator;
+    }
+
+    /**
+     * Reads the truncation tier from the {@value #TRUNCATION_PROPERTY} system property.
+     *
+     * @return the configured tier, {@link Truncation#FULL} if the property is not set
+     * @throws IllegalArgumentException if the property does not name a tier
+     */
+    private static Truncation configuredTruncation() {
+        String value = System.getProperty(TRUNCATION_PROPERTY);
+        if (value == null || value.isBlank())
+            return Truncation.FULL;
+
+        return Truncation.valueOf(value.trim().toUpperCase(Locale.ROOT));
+    }
+
+    /**
+     * Obtains the truncation tier of this calculator.
+     *
+     * @return the truncation tier
+     */
+    Truncation truncation() {
+        return truncation;
+    }
+
+    /**
+     * Obtains the number of terms evaluated by this calculator.
+     *
+     * @return the number of kept terms
+     */
+    int termCount() {
+        return amplitudes.length;
+    }
+
+    /**
+     * This class holds the periodic terms of the Earth, read by {@link Vsop87Terms#load()} from the binary
+     * resource generated at build time or, if it is missing, from the VSOP87 text file.
      */
     private static final class Loader {
 
         /**
-         * Periodic terms of the Earth.
-         *
-         * <p>The first dimension array holds the series index from L0 to L5.
-         * The second dimension array holds terms in the series.
-         * The third dimension array holds coefficients of each term (A, B, C).
-         * </p>
+         * The periodic terms of the Earth, from the binary resource generated at build time.
          */
-        static final double[][][] EARTH_TERMS = new double[6][][];
+        private static final Vsop87Terms TERMS = Vsop87Terms.load();
 
-        static {
-            String fileName = "data/VSOP87D_Earth.txt";
+        /**
+         * The amplitudes A of all longitude terms, series after series from L0 to L5.
+         */
+        static final double[] AMPLITUDES = TERMS.amplitudes();
+
+        /**
+         * The phases B of all longitude terms.
+         */
+        static final double[] PHASES = TERMS.phases();
+
+        /**
+         * The frequencies C of all longitude terms.
+         */
+        static final double[] FREQUENCIES = TERMS.frequencies();
+
+        /**
+         * The index of the first term of each series, followed by the number of terms.
+         */
+        static final int[] SERIES_STARTS = TERMS.seriesStarts();
 
-            @SuppressWarnings("unchecked")
-            List<double[]>[] tempLists = new ArrayList[6];
+        /**
+         * Selects the terms kept by an error budget.
+         *
+         * <p>Terms are dropped by ascending weight, their amplitude scaled by the largest power of time
+         * of their series over the truncation span, while the sum of the dropped weights stays within
+         * the budget.</p>
+         *
+         * @param maximumError the error budget in arcseconds
+         * @return the flags of the kept terms, indexed like {@link #AMPLITUDES}
+         */
+        static boolean[] keptTerms(double maximumError) {
+            int count = AMPLITUDES.length;
+            boolean[] kept = new boolean[count];
+            Arrays.fill(kept, true);
+
+            // The full series keeps every term without sorting
+            if (maximumError == 0.0)
+                return kept;
 
-            for (int i = 0; i < 6; i++) {
-                tempLists[i] = new ArrayList<>();
+            double[] weights = new double[count];
+            for (int i = 0; i < SERIES; i++) {
+                double scale = Math.pow(TRUNCATION_SPAN, i);
+                for (int k = SERIES_STARTS[i]; k < SERIES_STARTS[i + 1]; k++)
+                    weights[k] = Math.abs(AMPLITUDES[k]) * scale;
             }
 
-            try (InputStream is = Loader.class.getClassLoader().getResourceAsStream(fileName)){
-                if (is == null)
-                    throw new IllegalStateException("Resource not found: " + fileName);
-
-                try (BufferedReader br = new BufferedReader(
-                        new InputStreamReader(is, StandardCharsets.UTF_8),
-                        6 * 1024
-                )) {
-
-                    int index = -1;
-                    String line;
-                    while ((line = br.readLine()) != null) {
-                        line = line.trim();
-                        if (line.isEmpty())
-                            continue;
-
-                        if (line.contains("*T**")) {
-                            index++;
-                            continue;
-                        }
-
-                        if (index < 0 || index >= 6) {
-                            continue;
-                        }
-
-                        String[] parts = line.split("\\s+");
-                        int len = parts.length;
-                        double A = Double.parseDouble(parts[len - 3]);
-                        double B = Double.parseDouble(parts[len - 2]);
-                        double C = Double.parseDouble(parts[len - 1]);
-
-                        tempLists[index].add(new double[] {
-                                A, B, C
-                        });
-                    }
-
-                    for (int i = 0; i < 6; i++) {
-                        EARTH_TERMS[i] = tempLists[i].toArray(new double[tempLists[i].size()][]);
-                    }
-
-                }
-            } catch (IOException e) {
-                throw new RuntimeException(e);
+            Integer[] order = new Integer[count];
+            for (int k = 0; k < count; k++)
+                order[k] = k;
+            Arrays.sort(order, Comparator.comparingDouble(k -> weights[k]));
+
+            double budget = Math.toRadians(maximumError / 3600.0);
+            double dropped = 0.0;
+            for (int k : order) {
+                if (dropped + weights[k] > budget)
+                    break;
+
+                dropped += weights[k];
+                kept[k] = false;
             }
+
+            return kept;
         }
     }
 
@@ -126,25 +322,15 @@ final class Vsop87SolarCalculator implements SolarCalculator {
         jde = jde - JulianEpoch.J2000.value();
 
         double t = jde / 365250;
-        double[][][] series = Loader.EARTH_TERMS;
 
+        // Horner's scheme over the series: ((L5 t + L4) t + ... + L1) t + L0
         double l = 0.0;
-
-        for (int i = 0; i < series.length; i++) {
+        for (int i = SERIES - 1; i >= 0; i--) {
             double sumTerms = 0.0;
-            for (double[] row : series[i]) {
-                double A = row[0];
-                double B = row[1];
-                double C = row[2];
+            for (int k = seriesStarts[i]; k < seriesStarts[i + 1]; k++)
+                sumTerms += amplitudes[k] * Math.cos(phases[k] + frequencies[k] * t);
 
-                sumTerms += A * Math.cos(B + C * t);
-            }
-
-            if (i == 0) {
-                l += sumTerms;
-            } else {
-                l += sumTerms * Math.pow(t, i);
-            }
+            l = l * t + sumTerms;
         }
 
         // Heliocentric to Geometric geocentric longitude
@@ -157,4 +343,70 @@ final class Vsop87SolarCalculator implements SolarCalculator {
 
         return normalizeAngle(lambda);
     }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>When the incubating {@code jdk.incubator.vector} module is in the boot layer, the moments are
+     * evaluated several at a time by {@link Vsop87Vectors}, each term across the lanes, and agree with
+     * {@link #apparentLongitude(double)} within {@value Vsop87Vectors#TOLERANCE} degrees. Otherwise, and for
+     * the moments left over by the vector width, they are evaluated one by one.</p>
+     */
+    @Override
+    public void apparentLongitudes(double[] jde, double[] out, int from, int to) {
+        Objects.checkFromToIndex(from, to, jde.length);
+        Objects.checkFromToIndex(from, to, out.length);
+
+        int evaluated = VECTORIZED
+                ? Vsop87Vectors.apparentLongitudes(amplitudes, phases, frequencies, seriesStarts, this,
+                                                   jde, out, from, to)
+                : from;
+        for (int i = evaluated; i < to; i++)
+            out[i] = apparentLongitude(jde[i]);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The series are differentiated term-wise: the derivative of {@code A cos(B + C t)} is
+     * {@code -A C sin(B + C t)}, and the powers of time are differentiated along Horner's scheme.</p>
+     */
+    @Override
+    public double apparentLongitudeRate(double jde) {
+        jde = jde - JulianEpoch.J2000.value();
+
+        double t = jde / 365250;
+
+        // Derivative of l t + S is l' t + l + S'
+        double l = 0.0;
+        double rate = 0.0;
+        for (int i = SERIES - 1; i >= 0; i--) {
+            double sumTerms = 0.0;
+            double sumRates = 0.0;
+            for (int k = seriesStarts[i]; k < seriesStarts[i + 1]; k++) {
+                double angle = phases[k] + frequencies[k] * t;
+                sumTerms += amplitudes[k] * Math.cos(angle);
+                sumRates -= amplitudes[k] * frequencies[k] * Math.sin(angle);
+            }
+
+            rate = rate * t + l + sumRates;
+            l = l * t + sumTerms;
+        }
+
+        double T = jde / 36525;
+
+        double omega = 125.04 - 1934.136 * T;
+        double nutationRate = -0.00478 * Math.cos(Math.toRadians(omega)) * Math.toRadians(-1934.136);
+
+        // Radians per millennium and degrees per century to degrees per day
+        return Math.toDegrees(rate) / 365250 + nutationRate / 36525;
+    }
+
+    @Override
+    public String name() {
+        if (truncation == Truncation.FULL)
+            return SolarCalculator.super.name();
+
+        return SolarCalculator.super.name() + "#" + truncation;
+    }
 }
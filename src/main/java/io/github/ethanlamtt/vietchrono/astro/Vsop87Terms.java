@@ -0,0 +1,281 @@
+package io.github.ethanlamtt.vietchrono.astro;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Represents for the periodic terms of the VSOP87 longitude series of the Earth.
+ *
+ * <p>The terms are held in flat arrays, series after series from L0 to L5. They are read from the
+ * {@value #BINARY_RESOURCE} resource generated at build time by {@link Vsop87TermsGenerator}: a header
+ * of little-endian ints, the magic number, the format version, the number of series and the number of
+ * terms of each series, followed by the little-endian amplitudes, phases and frequencies of all terms.
+ * The text resource {@value #TEXT_RESOURCE} is parsed instead if the binary resource is missing or
+ * unreadable.</p>
+ * <p>This class is immutable and thread-safe as long as its arrays are not modified.</p>
+ *
+ * @author ethanlamtt
+ * @since 1.0.0
+ */
+final class Vsop87Terms {
+
+    /**
+     * The resource name of the VSOP87D data of the Earth.
+     */
+    static final String TEXT_RESOURCE = "data/VSOP87D_Earth.txt";
+
+    /**
+     * The resource name of the generated binary terms.
+     */
+    static final String BINARY_RESOURCE = "data/VSOP87D_Earth.bin";
+
+    /**
+     * The magic number of the binary format, "VCVS" in ASCII.
+     */
+    static final int MAGIC = 0x56435653;
+
+    /**
+     * The version of the binary format.
+     */
+    static final int VERSION = 1;
+
+    /**
+     * Number of longitude series, from L0 to L5.
+     */
+    static final int SERIES = 6;
+
+    /**
+     * The amplitudes A of all terms, series after series.
+     */
+    private final double[] amplitudes;
+
+    /**
+     * The phases B of all terms, series after series.
+     */
+    private final double[] phases;
+
+    /**
+     * The frequencies C of all terms, series after series.
+     */
+    private final double[] frequencies;
+
+    /**
+     * The index of the first term of each series, followed by the number of terms.
+     */
+    private final int[] seriesStarts;
+
+    private Vsop87Terms(double[] amplitudes, double[] phases, double[] frequencies, int[] seriesStarts) {
+        this.amplitudes = Objects.requireNonNull(amplitudes, "amplitudes");
+        this.phases = Objects.requireNonNull(phases, "phases");
+        this.frequencies = Objects.requireNonNull(frequencies, "frequencies");
+        this.seriesStarts = Objects.requireNonNull(seriesStarts, "seriesStarts");
+    }
+
+    /**
+     * Loads the terms from the class path, from the binary resource if present.
+     *
+     * @return the terms
+     * @throws IllegalStateException if neither resource can be read
+     */
+    static Vsop87Terms load() {
+        ClassLoader classLoader = Vsop87Terms.class.getClassLoader();
+
+        try (InputStream is = classLoader.getResourceAsStream(BINARY_RESOURCE)) {
+            if (is != null)
+                return readBinary(ByteBuffer.wrap(is.readAllBytes()));
+        } catch (IOException | RuntimeException e) {
+            // Falls back to the text resource
+        }
+
+        try (InputStream is = classLoader.getResourceAsStream(TEXT_RESOURCE)) {
+            if (is == null)
+                throw new IllegalStateException("Resource not found: " + TEXT_RESOURCE);
+
+            return readText(is);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Reads the terms from a buffer holding the binary format.
+     *
+     * @param buffer the buffer positioned at the start of the terms
+     * @return the terms
+     * @throws IllegalArgumentException if the buffer does not hold terms of the supported version
+     */
+    static Vsop87Terms readBinary(ByteBuffer buffer) {
+        buffer = buffer.slice()
+                .order(ByteOrder.LITTLE_ENDIAN);
+
+        if (buffer.remaining() < 12 || buffer.getInt() != MAGIC)
+            throw new IllegalArgumentException("Not a VSOP87 terms resource");
+
+        int version = buffer.getInt();
+        if (version != VERSION)
+            throw new IllegalArgumentException("Unsupported VSOP87 terms version: " + version);
+
+        int series = buffer.getInt();
+        if (series != SERIES)
+            throw new IllegalArgumentException("Unexpected number of series: " + series);
+
+        int[] seriesStarts = new int[SERIES + 1];
+        for (int i = 0; i < SERIES; i++)
+            seriesStarts[i + 1] = seriesStarts[i] + buffer.getInt();
+
+        int count = seriesStarts[SERIES];
+        if (buffer.remaining() != 3 * count * Double.BYTES)
+            throw new IllegalArgumentException("Unexpected VSOP87 terms length");
+
+        double[] amplitudes = new double[count];
+        double[] phases = new double[count];
+        double[] frequencies = new double[count];
+
+        DoubleBuffer doubles = buffer.asDoubleBuffer();
+        doubles.get(amplitudes);
+        doubles.get(phases);
+        doubles.get(frequencies);
+
+        return new Vsop87Terms(amplitudes, phases, frequencies, seriesStarts);
+    }
+
+    /**
+     * Parses the terms from the VSOP87D text format.
+     *
+     * @param is the stream of the text resource
+     * @return the terms
+     * @throws IOException if the stream cannot be read
+     */
+    static Vsop87Terms readText(InputStream is) throws IOException {
+        @SuppressWarnings("unchecked")
+        List<double[]>[] tempLists = new ArrayList[SERIES];
+
+        for (int i = 0; i < SERIES; i++) {
+            tempLists[i] = new ArrayList<>();
+        }
+
+        try (BufferedReader br = new BufferedReader(
+                new InputStreamReader(is, StandardCharsets.UTF_8),
+                6 * 1024
+        )) {
+
+            int index = -1;
+            String line;
+            while ((line = br.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty())
+                    continue;
+
+                if (line.contains("*T**")) {
+                    index++;
+                    continue;
+                }
+
+                if (index < 0 || index >= SERIES) {
+                    continue;
+                }
+
+                String[] parts = line.split("\\s+");
+                int len = parts.length;
+                double A = Double.parseDouble(parts[len - 3]);
+                double B = Double.parseDouble(parts[len - 2]);
+                double C = Double.parseDouble(parts[len - 1]);
+
+                tempLists[index].add(new double[] {
+                        A, B, C
+                });
+            }
+        }
+
+        int[] seriesStarts = new int[SERIES + 1];
+        for (int i = 0; i < SERIES; i++)
+            seriesStarts[i + 1] = seriesStarts[i] + tempLists[i].size();
+
+        int count = seriesStarts[SERIES];
+        double[] amplitudes = new double[count];
+        double[] phases = new double[count];
+        double[] frequencies = new double[count];
+
+        int index = 0;
+        for (List<double[]> terms : tempLists) {
+            for (double[] term : terms) {
+                amplitudes[index] = term[0];
+                phases[index] = term[1];
+                frequencies[index] = term[2];
+                index++;
+            }
+        }
+
+        return new Vsop87Terms(amplitudes, phases, frequencies, seriesStarts);
+    }
+
+    /**
+     * Returns these terms in the binary format.
+     *
+     * @return a little-endian buffer holding the header and the terms, positioned at its start
+     */
+    ByteBuffer toBinary() {
+        int count = amplitudes.length;
+        ByteBuffer buffer = ByteBuffer.allocate((3 + SERIES) * Integer.BYTES + 3 * count * Double.BYTES)
+                .order(ByteOrder.LITTLE_ENDIAN);
+
+        buffer.putInt(MAGIC);
+        buffer.putInt(VERSION);
+        buffer.putInt(SERIES);
+        for (int i = 0; i < SERIES; i++)
+            buffer.putInt(seriesStarts[i + 1] - seriesStarts[i]);
+
+        DoubleBuffer doubles = buffer.asDoubleBuffer();
+        doubles.put(amplitudes);
+        doubles.put(phases);
+        doubles.put(frequencies);
+
+        return buffer.rewind();
+    }
+
+    /**
+     * Obtains the amplitudes A of all terms, series after series.
+     *
+     * @return the amplitudes, not to be modified
+     */
+    double[] amplitudes() {
+        return amplitudes;
+    }
+
+    /**
+     * Obtains the phases B of all terms, series after series.
+     *
+     * @return the phases, not to be modified
+     */
+    double[] phases() {
+        return phases;
+    }
+
+    /**
+     * Obtains the frequencies C of all terms, series after series.
+     *
+     * @return the frequencies, not to be modified
+     */
+    double[] frequencies() {
+        return frequencies;
+    }
+
+    /**
+     * Obtains the index of the first term of each series, followed by the number of terms.
+     *
+     * @return the series starts, not to be modified
+     */
+    int[] seriesStarts() {
+        return seriesStarts;
+    }
+}
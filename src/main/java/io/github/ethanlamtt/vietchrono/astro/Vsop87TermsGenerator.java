@@ -0,0 +1,70 @@
+package io.github.ethanlamtt.vietchrono.astro;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+/**
+ * Generates the {@link Vsop87Terms#BINARY_RESOURCE} resource from the VSOP87D text resource.
+ *
+ * <p>This class is run at build time with the output path as argument, before the
+ * {@link EphemerisTableGenerator}, so that later solar computations of the build already read the
+ * binary terms.</p>
+ *
+ * @author ethanlamtt
+ * @since 1.0.0
+ */
+final class Vsop87TermsGenerator {
+
+    private Vsop87TermsGenerator() {}
+
+    /**
+     * Writes the binary terms to the path given as argument.
+     *
+     * @param args the output path
+     * @throws IOException if the text resource cannot be read or the output cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1)
+            throw new IllegalArgumentException("Usage: Vsop87TermsGenerator <output>");
+
+        write(Path.of(args[0]));
+    }
+
+    /**
+     * Parses the text resource and writes the binary terms to a file, replacing it atomically.
+     *
+     * @param output the file to write
+     * @throws IOException if the text resource cannot be read or the output cannot be written
+     */
+    static void write(Path output) throws IOException {
+        Vsop87Terms terms;
+        try (InputStream is = Vsop87TermsGenerator.class.getClassLoader()
+                .getResourceAsStream(Vsop87Terms.TEXT_RESOURCE)) {
+            if (is == null)
+                throw new IllegalStateException("Resource not found: " + Vsop87Terms.TEXT_RESOURCE);
+
+            terms = Vsop87Terms.readText(is);
+        }
+
+        Path directory = output.toAbsolutePath()
+                .getParent();
+        Files.createDirectories(directory);
+
+        Path temp = Files.createTempFile(directory, "vsop87", ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                channel.write(terms.toBinary());
+            }
+            Files.move(temp, output, REPLACE_EXISTING, ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package io.github.ethanlamtt.vietchrono.astro;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+import static io.github.ethanlamtt.vietchrono.astro.AstroUtils.normalizeAngle;
+import static io.github.ethanlamtt.vietchrono.astro.VectorMath.sin;
+
+/**
+ * Evaluates the VSOP87 longitude series at many moments with the incubating Vector API, one moment per lane.
+ *
+ * <p>This class is only loaded once {@link VectorSupport#isEnabled()} returned {@code true}, see
+ * {@link Vsop87SolarCalculator#apparentLongitudes}. Each term of the series is evaluated across the lanes
+ * and the terms are summed in the order of the scalar path. Cosines are computed by {@link VectorMath#sin},
+ * the results agree with {@link Vsop87SolarCalculator#apparentLongitude(double)} within {@value #TOLERANCE}
+ * degrees.</p>
+ * <p>This class is immutable and thread-safe.</p>
+ *
+ * @author ethanlamtt
+ * @since 1.0.0
+ */
+final class Vsop87Vectors {
+
+    /**
+     * The bound of the difference from {@link Vsop87SolarCalculator#apparentLongitude(double)}, in degrees.
+     */
+    static final double TOLERANCE = 1e-9;
+
+    /**
+     * The vector shape of the platform.
+     */
+    private static final VectorSpecies<Double> SPECIES = VectorMath.SPECIES;
+
+    /**
+     * The largest time from J2000 evaluated in the lanes, in Julian millennia. Further, the arguments of
+     * the fastest terms exceed the range of the reduction of {@link VectorMath#sin} and the moments are
+     * evaluated one by one.
+     */
+    private static final double MAX_MILLENNIA = 4.0;
+
+    /**
+     * Number of degrees per radian, as in {@link Math#toDegrees(double)}.
+     */
+    private static final double DEGREES_PER_RADIAN = 57.29577951308232;
+
+    /**
+     * Number of radians per degree, as in {@link Math#toRadians(double)}.
+     */
+    private static final double RADIANS_PER_DEGREE = 0.017453292519943295;
+
+    private Vsop87Vectors() {}
+
+    /**
+     * Evaluates the apparent longitude at the moments of a range, a whole vector at a time.
+     *
+     * @param amplitudes the amplitudes A of the terms, series after series
+     * @param phases the phases B of the terms
+     * @param frequencies the frequencies C of the terms
+     * @param seriesStarts the index of the first term of each series, followed by the number of terms
+     * @param fallback the calculator of the vectors out of range of the lanes
+     * @param jde the Julian Ephemeris Days of the moments
+     * @param out the array receiving the longitudes, may be {@code jde}
+     * @param from the first index of the range, inclusive
+     * @param to the last index of the range, exclusive
+     * @return the end of the evaluated indexes; the remaining moments, fewer than a vector, are left to the
+     *         caller
+     */
+    static int apparentLongitudes(double[] amplitudes, double[] phases, double[] frequencies, int[] seriesStarts,
+                                  SolarCalculator fallback, double[] jde, double[] out, int from, int to) {
+        int upperBound = from + SPECIES.loopBound(to - from);
+
+        for (int i = from; i < upperBound; i += SPECIES.length()) {
+            DoubleVector days = DoubleVector.fromArray(SPECIES, jde, i)
+                    .sub(JulianEpoch.J2000.value());
+            DoubleVector t = days.div(365250);
+
+            if (t.abs().reduceLanes(VectorOperators.MAX) > MAX_MILLENNIA) {
+                for (int j = i; j < i + SPECIES.length(); j++)
+                    out[j] = fallback.apparentLongitude(jde[j]);
+                continue;
+            }
+
+            // Horner's scheme over the series, as the scalar path
+            DoubleVector l = DoubleVector.zero(SPECIES);
+            for (int s = seriesStarts.length - 2; s >= 0; s--) {
+                DoubleVector sumTerms = DoubleVector.zero(SPECIES);
+                for (int k = seriesStarts[s]; k < seriesStarts[s + 1]; k++) {
+                    DoubleVector angle = t.mul(frequencies[k]).add(phases[k]);
+                    sumTerms = sumTerms.add(sin(angle, 1).mul(amplitudes[k]));
+                }
+
+                l = l.mul(t).add(sumTerms);
+            }
+
+            // Heliocentric to Geometric geocentric longitude
+            l = l.mul(DEGREES_PER_RADIAN).add(180);
+
+            DoubleVector omega = days.div(36525).mul(-1934.136).add(125.04);
+            DoubleVector lambda = l.sub(0.00569)
+                    .sub(sin(omega.mul(RADIANS_PER_DEGREE), 0).mul(0.00478));
+
+            lambda.intoArray(out, i);
+            for (int j = i; j < i + SPECIES.length(); j++)
+                out[j] = normalizeAngle(out[j]);
+        }
+
+        return upperBound;
+    }
+}
@@ -0,0 +1,449 @@
+package io.github.ethanlamtt.vietchrono.calendar;
+
+import io.github.ethanlamtt.vietchrono.holiday.HolidayRule;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.Year;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Represents for the working days of Vietnam.
+ *
+ * <p>Saturdays, Sundays and the public holidays of the Labor Code are days off:</p>
+ * <ul>
+ *     <li>New Year's Day, on January 1.</li>
+ *     <li>Lunar New Year, from the last day of the lunar year to the fourth day of the first lunar month.</li>
+ *     <li>Hung Kings' Commemoration Day, on the tenth day of the third lunar month.</li>
+ *     <li>Reunification Day and International Workers' Day, on April 30 and May 1.</li>
+ *     <li>National Day, on September 2 and the day before, or the day after if the day before is a Sunday.</li>
+ * </ul>
+ * <p>A holiday on a Saturday or a Sunday is substituted by the next working day. Days swapped by the
+ * government are loaded from a file of overrides, see {@link #ofOverrides(Path)}.</p>
+ * <p>The working days of each year are computed once per time zone into a bitset of
+ * {@value #WORDS_PER_YEAR} words, the bit of a day is its day of year minus one. Queries are answered by
+ * word-level bit operations.</p>
+ * <p>This class is immutable and thread-safe.</p>
+ *
+ * @author ethanlamtt
+ * @since 1.0.0
+ */
+public final class BusinessCalendar {
+
+    private static final BusinessCalendar INSTANCE = new BusinessCalendar(new long[0], new long[0]);
+
+    /**
+     * Number of words of the bitset of a year, holding 366 days.
+     */
+    static final int WORDS_PER_YEAR = 6;
+
+    /**
+     * The statutory holidays of a single day, by date.
+     */
+    private static final HolidayRule[] SINGLE_DAY_HOLIDAYS = {
+            HolidayRule.fixedSolar("New_Years_Day", 1, 1),
+            HolidayRule.fixedLunar("Hung_King_Festival", 3, 10),
+            HolidayRule.fixedSolar("Liberation_Day", 4, 30),
+            HolidayRule.fixedSolar("International_Workers_Day", 5, 1),
+            HolidayRule.fixedSolar("Vietnam_National_Day", 9, 2)
+    };
+
+    /**
+     * The first day of the lunar year, the Lunar New Year holidays start the day before.
+     */
+    private static final HolidayRule LUNAR_NEW_YEAR = HolidayRule.fixedLunar("Lunar_New_Year", 1, 1);
+
+    /**
+     * Number of days of the Lunar New Year holidays.
+     */
+    private static final int LUNAR_NEW_YEAR_DAYS = 5;
+
+    /**
+     * The epoch days announced as working days, sorted.
+     */
+    private final long[] workingDays;
+
+    /**
+     * The epoch days announced as days off, sorted.
+     */
+    private final long[] daysOff;
+
+    /**
+     * The working days of each year, keyed by year and time zone.
+     */
+    private final ZonedYearCache<long[]> years = ZonedYearCache.ofConfiguredSize();
+
+    private final ZonedYearCache.Loader<long[]> yearLoader = this::newYear;
+
+    private BusinessCalendar(long[] workingDays, long[] daysOff) {
+        this.workingDays = workingDays;
+        this.daysOff = daysOff;
+    }
+
+    /**
+     * Obtains the working days of the Labor Code, without announced swaps.
+     *
+     * @return the shared instance
+     */
+    public static BusinessCalendar getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Obtains the working days of the Labor Code with the swaps announced in a file.
+     *
+     * <p>Each line holds an ISO date and either {@code WORK} or {@code OFF}. Blank lines and lines
+     * starting with {@code #} are skipped:</p>
+     * <pre>
+     * # Lunar New Year 2025
+     * 2025-01-27 OFF
+     * 2025-02-08 WORK
+     * </pre>
+     *
+     * @param path the path of the file, in UTF-8
+     * @return a new {@code BusinessCalendar} instance
+     * @throws IOException if an I/O error occurs
+     * @throws IllegalArgumentException if a line is malformed
+     */
+    public static BusinessCalendar ofOverrides(Path path) throws IOException {
+        Objects.requireNonNull(path, "path");
+
+        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            return read(reader);
+        }
+    }
+
+    /**
+     * Reads the swaps of a calendar from lines of a date and {@code WORK} or {@code OFF}.
+     *
+     * @param reader the reader of the lines
+     * @return a new {@code BusinessCalendar} instance
+     * @throws IOException if an I/O error occurs
+     * @throws IllegalArgumentException if a line is malformed
+     */
+    static BusinessCalendar read(Reader reader) throws IOException {
+        BufferedReader lines = new BufferedReader(reader);
+        long[] workingDays = new long[16];
+        long[] daysOff = new long[16];
+        int workingCount = 0;
+        int offCount = 0;
+
+        String line;
+        while ((line = lines.readLine()) != null) {
+            line = line.strip();
+            if (line.isEmpty() || line.startsWith("#"))
+                continue;
+
+            String[] columns = line.split("\\s+");
+            if (columns.length != 2)
+                throw new IllegalArgumentException("Malformed override line: " + line);
+
+            long epochDay;
+            try {
+                epochDay = LocalDate.parse(columns[0]).toEpochDay();
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException("Malformed override line: " + line, e);
+            }
+
+            switch (columns[1]) {
+                case "WORK" -> {
+                    if (workingCount == workingDays.length)
+                        workingDays = Arrays.copyOf(workingDays, 2 * workingCount);
+                    workingDays[workingCount++] = epochDay;
+                }
+                case "OFF" -> {
+                    if (offCount == daysOff.length)
+                        daysOff = Arrays.copyOf(daysOff, 2 * offCount);
+                    daysOff[offCount++] = epochDay;
+                }
+                default -> throw new IllegalArgumentException("Malformed override line: " + line);
+            }
+        }
+
+        workingDays = Arrays.copyOf(workingDays, workingCount);
+        daysOff = Arrays.copyOf(daysOff, offCount);
+        Arrays.sort(workingDays);
+        Arrays.sort(daysOff);
+
+        return new BusinessCalendar(workingDays, daysOff);
+    }
+
+    /**
+     * Checks if a date is a working day.
+     *
+     * @param date the solar date
+     * @param zoneId the reference time zone of the lunar holidays
+     * @return {@code true} if {@code date} is a working day
+     * @throws NullPointerException if any argument is null
+     */
+    public boolean isBusinessDay(LocalDate date, ZoneId zoneId) {
+        Objects.requireNonNull(date, "date");
+        Objects.requireNonNull(zoneId, "zoneId");
+
+        int bit = date.getDayOfYear() - 1;
+        return (yearOf(date.getYear(), zoneId)[bit >>> 6] & 1L << bit) != 0;
+    }
+
+    /**
+     * Returns the working day a number of working days after a date.
+     *
+     * <p>The date itself is not counted, so that adding one working day to a Friday returns the next Monday
+     * if it is a working day. A negative number counts working days before the date, and zero returns the
+     * date itself.</p>
+     *
+     * @param date the solar date
+     * @param businessDays the number of working days to add, may be negative
+     * @param zoneId the reference time zone of the lunar holidays
+     * @return the working day reached
+     * @throws NullPointerException if any argument is null
+     */
+    public LocalDate plusBusinessDays(LocalDate date, long businessDays, ZoneId zoneId) {
+        Objects.requireNonNull(date, "date");
+        Objects.requireNonNull(zoneId, "zoneId");
+
+        if (businessDays == 0)
+            return date;
+
+        int year = date.getYear();
+        long remaining = Math.abs(businessDays);
+
+        if (businessDays > 0) {
+            // The working days after the date, year after year
+            int from = date.getDayOfYear();
+            while (true) {
+                long[] bits = yearOf(year, zoneId);
+                int to = Year.of(year).length();
+                int available = count(bits, from, to);
+
+                if (remaining <= available)
+                    return LocalDate.ofYearDay(year, nthSetBit(bits, from, (int) remaining) + 1);
+
+                remaining -= available;
+                year++;
+                from = 0;
+            }
+        }
+
+        // The working days before the date, year after year backwards
+        int to = date.getDayOfYear() - 1;
+        while (true) {
+            long[] bits = yearOf(year, zoneId);
+            int available = count(bits, 0, to);
+
+            if (remaining <= available)
+                return LocalDate.ofYearDay(year, nthSetBit(bits, 0, (int) (available - remaining + 1)) + 1);
+
+            remaining -= available;
+            year--;
+            to = Year.of(year).length();
+        }
+    }
+
+    /**
+     * Returns the number of working days in a range of dates.
+     *
+     * @param from the first solar date, inclusive
+     * @param toExclusive the last solar date, exclusive
+     * @param zoneId the reference time zone of the lunar holidays
+     * @return the number of working days, negative if {@code toExclusive} is before {@code from}
+     * @throws NullPointerException if any argument is null
+     */
+    public long businessDaysBetween(LocalDate from, LocalDate toExclusive, ZoneId zoneId) {
+        Objects.requireNonNull(from, "from");
+        Objects.requireNonNull(toExclusive, "toExclusive");
+        Objects.requireNonNull(zoneId, "zoneId");
+
+        if (toExclusive.isBefore(from))
+            return -businessDaysBetween(toExclusive, from, zoneId);
+
+        long total = 0;
+        for (int year = from.getYear(); year <= toExclusive.getYear(); year++) {
+            int start = year == from.getYear() ? from.getDayOfYear() - 1 : 0;
+            int end = year == toExclusive.getYear() ? toExclusive.getDayOfYear() - 1 : Year.of(year).length();
+
+            if (start < end)
+                total += count(yearOf(year, zoneId), start, end);
+        }
+
+        return total;
+    }
+
+    private long[] yearOf(int year, ZoneId zoneId) {
+        return years.get(year, zoneId, yearLoader);
+    }
+
+    /**
+     * Computes the working days of a year.
+     *
+     * @param year the solar year
+     * @param zoneId the reference time zone of the lunar holidays
+     * @return the bitset of the working days, by day of year minus one
+     */
+    private long[] newYear(int year, ZoneId zoneId) {
+        long[] bits = new long[WORDS_PER_YEAR];
+        long firstDay = LocalDate.of(year, 1, 1).toEpochDay();
+        int length = Year.of(year).length();
+
+        // The statutory holidays, by day of year minus one
+        int[] holidays = new int[SINGLE_DAY_HOLIDAYS.length + LUNAR_NEW_YEAR_DAYS + 1];
+        int count = 0;
+
+        for (HolidayRule rule : SINGLE_DAY_HOLIDAYS) {
+            // The first occurrence, a leap month of the same number is not a holiday
+            LocalDate date = rule.occurrences(year, year, zoneId).getFirst();
+            holidays[count++] = date.getDayOfYear() - 1;
+        }
+
+        LocalDate nationalDay = LocalDate.of(year, 9, 2);
+        LocalDate dayBefore = nationalDay.minusDays(1);
+        holidays[count++] = (dayBefore.getDayOfWeek() == DayOfWeek.SUNDAY ? nationalDay.plusDays(1) : dayBefore)
+                .getDayOfYear() - 1;
+
+        // The Lunar New Year always starts after January 20
+        int lunarNewYear = LUNAR_NEW_YEAR.occurrences(year, year, zoneId).getFirst()
+                .getDayOfYear() - 1;
+        for (int i = -1; i < LUNAR_NEW_YEAR_DAYS - 1; i++)
+            holidays[count++] = lunarNewYear + i;
+
+        Arrays.sort(holidays, 0, count);
+
+        // Weekdays, then the holidays
+        DayOfWeek firstDayOfWeek = LocalDate.ofEpochDay(firstDay).getDayOfWeek();
+        for (int day = 0; day < length; day++) {
+            if (!isWeekend(firstDayOfWeek, day))
+                set(bits, day);
+        }
+
+        for (int i = 0; i < count; i++)
+            clear(bits, holidays[i]);
+
+        // A holiday on a weekend is substituted by the next working day
+        for (int i = 0; i < count; i++) {
+            if (!isWeekend(firstDayOfWeek, holidays[i]))
+                continue;
+
+            int substitute = nextSetBit(bits, holidays[i] + 1, length);
+            if (substitute >= 0)
+                clear(bits, substitute);
+        }
+
+        // The announced swaps
+        long endDay = firstDay + length;
+        for (int i = lowerBound(workingDays, firstDay); i < workingDays.length && workingDays[i] < endDay; i++)
+            set(bits, (int) (workingDays[i] - firstDay));
+        for (int i = lowerBound(daysOff, firstDay); i < daysOff.length && daysOff[i] < endDay; i++)
+            clear(bits, (int) (daysOff[i] - firstDay));
+
+        return bits;
+    }
+
+    private static boolean isWeekend(DayOfWeek firstDayOfWeek, int day) {
+        DayOfWeek dayOfWeek = firstDayOfWeek.plus(day);
+        return dayOfWeek == DayOfWeek.SATURDAY || dayOfWeek == DayOfWeek.SUNDAY;
+    }
+
+    private static void set(long[] bits, int bit) {
+        bits[bit >>> 6] |= 1L << bit;
+    }
+
+    private static void clear(long[] bits, int bit) {
+        bits[bit >>> 6] &= ~(1L << bit);
+    }
+
+    /**
+     * Returns the index of the first element not less than a key in a sorted array.
+     */
+    private static int lowerBound(long[] sorted, long key) {
+        int index = Arrays.binarySearch(sorted, key);
+        if (index < 0)
+            return -index - 1;
+
+        // The first of equal elements
+        while (index > 0 && sorted[index - 1] == key)
+            index--;
+
+        return index;
+    }
+
+    /**
+     * Returns a word of a bitset restricted to a range of bits.
+     *
+     * @param bits the bitset
+     * @param word the index of the word
+     * @param from the first bit, inclusive
+     * @param to the last bit, exclusive
+     * @return the bits of the word inside the range
+     */
+    private static long wordInRange(long[] bits, int word, int from, int to) {
+        long value = bits[word];
+        int first = word << 6;
+
+        if (from > first)
+            value &= -1L << (from - first);
+        if (to < first + Long.SIZE)
+            value &= (1L << (to - first)) - 1;
+
+        return value;
+    }
+
+    /**
+     * Counts the bits set in a range of a bitset.
+     */
+    static int count(long[] bits, int from, int to) {
+        int total = 0;
+        for (int word = from >>> 6; word << 6 < to; word++)
+            total += Long.bitCount(wordInRange(bits, word, from, to));
+
+        return total;
+    }
+
+    /**
+     * Returns the index of the n-th bit set from the start of a range of a bitset.
+     *
+     * @param bits the bitset
+     * @param from the first bit of the range, inclusive
+     * @param n the rank of the bit, from 1, not more than the bits set in the range
+     * @return the index of the bit
+     */
+    static int nthSetBit(long[] bits, int from, int n) {
+        for (int word = from >>> 6; ; word++) {
+            long value = wordInRange(bits, word, from, Integer.MAX_VALUE);
+            int count = Long.bitCount(value);
+
+            if (n > count) {
+                n -= count;
+                continue;
+            }
+
+            // Clears the lower bits set
+            for (int i = 1; i < n; i++)
+                value &= value - 1;
+
+            return (word << 6) + Long.numberOfTrailingZeros(value);
+        }
+    }
+
+    /**
+     * Returns the index of the first bit set in a range of a bitset.
+     *
+     * @return the index of the bit, or -1 if none is set
+     */
+    private static int nextSetBit(long[] bits, int from, int to) {
+        for (int word = from >>> 6; word << 6 < to; word++) {
+            long value = wordInRange(bits, word, from, to);
+            if (value != 0)
+                return (word << 6) + Long.numberOfTrailingZeros(value);
+        }
+
+        return -1;
+    }
+}
@@ -0,0 +1,237 @@
+package io.github.ethanlamtt.vietchrono.calendar;
+
+/**
+ * Represents for a snapshot of the statistics of a calendar cache.
+ *
+ * <p>This class is immutable and thread-safe.</p>
+ *
+ * @author ethanlamtt
+ * @since 1.0.0
+ */
+public final class CacheStats {
+
+    /**
+     * The statistics of a cache which has never been used.
+     */
+    private static final CacheStats EMPTY = new CacheStats(0, 0, 0, 0, 0, 0);
+
+    /**
+     * The number of lookups which found a cached value.
+     */
+    private final long hitCount;
+
+    /**
+     * The number of lookups which had to load a value.
+     */
+    private final long missCount;
+
+    /**
+     * The number of cached values removed to make room for others.
+     */
+    private final long evictionCount;
+
+    /**
+     * The total time spent loading values, in nanoseconds.
+     */
+    private final long totalLoadTime;
+
+    /**
+     * The number of values currently cached.
+     */
+    private final long size;
+
+    /**
+     * The maximum number of values the cache can hold.
+     */
+    private final long maximumSize;
+
+    /**
+     * Constructs a {@code CacheStats} with the specified counters.
+     *
+     * @param hitCount the number of lookups which found a cached value
+     * @param missCount the number of lookups which had to load a value
+     * @param evictionCount the number of evicted values
+     * @param totalLoadTime the total time spent loading values, in nanoseconds
+     * @param size the number of values currently cached
+     * @param maximumSize the maximum number of values the cache can hold
+     * @throws IllegalArgumentException if any counter is negative.
+     */
+    private CacheStats(long hitCount, long missCount, long evictionCount,
+                       long totalLoadTime, long size, long maximumSize) {
+        if (hitCount < 0 || missCount < 0 || evictionCount < 0
+                || totalLoadTime < 0 || size < 0 || maximumSize < 0)
+            throw new IllegalArgumentException("Counters must not be negative");
+
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.totalLoadTime = totalLoadTime;
+        this.size = size;
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+     * Returns a {@code CacheStats} with the specified counters.
+     *
+     * @param hitCount the number of lookups which found a cached value
+     * @param missCount the number of lookups which had to load a value
+     * @param evictionCount the number of evicted values
+     * @param totalLoadTime the total time spent loading values, in nanoseconds
+     * @param size the number of values currently cached
+     * @param maximumSize the maximum number of values the cache can hold
+     * @return a {@code CacheStats} instance.
+     * @throws IllegalArgumentException if any counter is negative.
+     */
+    public static CacheStats of(long hitCount, long missCount, long evictionCount,
+                                long totalLoadTime, long size, long maximumSize) {
+        return new CacheStats(hitCount, missCount, evictionCount, totalLoadTime, size, maximumSize);
+    }
+
+    /**
+     * Returns the statistics of a cache which has never been used.
+     *
+     * @return an empty {@code CacheStats} instance.
+     */
+    public static CacheStats empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Obtains the number of lookups which found a cached value.
+     * @return the hit count
+     */
+    public long hitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Obtains the number of lookups which had to load a value.
+     * @return the miss count
+     */
+    public long missCount() {
+        return missCount;
+    }
+
+    /**
+     * Obtains the number of cached values removed to make room for others.
+     * @return the eviction count
+     */
+    public long evictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * Obtains the total time spent loading values.
+     * @return the total load time in nanoseconds
+     */
+    public long totalLoadTime() {
+        return totalLoadTime;
+    }
+
+    /**
+     * Obtains the number of values currently cached.
+     * @return the size
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Obtains the maximum number of values the cache can hold.
+     * @return the maximum size
+     */
+    public long maximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Returns the number of lookups.
+     * @return the sum of hits and misses
+     */
+    public long requestCount() {
+        return hitCount + missCount;
+    }
+
+    /**
+     * Returns the ratio of lookups which found a cached value.
+     * @return the hit rate, 1.0 if there was no lookup
+     */
+    public double hitRate() {
+        long requestCount = requestCount();
+        return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+    }
+
+    /**
+     * Returns the average time spent loading a value.
+     * @return the average load time in nanoseconds, 0.0 if nothing was loaded
+     */
+    public double averageLoadPenalty() {
+        return missCount == 0 ? 0.0 : (double) totalLoadTime / missCount;
+    }
+
+    /**
+     * Returns the sum of this and the specified statistics.
+     *
+     * @param other the statistics to add
+     * @return a {@code CacheStats} holding the sums of the counters.
+     */
+    public CacheStats plus(CacheStats other) {
+        return new CacheStats(hitCount + other.hitCount,
+                              missCount + other.missCount,
+                              evictionCount + other.evictionCount,
+                              totalLoadTime + other.totalLoadTime,
+                              size + other.size,
+                              maximumSize + other.maximumSize);
+    }
+
+    /**
+     * Compares this instance with the specified object for equality.
+     *
+     * @param o the object to be compared.
+     * @return {@code true} if the two objects are equal; otherwise {@code false}.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+
+        if (!(o instanceof CacheStats other))
+            return false;
+
+        return hitCount == other.hitCount
+                && missCount == other.missCount
+                && evictionCount == other.evictionCount
+                && totalLoadTime == other.totalLoadTime
+                && size == other.size
+                && maximumSize == other.maximumSize;
+    }
+
+    /**
+     * Returns a hash code of this object.
+     *
+     * @return a hash code of this object.
+     */
+    @Override
+    public int hashCode() {
+        int result = 17;
+        result = 31 * result + Long.hashCode(hitCount);
+        result = 31 * result + Long.hashCode(missCount);
+        result = 31 * result + Long.hashCode(evictionCount);
+        result = 31 * result + Long.hashCode(totalLoadTime);
+        result = 31 * result + Long.hashCode(size);
+        result = 31 * result + Long.hashCode(maximumSize);
+        return result;
+    }
+
+    /**
+     * Returns a {@code String} view of this object.
+     *
+     * @return a string view of this object.
+     */
+    @Override
+    public String toString() {
+        return String.format("CacheStats(hitCount=%d, missCount=%d, evictionCount=%d, totalLoadTime=%d, "
+                                     + "size=%d, maximumSize=%d)",
+                             hitCount, missCount, evictionCount, totalLoadTime, size, maximumSize);
+    }
+}
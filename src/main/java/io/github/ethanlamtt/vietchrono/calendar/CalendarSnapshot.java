@@ -0,0 +1,563 @@
+package io.github.ethanlamtt.vietchrono.calendar;
+
+import io.github.ethanlamtt.vietchrono.astro.SolarTime;
+import io.github.ethanlamtt.vietchrono.scale.DeltaT;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.DateTimeException;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.zip.CRC32C;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+/**
+ * Represents for a snapshot file of computed calendar tables.
+ *
+ * <p>A snapshot holds the year frames of some time zones and the solar term transitions of a span of
+ * years. It is written once, then memory-mapped read-only by every process which loads it, so that a
+ * restarted JVM finds its tables without computing them. Files are replaced atomically, so processes
+ * sharing a file never see a partial write.</p>
+ * <p>A snapshot is tagged with the library version, the solar calculator and the deltaT provider which
+ * computed it and ends with a CRC-32C checksum. A stale or corrupt snapshot is ignored. Zones are
+ * stored with a hash of their rules, so that frames of a zone whose rules changed are ignored.</p>
+ * <p>This class is immutable and thread-safe.</p>
+ *
+ * @author ethanlamtt
+ * @since 1.0.0
+ */
+final class CalendarSnapshot {
+
+    /**
+     * The system property naming a snapshot file loaded on startup.
+     */
+    static final String PATH_PROPERTY = "vietchrono.snapshot.path";
+
+    /**
+     * The magic number of the snapshot format, "VCSN" in ASCII.
+     */
+    static final int MAGIC = 0x5643534E;
+
+    /**
+     * The version of the snapshot format.
+     */
+    static final int VERSION = 1;
+
+    /**
+     * The maximum number of month starts of a year frame, 13 months and the end of the frame.
+     */
+    private static final int MAX_MONTH_STARTS = 14;
+
+    /**
+     * The size of a year frame record: zone index, anchor year, leap month index, month start count
+     * and the month starts.
+     */
+    private static final int FRAME_BYTES = 4 * Integer.BYTES + MAX_MONTH_STARTS * Long.BYTES;
+
+    /**
+     * Number of solar term transitions in a tropical year.
+     */
+    static final int TERMS_PER_YEAR = 24;
+
+    /**
+     * The resource holding the library version.
+     */
+    private static final String VERSION_RESOURCE = "data/version.properties";
+
+    /**
+     * The version of this library, tagging the snapshots it writes.
+     */
+    private static final String LIBRARY_VERSION = loadLibraryVersion();
+
+    /**
+     * The snapshot without any entry.
+     */
+    private static final CalendarSnapshot EMPTY = new CalendarSnapshot(
+            Map.of(), ByteBuffer.allocate(0), 0, 0, ByteBuffer.allocate(0), 0);
+
+    /**
+     * Indexes of the stored zones whose rules are unchanged, by zone id.
+     */
+    private final Map<String, Integer> zoneIndexes;
+
+    /**
+     * The year frame records, sorted by zone index then anchor year.
+     */
+    private final ByteBuffer frames;
+
+    /**
+     * The number of year frame records.
+     */
+    private final int frameCount;
+
+    /**
+     * The solar year of the first stored transition.
+     */
+    private final int firstTermYear;
+
+    /**
+     * Epoch seconds of consecutive solar term transitions, from Minor Cold of {@code firstTermYear}.
+     */
+    private final ByteBuffer terms;
+
+    /**
+     * The number of stored transitions.
+     */
+    private final int termCount;
+
+    private CalendarSnapshot(Map<String, Integer> zoneIndexes, ByteBuffer frames, int frameCount,
+                             int firstTermYear, ByteBuffer terms, int termCount) {
+        this.zoneIndexes = Objects.requireNonNull(zoneIndexes, "zoneIndexes");
+        this.frames = Objects.requireNonNull(frames, "frames");
+        this.frameCount = frameCount;
+        this.firstTermYear = firstTermYear;
+        this.terms = Objects.requireNonNull(terms, "terms");
+        this.termCount = termCount;
+    }
+
+    /**
+     * Returns a snapshot without any entry.
+     *
+     * @return an empty snapshot
+     */
+    static CalendarSnapshot empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Opens the snapshot named by the {@value #PATH_PROPERTY} system property.
+     *
+     * @return the snapshot, or an empty snapshot if the property is not set or the file is missing,
+     * unreadable, stale or corrupt
+     */
+    static CalendarSnapshot ofConfiguredPath() {
+        String path = System.getProperty(PATH_PROPERTY);
+        if (path == null || path.isBlank())
+            return EMPTY;
+
+        try {
+            return open(Path.of(path));
+        } catch (IOException | RuntimeException e) {
+            return EMPTY;
+        }
+    }
+
+    /**
+     * Memory-maps a snapshot file.
+     *
+     * @param path the snapshot file
+     * @return the snapshot, or an empty snapshot if the file is stale or corrupt
+     * @throws IOException if the file cannot be read
+     */
+    static CalendarSnapshot open(Path path) throws IOException {
+        Objects.requireNonNull(path, "path");
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            try {
+                return read(buffer);
+            } catch (IllegalArgumentException | IndexOutOfBoundsException | BufferUnderflowException e) {
+                return EMPTY;
+            }
+        }
+    }
+
+    /**
+     * Reads a snapshot from a buffer holding the snapshot format.
+     *
+     * @param buffer the buffer holding the whole snapshot
+     * @return the snapshot, or an empty snapshot if it is stale
+     * @throws IllegalArgumentException if the buffer does not hold a valid snapshot of the supported version
+     */
+    static CalendarSnapshot read(ByteBuffer buffer) {
+        if (buffer.remaining() < 12 || buffer.getInt(buffer.position()) != MAGIC)
+            throw new IllegalArgumentException("Not a calendar snapshot");
+
+        int checksumAt = buffer.limit() - Integer.BYTES;
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(buffer.position(), checksumAt - buffer.position()));
+        if ((int) crc.getValue() != buffer.getInt(checksumAt))
+            throw new IllegalArgumentException("Checksum mismatch");
+
+        buffer.getInt();
+        int version = buffer.getInt();
+        if (version != VERSION)
+            throw new IllegalArgumentException("Unsupported calendar snapshot version: " + version);
+
+        String libraryVersion = readUTF(buffer);
+        String calculatorName = readUTF(buffer);
+        String deltaTProviderName = readUTF(buffer);
+
+        double[] deltaTSamples = new double[buffer.getInt()];
+        for (int i = 0; i < deltaTSamples.length; i++)
+            deltaTSamples[i] = buffer.getDouble();
+
+        if (!libraryVersion.equals(LIBRARY_VERSION)
+                || !calculatorName.equals(SolarTime.getInstance().calculatorName())
+                || !deltaTProviderName.equals(DeltaT.getInstance().providerName())
+                || !DeltaT.getInstance().matchesFingerprint(deltaTSamples))
+            return EMPTY;
+
+        int zoneCount = buffer.getInt();
+        Map<String, Integer> zoneIndexes = new HashMap<>();
+        for (int i = 0; i < zoneCount; i++) {
+            String zoneId = readUTF(buffer);
+            int rulesHash = buffer.getInt();
+            if (rulesHashOf(zoneId) == rulesHash)
+                zoneIndexes.put(zoneId, i);
+        }
+
+        int firstTermYear = buffer.getInt();
+        int termCount = buffer.getInt();
+        ByteBuffer terms = buffer.slice(buffer.position(), termCount * Long.BYTES);
+        buffer.position(buffer.position() + termCount * Long.BYTES);
+
+        int frameCount = buffer.getInt();
+        ByteBuffer frames = buffer.slice(buffer.position(), frameCount * FRAME_BYTES);
+        buffer.position(buffer.position() + frameCount * FRAME_BYTES);
+
+        if (buffer.position() != checksumAt)
+            throw new IllegalArgumentException("Unexpected snapshot length");
+
+        return new CalendarSnapshot(Map.copyOf(zoneIndexes), frames, frameCount, firstTermYear, terms, termCount);
+    }
+
+    /**
+     * Finds the year frame of an anchor year in a time zone.
+     *
+     * @param anchorYear the anchor year
+     * @param zoneId the reference time zone
+     * @return the record index, or -1 if the frame is not stored
+     */
+    int findYearFrame(int anchorYear, ZoneId zoneId) {
+        Integer zoneIndex = zoneIndexes.get(zoneId.getId());
+        if (zoneIndex == null)
+            return -1;
+
+        int low = 0;
+        int high = frameCount - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int offset = middle * FRAME_BYTES;
+
+            int compare = Integer.compare(frames.getInt(offset), zoneIndex);
+            if (compare == 0)
+                compare = Integer.compare(frames.getInt(offset + Integer.BYTES), anchorYear);
+
+            if (compare < 0)
+                low = middle + 1;
+            else if (compare > 0)
+                high = middle - 1;
+            else
+                return middle;
+        }
+
+        return -1;
+    }
+
+    /**
+     * Returns the leap month index of a stored year frame.
+     *
+     * @param record the record index
+     * @return the leap month index, or -1 if the frame has no leap month
+     */
+    int leapMonthIndexAt(int record) {
+        return frames.getInt(record * FRAME_BYTES + 2 * Integer.BYTES);
+    }
+
+    /**
+     * Returns the month starts of a stored year frame.
+     *
+     * @param record the record index
+     * @return the local epoch days of the month starts, including the end of the frame
+     */
+    long[] monthStartsAt(int record) {
+        int offset = record * FRAME_BYTES;
+        long[] monthStarts = new long[frames.getInt(offset + 3 * Integer.BYTES)];
+
+        for (int i = 0; i < monthStarts.length; i++)
+            monthStarts[i] = frames.getLong(offset + 4 * Integer.BYTES + i * Long.BYTES);
+
+        return monthStarts;
+    }
+
+    /**
+     * Returns the stored solar term transitions of a solar year.
+     *
+     * @param year the solar year, in UTC
+     * @return the epoch seconds of the 24 transitions from Minor Cold to the winter solstice,
+     *         or null if the year is not stored
+     */
+    long[] termsOfYear(int year) {
+        long first = (long) (year - firstTermYear) * TERMS_PER_YEAR;
+        if (first < 0 || first + TERMS_PER_YEAR > termCount)
+            return null;
+
+        long[] yearTerms = new long[TERMS_PER_YEAR];
+        for (int i = 0; i < TERMS_PER_YEAR; i++)
+            yearTerms[i] = terms.getLong((int) (first + i) * Long.BYTES);
+
+        return yearTerms;
+    }
+
+    /**
+     * Obtains the solar year of the first stored transition.
+     *
+     * @return the first term year
+     */
+    int firstTermYear() {
+        return firstTermYear;
+    }
+
+    /**
+     * Obtains the number of stored year frames.
+     *
+     * @return the number of year frames
+     */
+    int frameCount() {
+        return frameCount;
+    }
+
+    /**
+     * Checks if this snapshot has no entry.
+     *
+     * @return {@code true} if this snapshot stores no year frame and no transition
+     */
+    boolean isEmpty() {
+        return frameCount == 0 && termCount == 0;
+    }
+
+    /**
+     * Collects the tables of a snapshot and writes them to a file.
+     *
+     * <p>This class is not thread-safe.</p>
+     */
+    static final class Writer {
+
+        /**
+         * The stored zones by id, in insertion order.
+         */
+        private final Map<String, Integer> zoneIndexes = new LinkedHashMap<>();
+
+        /**
+         * The rules hash of the stored zones, in insertion order.
+         */
+        private final List<Integer> rulesHashes = new ArrayList<>();
+
+        /**
+         * The year frame records, in insertion order.
+         */
+        private final ByteArrayOutputStream frames = new ByteArrayOutputStream();
+
+        /**
+         * The number of year frame records.
+         */
+        private int frameCount;
+
+        /**
+         * The zone index and anchor year of the last record, to check the order of records.
+         */
+        private long lastFrameKey = Long.MIN_VALUE;
+
+        /**
+         * The solar year of the first transition.
+         */
+        private final int firstTermYear;
+
+        /**
+         * Epoch seconds of consecutive solar term transitions.
+         */
+        private final long[] terms;
+
+        /**
+         * Constructs a {@code Writer} of the specified transitions.
+         *
+         * @param firstTermYear the solar year of the first transition
+         * @param terms the epoch seconds of consecutive transitions, from Minor Cold of {@code firstTermYear}
+         * @throws IllegalArgumentException if the transitions are not in ascending order
+         */
+        Writer(int firstTermYear, long[] terms) {
+            for (int i = 1; i < terms.length; i++) {
+                if (terms[i] <= terms[i - 1])
+                    throw new IllegalArgumentException("Transitions must be in ascending order");
+            }
+
+            this.firstTermYear = firstTermYear;
+            this.terms = terms.clone();
+        }
+
+        /**
+         * Adds a year frame. Frames must be added zone by zone, in ascending anchor years.
+         *
+         * @param zoneId the reference time zone
+         * @param anchorYear the anchor year
+         * @param monthStarts the local epoch days of the month starts, including the end of the frame
+         * @param leapMonthIndex the index of the leap month, or -1 if the frame has no leap month
+         * @throws IllegalArgumentException if the frame is out of order or has too many months
+         */
+        void addYearFrame(ZoneId zoneId, int anchorYear, long[] monthStarts, int leapMonthIndex) {
+            if (monthStarts.length > MAX_MONTH_STARTS)
+                throw new IllegalArgumentException("Too many months: " + monthStarts.length);
+
+            Integer zoneIndex = zoneIndexes.get(zoneId.getId());
+            if (zoneIndex == null) {
+                zoneIndex = zoneIndexes.size();
+                zoneIndexes.put(zoneId.getId(), zoneIndex);
+                rulesHashes.add(rulesHashOf(zoneId.getId()));
+            }
+
+            long key = (long) zoneIndex << 32 | (anchorYear - (long) Integer.MIN_VALUE);
+            if (key <= lastFrameKey)
+                throw new IllegalArgumentException("Year frames must be added in ascending order");
+            lastFrameKey = key;
+
+            DataOutputStream out = new DataOutputStream(frames);
+            try {
+                out.writeInt(zoneIndex);
+                out.writeInt(anchorYear);
+                out.writeInt(leapMonthIndex);
+                out.writeInt(monthStarts.length);
+                for (int i = 0; i < MAX_MONTH_STARTS; i++)
+                    out.writeLong(i < monthStarts.length ? monthStarts[i] : 0);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+
+            frameCount++;
+        }
+
+        /**
+         * Writes the snapshot to a file, replacing it atomically.
+         *
+         * @param path the file to write
+         * @throws IOException if the file cannot be written
+         */
+        void write(Path path) throws IOException {
+            Path directory = path.toAbsolutePath()
+                    .getParent();
+            Files.createDirectories(directory);
+
+            Path temp = Files.createTempFile(directory, "snapshot", ".tmp");
+            try {
+                Files.write(temp, toByteArray());
+                Files.move(temp, path, REPLACE_EXISTING, ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        }
+
+        /**
+         * Returns the snapshot in its file format.
+         *
+         * @return the bytes of the snapshot
+         */
+        byte[] toByteArray() {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DeltaT deltaT = DeltaT.getInstance();
+
+            try (DataOutputStream out = new DataOutputStream(bytes)) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeUTF(LIBRARY_VERSION);
+                out.writeUTF(SolarTime.getInstance().calculatorName());
+                out.writeUTF(deltaT.providerName());
+
+                double[] deltaTSamples = deltaT.fingerprint();
+                out.writeInt(deltaTSamples.length);
+                for (double sample : deltaTSamples)
+                    out.writeDouble(sample);
+
+                out.writeInt(zoneIndexes.size());
+                int i = 0;
+                for (String zoneId : zoneIndexes.keySet()) {
+                    out.writeUTF(zoneId);
+                    out.writeInt(rulesHashes.get(i++));
+                }
+
+                out.writeInt(firstTermYear);
+                out.writeInt(terms.length);
+                for (long term : terms)
+                    out.writeLong(term);
+
+                out.writeInt(frameCount);
+                frames.writeTo(out);
+                out.flush();
+
+                CRC32C crc = new CRC32C();
+                crc.update(bytes.toByteArray());
+                out.writeInt((int) crc.getValue());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+
+            return bytes.toByteArray();
+        }
+    }
+
+    /**
+     * Reads a string written by {@link DataOutputStream#writeUTF(String)}.
+     *
+     * <p>Only the characters of zone ids, class names and versions are expected, which modified UTF-8
+     * encodes like UTF-8.</p>
+     *
+     * @param buffer the buffer positioned at the string
+     * @return the string
+     */
+    private static String readUTF(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getShort() & 0xFFFF];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns a hash of the current rules of a zone, stable across JVMs.
+     *
+     * @param zoneId the zone id
+     * @return the hash, or 0 if the zone is unknown
+     */
+    private static int rulesHashOf(String zoneId) {
+        try {
+            return ZoneId.of(zoneId)
+                    .getRules()
+                    .hashCode();
+        } catch (DateTimeException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Loads the version of this library from {@value #VERSION_RESOURCE}.
+     *
+     * @return the version, or {@code "unknown"} if the resource is missing
+     */
+    private static String loadLibraryVersion() {
+        try (InputStream is = CalendarSnapshot.class.getClassLoader().getResourceAsStream(VERSION_RESOURCE)) {
+            if (is == null)
+                return "unknown";
+
+            Properties properties = new Properties();
+            properties.load(is);
+            return properties.getProperty("version", "unknown");
+        } catch (IOException e) {
+            return "unknown";
+        }
+    }
+}
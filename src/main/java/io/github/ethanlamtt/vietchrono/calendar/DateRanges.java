@@ -0,0 +1,41 @@
+package io.github.ethanlamtt.vietchrono.calendar;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Objects;
+
+/**
+ * Provides the validation of the ranges of solar dates converted by the calendars.
+ *
+ * @author ethanlamtt
+ * @since 1.0.0
+ */
+final class DateRanges {
+
+    private DateRanges() {}
+
+    /**
+     * Validates a range of solar dates and returns its number of days.
+     *
+     * @param from the first solar date, inclusive
+     * @param toExclusive the last solar date, exclusive
+     * @param zoneId the reference time zone
+     * @return the number of days in the range
+     * @throws NullPointerException if any argument is null
+     * @throws IllegalArgumentException if {@code toExclusive} is before {@code from}
+     * or the range is too large
+     */
+    static int lengthOf(LocalDate from, LocalDate toExclusive, ZoneId zoneId) {
+        Objects.requireNonNull(from, "from");
+        Objects.requireNonNull(toExclusive, "toExclusive");
+        Objects.requireNonNull(zoneId, "zoneId");
+
+        long days = toExclusive.toEpochDay() - from.toEpochDay();
+        if (days < 0)
+            throw new IllegalArgumentException("toExclusive must not be before from");
+        if (days > Integer.MAX_VALUE - 8)
+            throw new IllegalArgumentException("Range is too large: " + days + " days");
+
+        return (int) days;
+    }
+}
@@ -3,20 +3,29 @@ package io.github.ethanlamtt.vietchrono.calendar;
 import io.github.ethanlamtt.vietchrono.astro.LunarTime;
 import io.github.ethanlamtt.vietchrono.astro.Moment;
 import io.github.ethanlamtt.vietchrono.astro.SolarTime;
-import io.github.ethanlamtt.vietchrono.holiday.HolidayId;
-import io.github.ethanlamtt.vietchrono.holiday.HolidayRuleContext;
+import io.github.ethanlamtt.vietchrono.holiday.DailyHolidays;
 import io.github.ethanlamtt.vietchrono.holiday.HolidayRules;
 import io.github.ethanlamtt.vietchrono.sexagenary.SexagenaryCycle;
 import io.github.ethanlamtt.vietchrono.sexagenary.SexagenaryDateTime;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.time.*;
-import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
-import static io.github.ethanlamtt.vietchrono.astro.LunarPhase.MEAN_SYNODIC_MONTH;
 import static io.github.ethanlamtt.vietchrono.astro.LunarPhase.NEW_MOON;
 import static io.github.ethanlamtt.vietchrono.calendar.SolarTerm.WINTER_SOLSTICE;
 
@@ -40,6 +49,26 @@ final class DefaultLunisolarCalendar implements LunisolarCalendar {
      */
     private DefaultLunisolarCalendar() {}
 
+    /**
+     * Computes missing year frames.
+     */
+    private final ZonedYearCache.Loader<YearFrame> yearFrameLoader = this::loadYearFrame;
+
+    /**
+     * Computes missing year frames without prefetching adjacent years.
+     */
+    private final ZonedYearCache.Loader<YearFrame> prefetchYearFrameLoader = this::newYearFrame;
+
+    /**
+     * Computes missing November new moons.
+     */
+    private final ZonedYearCache.Loader<Moment> novemberNewMoonLoader = this::newNovemberNewMoon;
+
+    /**
+     * Computes missing solar term tables.
+     */
+    private final ZonedYearCache.Loader<long[]> termTableLoader = this::newTermTable;
+
     /**
      * Gets the initialized instance of this class.
      *
@@ -50,7 +79,11 @@ final class DefaultLunisolarCalendar implements LunisolarCalendar {
     }
 
     /**
-     * Represents for a year frame of an astronomical year.
+     * Represents for a year frame of an astronomical year in a time zone.
+     *
+     * <p>The frame runs from the new moon of the start November to the new moon of the next one.
+     * The start of every lunar month is recorded as a local epoch day, so that locating a day is
+     * a binary search.</p>
      */
     private static final class YearFrame {
 
@@ -60,9 +93,10 @@ final class DefaultLunisolarCalendar implements LunisolarCalendar {
         private final int anchorYear;
 
         /**
-         * The new moon of the start November. This is the first month of the astronomical year.
+         * The local epoch days of the new moons from the start November to the next November,
+         * both inclusive. The last element is the exclusive end of the frame.
          */
-        private final Moment currentNovNewMoon;
+        private final long[] monthStarts;
 
         /**
          * The index of a leap month. This is -1 if no leap month exists.
@@ -77,14 +111,14 @@ final class DefaultLunisolarCalendar implements LunisolarCalendar {
         /**
          * Constructs a {@code YearFrame} with a specified params.
          * @param anchorYear the anchor year
-         * @param currentNovNewMoon The new moon of the start November
+         * @param monthStarts the local epoch days of the new moons, including the end of the frame
          * @param leapMonthIndex The index of a leap month
          * @param hasLeapMonth The flag check if there's a leap month
-         * @throws NullPointerException if {@code currentNovNewMoon} is null
+         * @throws NullPointerException if {@code monthStarts} is null
          */
-        YearFrame(int anchorYear, Moment currentNovNewMoon,
+        YearFrame(int anchorYear, long[] monthStarts,
                 int leapMonthIndex, boolean hasLeapMonth) {
-            this.currentNovNewMoon = Objects.requireNonNull(currentNovNewMoon, "startNovNewMoon");
+            this.monthStarts = Objects.requireNonNull(monthStarts, "monthStarts");
             this.leapMonthIndex = leapMonthIndex;
             this.anchorYear = anchorYear;
             this.hasLeapMonth = hasLeapMonth;
@@ -93,26 +127,151 @@ final class DefaultLunisolarCalendar implements LunisolarCalendar {
         /**
          * Returns a {@code YearFrame} with a specified params.
          * @param anchorYear the anchor year
-         * @param currentNovNewMoon The new moon of the start November
+         * @param monthStarts the local epoch days of the new moons, including the end of the frame
          * @param leapMonthIndex The index of a leap month
          * @param hasLeapMonth The flag check if there's a leap month
          * @return a {@code YearFrame} instance.
          */
-        static YearFrame of(int anchorYear, Moment currentNovNewMoon,
+        static YearFrame of(int anchorYear, long[] monthStarts,
                 int leapMonthIndex, boolean hasLeapMonth) {
-            return new YearFrame(anchorYear, currentNovNewMoon, leapMonthIndex, hasLeapMonth);
+            return new YearFrame(anchorYear, monthStarts, leapMonthIndex, hasLeapMonth);
+        }
+
+        /**
+         * Checks if this frame starts after the specified local epoch day.
+         *
+         * @param epochDay the local epoch day
+         * @return {@code true} if the day belongs to an earlier frame
+         */
+        boolean startsAfter(long epochDay) {
+            return epochDay < monthStarts[0];
+        }
+
+        /**
+         * Returns the index of the lunar month containing the specified local epoch day.
+         *
+         * @param epochDay the local epoch day, which must be inside this frame
+         * @return the month index, 0 is the start November
+         */
+        int monthIndexOf(long epochDay) {
+            int index = Arrays.binarySearch(monthStarts, epochDay);
+            return index >= 0 ? index : -index - 2;
+        }
+
+        /**
+         * Returns the index of a lunar month of this frame.
+         *
+         * @param month the month value, from 1 to 12
+         * @param isLeapMonth whether the month is the leap month
+         * @return the month index, or -1 if the leap month does not exist in this frame
+         */
+        int monthIndexOf(int month, boolean isLeapMonth) {
+            // The index without a leap month, 0 is the start November
+            int index = (month + 1) % 12;
+
+            if (isLeapMonth)
+                return hasLeapMonth && index + 1 == leapMonthIndex ? leapMonthIndex : -1;
+
+            return hasLeapMonth && index >= leapMonthIndex ? index + 1 : index;
+        }
+
+        /**
+         * Returns the local epoch day on which the specified month starts.
+         *
+         * @param monthIndex the month index
+         * @return the local epoch day of the month start
+         */
+        long monthStart(int monthIndex) {
+            return monthStarts[monthIndex];
+        }
+
+        /**
+         * Returns the local epoch day on which the month following the specified one starts.
+         *
+         * @param monthIndex the month index
+         * @return the local epoch day of the next month start
+         */
+        long nextMonthStart(int monthIndex) {
+            return monthStarts[monthIndex + 1];
+        }
+
+        /**
+         * Returns the lunar date of a local epoch day in the specified month.
+         *
+         * @param monthIndex the month index containing {@code epochDay}
+         * @param epochDay the local epoch day
+         * @return the lunar date
+         */
+        LunarDate lunarDateAt(int monthIndex, long epochDay) {
+            return LunarDate.ofPacked(packedLunarDateAt(monthIndex, epochDay));
+        }
+
+        /**
+         * Returns the packed lunar date of a local epoch day in the specified month.
+         *
+         * @param monthIndex the month index containing {@code epochDay}
+         * @param epochDay the local epoch day
+         * @return the packed lunar date
+         */
+        long packedLunarDateAt(int monthIndex, long epochDay) {
+            int month = (monthIndex + 10) % 12 + 1;
+            boolean isLeapMonth = false;
+
+            if (hasLeapMonth && monthIndex >= leapMonthIndex) {
+                isLeapMonth = (monthIndex == leapMonthIndex);
+                month = (monthIndex + 9) % 12 + 1;
+            }
+
+            int lunarYear = anchorYear;
+            if (month < 11)
+                lunarYear++;
+
+            int lunarDay = (int) (epochDay - monthStarts[monthIndex]) + 1;
+
+            return LunarDate.pack(lunarYear, month, isLeapMonth, lunarDay);
         }
     }
 
     /**
-     * Year frames cache
+     * Year frames cache, keyed by anchor year and time zone.
+     */
+    private static final ZonedYearCache<YearFrame> YEAR_FRAMES = ZonedYearCache.ofConfiguredSize();
+
+    /**
+     * November new moons cache, keyed by solar year and time zone.
+     */
+    private static final ZonedYearCache<Moment> NOVEMBER_NEW_MOONS = ZonedYearCache.ofConfiguredSize();
+
+    /**
+     * Solar term tables cache, keyed by solar year. Tables do not depend on the time zone, they are
+     * all cached under UTC.
      */
-    private static final ConcurrentMap<Integer, YearFrame> YEAR_FRAMES = new ConcurrentHashMap<>();
+    private static final ZonedYearCache<long[]> TERM_TABLES = ZonedYearCache.ofConfiguredSize();
 
     /**
-     * November new moons cache.
+     * Runs the loading of year frames adjacent to a loaded one.
      */
-    private static final ConcurrentMap<Integer, Moment> NOVEMBER_NEW_MOONS = new ConcurrentHashMap<>();
+    private static volatile Executor prefetchExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * The snapshot consulted before computing year frames and solar terms.
+     */
+    private static volatile CalendarSnapshot snapshot = CalendarSnapshot.ofConfiguredPath();
+
+    /**
+     * Approximate number of days between two consecutive solar terms.
+     */
+    private static final long TERM_LENGTH_IN_DAYS = 15;
+
+    /**
+     * Number of solar term transitions in a solar year.
+     */
+    private static final int TERMS_PER_YEAR = 24;
+
+    /**
+     * Seconds in a day.
+     */
+    private static final long DAY_IN_SECONDS = 86400;
 
     private static final LunarTime LUNAR_TIME = LunarTime.getInstance();
     private static final SolarTime SOLAR_TIME = SolarTime.getInstance();
@@ -122,164 +281,680 @@ final class DefaultLunisolarCalendar implements LunisolarCalendar {
         return "Default";
     }
 
+    @Override
+    public void warmUp(int fromYear, int toYear, ZoneId zoneId) {
+        Objects.requireNonNull(zoneId, "zoneId");
+        if (toYear < fromYear)
+            throw new IllegalArgumentException("toYear must not be before fromYear");
+
+        // The first days of a year belong to the frame of the previous year
+        for (int anchorYear = fromYear - 1; anchorYear <= toYear; anchorYear++)
+            YEAR_FRAMES.get(anchorYear, zoneId, prefetchYearFrameLoader);
+    }
+
+    /**
+     * Sets the executor loading the year frames adjacent to a loaded one.
+     *
+     * @param executor the executor
+     * @throws NullPointerException if {@code executor} is null
+     */
+    static void setPrefetchExecutor(Executor executor) {
+        prefetchExecutor = Objects.requireNonNull(executor, "executor");
+    }
+
+    /**
+     * Gets the executor loading the year frames adjacent to a loaded one.
+     *
+     * @return the executor
+     */
+    static Executor getPrefetchExecutor() {
+        return prefetchExecutor;
+    }
+
+    /**
+     * Checks if the year frame of an anchor year is cached or being loaded.
+     *
+     * @param anchorYear the anchor year
+     * @param zoneId the reference time zone
+     * @return {@code true} if the frame is cached or being loaded
+     */
+    static boolean isYearFrameCached(int anchorYear, ZoneId zoneId) {
+        return YEAR_FRAMES.contains(anchorYear, zoneId);
+    }
+
+    /**
+     * Loads a snapshot file, replacing the snapshot in use.
+     *
+     * @param path the snapshot file
+     * @return {@code true} if the snapshot was loaded, {@code false} if it is stale or corrupt
+     * @throws IOException if the file cannot be read
+     */
+    static boolean loadSnapshot(Path path) throws IOException {
+        CalendarSnapshot loaded = CalendarSnapshot.open(path);
+        if (loaded.isEmpty())
+            return false;
+
+        snapshot = loaded;
+        return true;
+    }
+
+    /**
+     * Computes the tables of the specified years and time zones and writes them to a snapshot file.
+     *
+     * @param path the snapshot file
+     * @param fromYear the first solar year, inclusive
+     * @param toYear the last solar year, inclusive
+     * @param zoneIds the reference time zones
+     * @throws IOException if the file cannot be written
+     * @throws IllegalArgumentException if {@code toYear} is before {@code fromYear}
+     */
+    static void writeSnapshot(Path path, int fromYear, int toYear, Set<ZoneId> zoneIds) throws IOException {
+        Objects.requireNonNull(path, "path");
+        Objects.requireNonNull(zoneIds, "zoneIds");
+        if (toYear < fromYear)
+            throw new IllegalArgumentException("toYear must not be before fromYear");
+
+        // Transitions are padded by a year on each side, so that the days of every covered year
+        // have a previous and a next transition.
+        int firstTermYear = fromYear - 1;
+        long[] terms = new long[(toYear - fromYear + 3) * TERMS_PER_YEAR];
+        DefaultLunisolarCalendar calendar = (DefaultLunisolarCalendar) INSTANCE;
+
+        for (int year = firstTermYear; year <= toYear + 1; year++) {
+            System.arraycopy(calendar.termTableOf(year), 0,
+                             terms, (year - firstTermYear) * TERMS_PER_YEAR, TERMS_PER_YEAR);
+        }
+
+        CalendarSnapshot.Writer writer = new CalendarSnapshot.Writer(firstTermYear, terms);
+
+        for (ZoneId zoneId : zoneIds.stream().sorted(Comparator.comparing(ZoneId::getId)).toList()) {
+            for (int anchorYear = fromYear - 1; anchorYear <= toYear; anchorYear++) {
+                YearFrame yearFrame = YEAR_FRAMES.get(anchorYear, zoneId, calendar.prefetchYearFrameLoader);
+                writer.addYearFrame(zoneId, anchorYear, yearFrame.monthStarts, yearFrame.leapMonthIndex);
+            }
+        }
+
+        writer.write(path);
+    }
+
+    @Override
+    public CacheStats cacheStats() {
+        return YEAR_FRAMES.stats()
+                .plus(NOVEMBER_NEW_MOONS.stats())
+                .plus(TERM_TABLES.stats());
+    }
+
     @Override
     public LunisolarDate getDate(LocalDate solarDate, ZoneId zoneId) {
         Objects.requireNonNull(solarDate, "solarDate cannot be null");
         Objects.requireNonNull(zoneId, "zoneId");
 
-        Moment anchor = Moment.ofInstant(
-                solarDate.atStartOfDay(zoneId)
-                        .toInstant()
-        );
+        long anchor = solarDate.atStartOfDay(zoneId)
+                .toEpochSecond();
 
         LunarDate lunarDate = getLunarDate(solarDate, zoneId);
         DailySolarTerm dailySolarTerm = getSolarTermInfo(anchor);
-        SexagenaryDateTime sexagenaryDateTime = getSexagenaryDateTime(anchor, lunarDate, zoneId);
-        List<HolidayId> holidayIds = getHolidayIds(solarDate, lunarDate, dailySolarTerm);
+        SexagenaryDateTime sexagenaryDateTime = getSexagenaryDateTime(solarDate, lunarDate);
+        DailyHolidays holidays = getHolidays(solarDate, lunarDate, dailySolarTerm);
+
+        return LunisolarDate.of(solarDate, lunarDate, dailySolarTerm, sexagenaryDateTime, holidays);
+    }
 
-        return LunisolarDate.of(solarDate, lunarDate, dailySolarTerm, sexagenaryDateTime, holidayIds);
+    @Override
+    public LunisolarDate getDate(LocalDate solarDate, ZoneId zoneId, Set<LunisolarComponent> components) {
+        Objects.requireNonNull(solarDate, "solarDate cannot be null");
+        Objects.requireNonNull(zoneId, "zoneId");
+        Objects.requireNonNull(components, "components");
+
+        LunarDate lunarDate = getLunarDate(solarDate, zoneId);
+        LunisolarDate date = LunisolarDate.ofLazy(solarDate, lunarDate, new ZonedResolver(zoneId));
+
+        if (components.contains(LunisolarComponent.SOLAR_TERM))
+            date.solarTermInfo();
+        if (components.contains(LunisolarComponent.SEXAGENARY))
+            date.toSexagenaryDateTime();
+        if (components.contains(LunisolarComponent.HOLIDAYS))
+            date.holidayIds();
+
+        return date;
+    }
+
+    /**
+     * Computes the components of lunisolar dates at a time zone on demand.
+     */
+    private final class ZonedResolver implements LunisolarDate.Resolver {
+
+        /**
+         * The reference time zone.
+         */
+        private final ZoneId zoneId;
+
+        ZonedResolver(ZoneId zoneId) {
+            this.zoneId = zoneId;
+        }
+
+        @Override
+        public DailySolarTerm solarTermOf(LunisolarDate date) {
+            return getSolarTermInfo(anchorOf(date.toSolarDate()));
+        }
+
+        @Override
+        public SexagenaryDateTime sexagenaryDateTimeOf(LunisolarDate date) {
+            return getSexagenaryDateTime(date.toSolarDate(), date.toLunarDate());
+        }
+
+        @Override
+        public DailyHolidays holidaysOf(LunisolarDate date) {
+            return getHolidays(date.toSolarDate(), date.toLunarDate(), date.solarTermInfo());
+        }
+
+        private long anchorOf(LocalDate solarDate) {
+            return solarDate.atStartOfDay(zoneId)
+                    .toEpochSecond();
+        }
     }
 
     @Override
     public LunarDate getLunarDate(LocalDate solarDate, ZoneId zoneId) {
-        int solarYear = solarDate.getYear();
-        Moment anchor = Moment.ofInstant(
-                solarDate.atStartOfDay(zoneId)
-                        .toInstant()
-        );
-        Moment currentNewMoon = startNewMoonOf(anchor);
+        long epochDay = solarDate.toEpochDay();
+        YearFrame yearFrame = yearFrameOf(epochDay, zoneId);
+
+        return yearFrame.lunarDateAt(yearFrame.monthIndexOf(epochDay), epochDay);
+    }
+
+    @Override
+    public LocalDate getSolarDate(LunarDate lunarDate, ZoneId zoneId) {
+        Objects.requireNonNull(lunarDate, "lunarDate");
+        Objects.requireNonNull(zoneId, "zoneId");
+
+        // The eleventh and twelfth months start the frame anchored at their own lunar year
+        int month = lunarDate.monthValue();
+        int anchorYear = month >= 11 ? lunarDate.year() : lunarDate.year() - 1;
+        YearFrame yearFrame = yearFrameOf(anchorYear, zoneId);
+
+        int monthIndex = yearFrame.monthIndexOf(month, lunarDate.month().isLeapMonth());
+        if (monthIndex < 0)
+            throw new IllegalArgumentException("No leap month " + month + " in lunar year " + lunarDate.year());
+
+        long epochDay = yearFrame.monthStart(monthIndex) + lunarDate.dayOfMonth() - 1;
+        if (epochDay >= yearFrame.nextMonthStart(monthIndex))
+            throw new IllegalArgumentException("Day beyond the length of the month: " + lunarDate);
+
+        return LocalDate.ofEpochDay(epochDay);
+    }
+
+    @Override
+    public long getLunarDatePacked(long epochDay, ZoneOffset offset) {
+        Objects.requireNonNull(offset, "offset");
+
+        YearFrame yearFrame = yearFrameOf(epochDay, offset);
+
+        return yearFrame.packedLunarDateAt(yearFrame.monthIndexOf(epochDay), epochDay);
+    }
+
+    @Override
+    public List<LunisolarDate> getDates(LocalDate from, LocalDate toExclusive, ZoneId zoneId) {
+        int length = DateRanges.lengthOf(from, toExclusive, zoneId);
+        RangeWalker walker = new RangeWalker(from, zoneId);
+        List<LunisolarDate> dates = new ArrayList<>(length);
+
+        for (int i = 0; i < length; i++)
+            dates.add(walker.nextDate());
 
-        Moment startNovNewMoon = NOVEMBER_NEW_MOONS.computeIfAbsent(solarYear,
-                                                      y -> startNewMoonOf(winterSolstice(y)));
+        return Collections.unmodifiableList(dates);
+    }
+
+    @Override
+    public List<LunarDate> getLunarDates(LocalDate from, LocalDate toExclusive, ZoneId zoneId) {
+        int length = DateRanges.lengthOf(from, toExclusive, zoneId);
+        RangeWalker walker = new RangeWalker(from, zoneId);
+        List<LunarDate> dates = new ArrayList<>(length);
 
-        LocalDate currentNewMoonDate = currentNewMoon.atZone(zoneId)
-                .toLocalDate();
-        LocalDate currentNovNewMoonDate = startNovNewMoon.atZone(zoneId)
-                .toLocalDate();
+        for (int i = 0; i < length; i++)
+            dates.add(walker.nextLunarDate());
 
-        int expectedSolarYear = currentNewMoonDate.isBefore(currentNovNewMoonDate) ? solarYear - 1 : solarYear;
+        return Collections.unmodifiableList(dates);
+    }
+
+    @Override
+    public Stream<LunisolarDate> stream(LocalDate from, LocalDate toExclusive, ZoneId zoneId) {
+        int length = DateRanges.lengthOf(from, toExclusive, zoneId);
+
+        return StreamSupport.stream(new RangeSpliterator(from.toEpochDay(), from.toEpochDay() + length, zoneId),
+                                    false);
+    }
+
+    /**
+     * Splits a range of solar dates on year frame boundaries and walks each part with a {@code RangeWalker}.
+     *
+     * <p>A split happens at the start of the year frame nearest to the middle of the range, or at the
+     * start of the lunar month nearest to it if the range lies within a year frame.</p>
+     */
+    private final class RangeSpliterator implements Spliterator<LunisolarDate> {
 
-        YearFrame yearFrame = YEAR_FRAMES.computeIfAbsent(expectedSolarYear, (anchorYear) -> {
-            Moment currentNovNewMoon = startNovNewMoon;
+        /**
+         * The reference time zone.
+         */
+        private final ZoneId zoneId;
+
+        /**
+         * The local epoch day of the next solar date.
+         */
+        private long next;
+
+        /**
+         * The local epoch day ending the range, exclusive.
+         */
+        private final long end;
+
+        /**
+         * The walker positioned at {@code next}, null before the first step.
+         */
+        private RangeWalker walker;
+
+        RangeSpliterator(long from, long toExclusive, ZoneId zoneId) {
+            this.next = from;
+            this.end = toExclusive;
+            this.zoneId = zoneId;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super LunisolarDate> action) {
+            Objects.requireNonNull(action, "action");
+
+            if (next >= end)
+                return false;
+
+            if (walker == null)
+                walker = new RangeWalker(LocalDate.ofEpochDay(next), zoneId);
+
+            next++;
+            action.accept(walker.nextDate());
+            return true;
+        }
+
+        @Override
+        public Spliterator<LunisolarDate> trySplit() {
+            long middle = next + (end - next) / 2;
+            long boundary = splitPointNear(middle);
+
+            if (boundary <= next || boundary >= end)
+                return null;
+
+            Spliterator<LunisolarDate> prefix = new RangeSpliterator(next, boundary, zoneId);
+            next = boundary;
+            walker = null;
+
+            return prefix;
+        }
+
+        /**
+         * Returns the year frame boundary nearest to a day, the start of an 11th lunar month, or the
+         * lunar month boundary if the frame boundaries lie outside the range.
+         *
+         * @param epochDay the local epoch day
+         * @return the local epoch day of the boundary
+         */
+        private long splitPointNear(long epochDay) {
+            YearFrame yearFrame = yearFrameOf(epochDay, zoneId);
+            long yearStart = yearFrame.monthStarts[0];
+            long yearEnd = yearFrame.monthStarts[yearFrame.monthStarts.length - 1];
+
+            long nearest = epochDay - yearStart <= yearEnd - epochDay ? yearStart : yearEnd;
+            if (nearest > next && nearest < end)
+                return nearest;
+
+            long further = nearest == yearStart ? yearEnd : yearStart;
+            if (further > next && further < end)
+                return further;
+
+            int monthIndex = yearFrame.monthIndexOf(epochDay);
+            long monthStart = yearFrame.monthStarts[monthIndex];
+            long monthEnd = yearFrame.nextMonthStart(monthIndex);
+
+            return epochDay - monthStart <= monthEnd - epochDay && monthStart > next ? monthStart : monthEnd;
+        }
+
+        @Override
+        public long estimateSize() {
+            return end - next;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED | NONNULL | IMMUTABLE | DISTINCT;
+        }
+    }
+
+    /**
+     * Walks consecutive solar dates in ascending order.
+     *
+     * <p>Each new moon and each solar term transition is computed once when the walk reaches it,
+     * the days in between are filled by arithmetic. This class is not thread-safe.</p>
+     */
+    private final class RangeWalker {
+
+        /**
+         * The reference time zone.
+         */
+        private final ZoneId zoneId;
+
+        /**
+         * The solar date which will be returned by the next step.
+         */
+        private LocalDate date;
+
+        /**
+         * The lunar date of the previous step, null before the first step.
+         */
+        private LunarDate lunarDate;
+
+        /**
+         * The local epoch day on which the next lunar month starts.
+         */
+        private long nextMonthStart;
+
+        RangeWalker(LocalDate from, ZoneId zoneId) {
+            this.date = from;
+            this.zoneId = zoneId;
+        }
 
-            if (anchorYear != solarYear) {
-                currentNovNewMoon = startNewMoonOf(winterSolstice(anchorYear));
+        /**
+         * Returns the lunisolar date of the current solar date and moves to the next day.
+         *
+         * @return the lunisolar date of the current solar date
+         */
+        LunisolarDate nextDate() {
+            LocalDate solarDate = date;
+            long anchor = solarDate.atStartOfDay(zoneId)
+                    .toEpochSecond();
+
+            LunarDate lunarDate = nextLunarDate();
+            DailySolarTerm dailySolarTerm = getSolarTermInfo(anchor);
+            SexagenaryDateTime sexagenaryDateTime = getSexagenaryDateTime(solarDate, lunarDate);
+            DailyHolidays holidays = getHolidays(solarDate, lunarDate, dailySolarTerm);
+
+            return LunisolarDate.of(solarDate, lunarDate, dailySolarTerm, sexagenaryDateTime, holidays);
+        }
+
+        /**
+         * Returns the lunar date of the current solar date and moves to the next day.
+         *
+         * @return the lunar date of the current solar date
+         */
+        LunarDate nextLunarDate() {
+            long epochDay = date.toEpochDay();
+
+            if (lunarDate == null || epochDay >= nextMonthStart) {
+                YearFrame yearFrame = yearFrameOf(epochDay, zoneId);
+                int monthIndex = yearFrame.monthIndexOf(epochDay);
+
+                lunarDate = yearFrame.lunarDateAt(monthIndex, epochDay);
+                nextMonthStart = yearFrame.nextMonthStart(monthIndex);
+            } else {
+                lunarDate = LunarDate.of(lunarDate.year(), lunarDate.month(), lunarDate.dayOfMonth() + 1);
             }
 
-            Moment nextNovNewMoon = startNewMoonOf(winterSolstice(anchorYear + 1));
+            date = date.plusDays(1);
+            return lunarDate;
+        }
+    }
+
+    /**
+     * Returns the year frame containing the specified local epoch day.
+     *
+     * @param epochDay the local epoch day
+     * @param zoneId the reference time zone
+     * @return the year frame containing {@code epochDay}
+     */
+    private YearFrame yearFrameOf(long epochDay, ZoneId zoneId) {
+        int solarYear = yearOfEpochDay(epochDay);
+        YearFrame yearFrame = yearFrameOf(solarYear, zoneId);
+
+        if (yearFrame.startsAfter(epochDay))
+            yearFrame = yearFrameOf(solarYear - 1, zoneId);
+
+        return yearFrame;
+    }
 
-            int lunations = lunations(currentNovNewMoon, nextNovNewMoon);
-            boolean hasLeapMonth = (lunations == 13);
-            int leapMonthIndex = -1;
+    /**
+     * Returns the year frame of the specified anchor year.
+     *
+     * @param anchorYear the anchor year
+     * @param zoneId the reference time zone
+     * @return the year frame
+     */
+    private YearFrame yearFrameOf(int anchorYear, ZoneId zoneId) {
+        return YEAR_FRAMES.get(anchorYear, zoneId, yearFrameLoader);
+    }
 
-            if (hasLeapMonth) {
-                Moment startNewMoon = currentNovNewMoon;
-                for (int i = 0; i < 13; i++) {
-                    Moment nextNewMoon = LUNAR_TIME.after(startNewMoon, NEW_MOON);
+    /**
+     * Returns the proleptic Gregorian year of an epoch day without creating a {@code LocalDate}.
+     *
+     * @param epochDay the count of days from 1970-01-01
+     * @return the year
+     */
+    static int yearOfEpochDay(long epochDay) {
+        // Days from 0000-03-01, so that the leap day is the last day of a year of the cycle
+        long days = epochDay + 719_468;
+        long era = Math.floorDiv(days, 146_097);
+        long dayOfEra = days - era * 146_097;
+        long yearOfEra = (dayOfEra - dayOfEra / 1_460 + dayOfEra / 36_524 - dayOfEra / 146_096) / 365;
+        long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        long year = yearOfEra + era * 400;
+
+        // Days from March 1, January and February belong to the next year
+        return (int) (dayOfYear >= 306 ? year + 1 : year);
+    }
 
-                    double startNewMoonLongitude = SOLAR_TIME.apparentLongitudeAt(startNewMoon);
-                    double nextNewMoonLongitude = SOLAR_TIME.apparentLongitudeAt(nextNewMoon);
+    /**
+     * Computes a year frame and prefetches the frames of the previous and next years.
+     *
+     * @param anchorYear the anchor year
+     * @param zoneId the reference time zone
+     * @return the year frame
+     */
+    private YearFrame loadYearFrame(int anchorYear, ZoneId zoneId) {
+        YearFrame yearFrame = newYearFrame(anchorYear, zoneId);
 
-                    SolarTerm currentTerm = SolarTerm.majorFrom(startNewMoonLongitude);
-                    SolarTerm nextTerm = SolarTerm.majorFrom(nextNewMoonLongitude);
+        prefetchYearFrame(anchorYear - 1, zoneId);
+        prefetchYearFrame(anchorYear + 1, zoneId);
 
-                    if (currentTerm == nextTerm) {
-                        leapMonthIndex = i;
-                        break;
-                    }
+        return yearFrame;
+    }
 
-                    startNewMoon = nextNewMoon;
+    /**
+     * Loads the year frame of an anchor year in the background if it is not cached.
+     *
+     * <p>Prefetching is best effort, failures are left to the next regular lookup of the same year.</p>
+     *
+     * @param anchorYear the anchor year
+     * @param zoneId the reference time zone
+     */
+    private void prefetchYearFrame(int anchorYear, ZoneId zoneId) {
+        if (YEAR_FRAMES.contains(anchorYear, zoneId))
+            return;
+
+        try {
+            prefetchExecutor.execute(() -> {
+                try {
+                    YEAR_FRAMES.get(anchorYear, zoneId, prefetchYearFrameLoader);
+                } catch (RuntimeException ignored) {
+                    // Thrown again by the next regular lookup of this year
                 }
+            });
+        } catch (RejectedExecutionException ignored) {
+            // Prefetching is skipped while the executor does not accept tasks
+        }
+    }
 
-                if (leapMonthIndex == -1)
-                    throw new IllegalStateException("No leap month found");
-            }
+    /**
+     * Computes a year frame by a single sweep over its new moons.
+     *
+     * <p>Each new moon is computed once, and the apparent longitude of the Sun is evaluated once at the
+     * local start of each month to find the first month without a major solar term.</p>
+     *
+     * @param anchorYear the anchor year
+     * @param zoneId the reference time zone
+     * @return the year frame
+     * @throws IllegalStateException if the frame has an unexpected number of months
+     */
+    private YearFrame newYearFrame(int anchorYear, ZoneId zoneId) {
+        CalendarSnapshot snapshot = DefaultLunisolarCalendar.snapshot;
+        int record = snapshot.findYearFrame(anchorYear, zoneId);
+        if (record >= 0) {
+            int leapMonthIndex = snapshot.leapMonthIndexAt(record);
+            return YearFrame.of(anchorYear, snapshot.monthStartsAt(record), leapMonthIndex, leapMonthIndex >= 0);
+        }
 
-            return YearFrame.of(anchorYear, currentNovNewMoon, leapMonthIndex, hasLeapMonth);
-        });
+        long currentNovNewMoon = novemberNewMoonOf(anchorYear, zoneId);
+        long nextNovNewMoon = novemberNewMoonOf(anchorYear + 1, zoneId);
+        long lastStart = nextNovNewMoon - TERM_LENGTH_IN_DAYS * DAY_IN_SECONDS;
 
-        int anchorYear = yearFrame.anchorYear;
-        Moment currentNovNewMoon = yearFrame.currentNovNewMoon;
-        int leapMonthIndex = yearFrame.leapMonthIndex;
-        boolean hasLeapMonth = yearFrame.hasLeapMonth;
+        // At most 13 lunations between the two new moons
+        long[] newMoons = new long[15];
+        int count = 0;
+        newMoons[count++] = currentNovNewMoon;
 
-        int monthIndex = lunations(currentNovNewMoon, currentNewMoon);
+        long newMoon = LUNAR_TIME.afterEpochSecond(currentNovNewMoon + DAY_IN_SECONDS, NEW_MOON);
+        while (newMoon < lastStart && count < newMoons.length - 1) {
+            newMoons[count++] = newMoon;
+            newMoon = LUNAR_TIME.afterEpochSecond(newMoon + DAY_IN_SECONDS, NEW_MOON);
+        }
+        newMoons[count++] = nextNovNewMoon;
 
-        int month = (monthIndex + 10) % 12 + 1;
-        boolean isLeapMonth = false;
+        int lunations = count - 1;
+        if (lunations != 12 && lunations != 13)
+            throw new IllegalStateException("Unexpected number of lunations: " + lunations);
 
-        if (hasLeapMonth) {
-            if (monthIndex == leapMonthIndex)
-                isLeapMonth = true;
-            else if (monthIndex > leapMonthIndex)
-                month = (monthIndex + 9) % 12 + 1;
+        long[] monthStarts = new long[count];
+        long[] monthStartAnchors = new long[count];
+
+        for (int i = 0; i < monthStarts.length; i++) {
+            LocalDate monthStart = LocalDate.ofInstant(Instant.ofEpochSecond(newMoons[i]), zoneId);
+
+            monthStarts[i] = monthStart.toEpochDay();
+            monthStartAnchors[i] = monthStart.atStartOfDay(zoneId)
+                    .toEpochSecond();
         }
 
-        int lunarYear = anchorYear;
-        if (month < 11)
-            lunarYear++;
+        // The longitudes at the starts of the months, in one batch
+        double[] longitudes = new double[count];
+        SOLAR_TIME.apparentLongitudesAt(monthStartAnchors, longitudes, 0, count);
 
-        LocalDate anchorDate = anchor.atZone(zoneId)
-                .toLocalDate();
+        SolarTerm[] majorTerms = new SolarTerm[count];
+        for (int i = 0; i < count; i++)
+            majorTerms[i] = SolarTerm.majorFrom(longitudes[i]);
 
-        LocalDate newMoonDate = currentNewMoon.atZone(zoneId)
-                .toLocalDate();
+        boolean hasLeapMonth = (lunations == 13);
+        int leapMonthIndex = -1;
 
-        int lunarDay = (int) (anchorDate.toEpochDay() - newMoonDate.toEpochDay()) + 1;
+        if (hasLeapMonth) {
+            for (int i = 0; i < lunations; i++) {
+                if (majorTerms[i] == majorTerms[i + 1]) {
+                    leapMonthIndex = i;
+                    break;
+                }
+            }
+
+            if (leapMonthIndex == -1)
+                throw new IllegalStateException("No leap month found");
+        }
 
-        LunarMonth lunarMonth = LunarMonth.of(month, isLeapMonth);
+        return YearFrame.of(anchorYear, monthStarts, leapMonthIndex, hasLeapMonth);
+    }
 
-        return LunarDate.of(lunarYear, lunarMonth, lunarDay);
+    /**
+     * Returns the new moon starting the lunar month which contains the local date of the winter solstice.
+     *
+     * @param solarYear the solar year of the winter solstice
+     * @param zoneId the reference time zone
+     * @return the new moon of the eleventh lunar month
+     */
+    private long novemberNewMoonOf(int solarYear, ZoneId zoneId) {
+        return NOVEMBER_NEW_MOONS.get(solarYear, zoneId, novemberNewMoonLoader)
+                .value();
     }
 
-    private int lunations(Moment start, Moment end) {
-        double offsetDays = end.toEphemeris().value() - start.toEphemeris().value();
-        return (int) Math.round(offsetDays / MEAN_SYNODIC_MONTH);
+    private Moment newNovemberNewMoon(int solarYear, ZoneId zoneId) {
+        LocalDate solsticeDate = LocalDate.ofInstant(Instant.ofEpochSecond(winterSolstice(solarYear)), zoneId);
+
+        return Moment.of(startNewMoonOf(solsticeDate.atStartOfDay(zoneId)
+                                                .toEpochSecond()));
     }
 
-    private Moment startNewMoonOf(Moment anchor) {
-        Moment nextDayAnchor = anchor.plusDays(1);
+    private long startNewMoonOf(long anchor) {
+        long nextDayAnchor = anchor + DAY_IN_SECONDS;
 
-        return LUNAR_TIME.before(nextDayAnchor, NEW_MOON);
+        return LUNAR_TIME.beforeEpochSecond(nextDayAnchor, NEW_MOON);
     }
 
-    private Moment winterSolstice(int solarYear) {
-        Instant anchorInstant = LocalDate.of(solarYear, 12, 14)
+    private long winterSolstice(int solarYear) {
+        long anchor = LocalDate.of(solarYear, 12, 14)
                 .atStartOfDay()
-                .toInstant(ZoneOffset.UTC);
-
-        Moment anchor = Moment.ofInstant(anchorInstant);
+                .toEpochSecond(ZoneOffset.UTC);
 
-        return SOLAR_TIME.atLongitude(WINTER_SOLSTICE.longitude(), anchor);
+        return SOLAR_TIME.atLongitudeEpochSecond(WINTER_SOLSTICE.longitude(), anchor);
     }
 
-    private DailySolarTerm getSolarTermInfo(Moment anchor) {
-        double currentLongitude = SOLAR_TIME.apparentLongitudeAt(anchor);
-        SolarTerm currentTerm = SolarTerm.from(currentLongitude);
-        SolarTerm nextTerm = currentTerm.nextTerm();
-        Moment transition = SOLAR_TIME.atLongitude(nextTerm.longitude(), anchor);
+    /**
+     * Returns the solar term of the day starting at the specified anchor, from the term tables.
+     *
+     * @param epochSecond the start of the day, in seconds from Unix epoch
+     * @return the solar term of the day
+     */
+    private DailySolarTerm getSolarTermInfo(long epochSecond) {
+        int year = yearOfEpochDay(Math.floorDiv(epochSecond, DAY_IN_SECONDS));
+        long[] terms = termTableOf(year);
+
+        // The last transition not after the anchor, -1 if it is the winter solstice of the previous year
+        int index = Arrays.binarySearch(terms, epochSecond);
+        if (index < 0)
+            index = -index - 2;
 
-        if (transition.compareTo(anchor.plusDays(1)) >= 0)
+        SolarTerm currentTerm = SolarTerm.MINOR_COLD.roll(index);
+        long nextTransition = index + 1 < TERMS_PER_YEAR
+                ? terms[index + 1]
+                : termTableOf(year + 1)[0];
+
+        if (nextTransition >= epochSecond + DAY_IN_SECONDS)
             return DailySolarTerm.of(currentTerm, null);
 
-        return DailySolarTerm.of(nextTerm, transition);
+        return DailySolarTerm.of(currentTerm.nextTerm(), Moment.of(nextTransition));
+    }
+
+    /**
+     * Returns the solar term table of the specified solar year.
+     *
+     * @param year the solar year, in UTC
+     * @return the epoch seconds of the 24 transitions of the year, from Minor Cold to the winter solstice
+     */
+    private long[] termTableOf(int year) {
+        return TERM_TABLES.get(year, ZoneOffset.UTC, termTableLoader);
+    }
+
+    private long[] newTermTable(int year, ZoneId zoneId) {
+        long[] stored = snapshot.termsOfYear(year);
+        if (stored != null)
+            return stored;
+
+        return SOLAR_TIME.termEpochSecondsOfYear(year);
     }
 
-    private SexagenaryDateTime getSexagenaryDateTime(Moment anchor, LunarDate lunarDate, ZoneId zoneId) {
+    private SexagenaryDateTime getSexagenaryDateTime(LocalDate solarDate, LunarDate lunarDate) {
         int year = lunarDate.year();
         int month = lunarDate.monthValue();
 
         SexagenaryCycle cyclicYear = SexagenaryCycle.ofYear(year);
         SexagenaryCycle cyclicMonth = SexagenaryCycle.ofMonth(cyclicYear, month);
-        SexagenaryCycle cyclicDay = SexagenaryCycle.ofDay(anchor, zoneId);
+        SexagenaryCycle cyclicDay = SexagenaryCycle.ofEpochDay(solarDate.toEpochDay());
         SexagenaryCycle cyclicHour = SexagenaryCycle.ofHour(cyclicDay);
 
         return SexagenaryDateTime.of(cyclicYear, cyclicMonth, cyclicDay, cyclicHour);
     }
 
-    private List<HolidayId> getHolidayIds(LocalDate solarDate, LunarDate lunarDate, DailySolarTerm dailySolarTerm) {
-        HolidayRuleContext context = HolidayRuleContext.of(solarDate, lunarDate, dailySolarTerm);
-        return HolidayRules.getInstance().applyRules(context);
+    private DailyHolidays getHolidays(LocalDate solarDate, LunarDate lunarDate, DailySolarTerm dailySolarTerm) {
+        return HolidayRules.getInstance().holidaysOf(solarDate, lunarDate, dailySolarTerm);
     }
 
 }
\ No newline at end of file
@@ -18,6 +18,31 @@ public final class LunarDate implements Comparable<LunarDate> {
             .thenComparing(LunarDate::month)
             .thenComparingInt(LunarDate::dayOfMonth);
 
+    /**
+     * Bit offset of the year in a packed lunar date.
+     */
+    private static final int YEAR_SHIFT = 10;
+
+    /**
+     * Bit offset of the month in a packed lunar date.
+     */
+    private static final int MONTH_SHIFT = 6;
+
+    /**
+     * Bit mask of the month in a packed lunar date, after shifting.
+     */
+    private static final int MONTH_MASK = 0xF;
+
+    /**
+     * Bit of the leap month flag in a packed lunar date.
+     */
+    private static final int LEAP_MONTH_BIT = 0x20;
+
+    /**
+     * Bit mask of the day of month in a packed lunar date.
+     */
+    private static final int DAY_MASK = 0x1F;
+
     /**
      * The lunar year.
      */
@@ -75,6 +100,96 @@ public final class LunarDate implements Comparable<LunarDate> {
         return new LunarDate(year, month, dayOfMonth);
     }
 
+    /**
+     * Returns a LunarDate from a packed lunar date.
+     *
+     * @param packed the packed lunar date
+     * @return a {@code LunarDate} instance.
+     * @throws IllegalArgumentException if {@code packed} holds an invalid month or day.
+     * @see #pack(int, int, boolean, int)
+     */
+    public static LunarDate ofPacked(long packed) {
+        return new LunarDate(unpackYear(packed),
+                             LunarMonth.of(unpackMonthValue(packed), unpackLeapMonth(packed)),
+                             unpackDayOfMonth(packed));
+    }
+
+    /**
+     * Packs a lunar date into a {@code long}.
+     *
+     * <p>The year takes the upper bits, followed by 4 bits of month, 1 bit of the leap month flag
+     * and 5 bits of day of month. Comparing packed values as signed {@code long}s gives the same
+     * order as {@link #compareTo(LunarDate)}, so a packed value can be used as a sortable key.</p>
+     *
+     * @param year the lunar year
+     * @param month the lunar month, from 1 to 12
+     * @param isLeapMonth the flag check if the month is a leap month
+     * @param dayOfMonth the lunar day, from 1 to 30
+     * @return the packed lunar date
+     * @throws IllegalArgumentException if {@code month} or {@code dayOfMonth} is out of range.
+     */
+    public static long pack(int year, int month, boolean isLeapMonth, int dayOfMonth) {
+        if (month < 1 || month > 12)
+            throw new IllegalArgumentException("month must start from 1 to 12");
+        if (dayOfMonth < 1 || dayOfMonth > 30)
+            throw new IllegalArgumentException("dayOfMonth must start from 1 to 30");
+
+        return ((long) year << YEAR_SHIFT)
+                | ((long) month << MONTH_SHIFT)
+                | (isLeapMonth ? LEAP_MONTH_BIT : 0)
+                | dayOfMonth;
+    }
+
+    /**
+     * Obtains the lunar year of a packed lunar date.
+     *
+     * @param packed the packed lunar date
+     * @return the lunar year
+     */
+    public static int unpackYear(long packed) {
+        return (int) (packed >> YEAR_SHIFT);
+    }
+
+    /**
+     * Obtains the lunar month of a packed lunar date.
+     *
+     * @param packed the packed lunar date
+     * @return the lunar month
+     */
+    public static int unpackMonthValue(long packed) {
+        return (int) (packed >>> MONTH_SHIFT) & MONTH_MASK;
+    }
+
+    /**
+     * Checks if the month of a packed lunar date is a leap month.
+     *
+     * @param packed the packed lunar date
+     * @return {@code true} if the month is a leap month
+     */
+    public static boolean unpackLeapMonth(long packed) {
+        return (packed & LEAP_MONTH_BIT) != 0;
+    }
+
+    /**
+     * Obtains the lunar day of a packed lunar date.
+     *
+     * @param packed the packed lunar date
+     * @return the lunar day
+     */
+    public static int unpackDayOfMonth(long packed) {
+        return (int) packed & DAY_MASK;
+    }
+
+    /**
+     * Packs this lunar date into a {@code long}.
+     *
+     * @return the packed lunar date
+     * @see #pack(int, int, boolean, int)
+     */
+    public long toPacked() {
+        return pack(year, month.value(), month.isLeapMonth(), dayOfMonth);
+    }
+
     /**
      * Obtains the lunar year.
      * @return the lunar year
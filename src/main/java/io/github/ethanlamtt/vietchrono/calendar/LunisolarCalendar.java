@@ -6,8 +6,15 @@ import io.github.ethanlamtt.vietchrono.sexagenary.SexagenaryDateTime;
 
 import java.time.LocalDate;
 import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 /**
  * Represents for a lunisolar calendar system.
@@ -24,6 +31,35 @@ public interface LunisolarCalendar {
      */
     String id();
 
+    /**
+     * Computes and caches the data needed to convert the solar dates of the specified years.
+     *
+     * <p>This method returns once the data is cached, so that later conversions of these years do not
+     * wait for astronomical computations. The default implementation does nothing.</p>
+     *
+     * @param fromYear the first solar year, inclusive
+     * @param toYear the last solar year, inclusive
+     * @param zoneId the reference time zone
+     * @throws NullPointerException if {@code zoneId} is null
+     * @throws IllegalArgumentException if {@code toYear} is before {@code fromYear}
+     */
+    default void warmUp(int fromYear, int toYear, ZoneId zoneId) {
+        Objects.requireNonNull(zoneId, "zoneId");
+        if (toYear < fromYear)
+            throw new IllegalArgumentException("toYear must not be before fromYear");
+    }
+
+    /**
+     * Returns a snapshot of the statistics of the caches of this calendar.
+     *
+     * <p>The default implementation returns empty statistics, for calendars without caches.</p>
+     *
+     * @return the combined statistics of the caches of this calendar
+     */
+    default CacheStats cacheStats() {
+        return CacheStats.empty();
+    }
+
     /**
      * Returns a lunisolar date at a specified time zone.
      *
@@ -33,7 +69,126 @@ public interface LunisolarCalendar {
      */
     LunisolarDate getDate(LocalDate solarDate, ZoneId zoneId);
 
+    /**
+     * Returns a lunisolar date at a specified time zone, computing only the specified components eagerly.
+     *
+     * <p>The lunar date is always computed. Other components not in {@code components} are computed
+     * on first access to the returned date and memoized. The default implementation computes every
+     * component.</p>
+     *
+     * @param solarDate the reference solar date
+     * @param zoneId the reference time zone
+     * @param components the components to compute eagerly
+     * @return a lunisolar date at a specified time zone.
+     * @throws NullPointerException if any argument is null
+     */
+    default LunisolarDate getDate(LocalDate solarDate, ZoneId zoneId, Set<LunisolarComponent> components) {
+        Objects.requireNonNull(components, "components");
+        return getDate(solarDate, zoneId);
+    }
+
     default LunarDate getLunarDate(LocalDate solarDate, ZoneId zoneId) {
         throw new UnsupportedOperationException();
     }
+
+    /**
+     * Returns the solar date of a lunar date at a specified time zone.
+     *
+     * <p>This is the inverse of {@link #getLunarDate(LocalDate, ZoneId)}. The default implementation
+     * throws {@code UnsupportedOperationException}.</p>
+     *
+     * @param lunarDate the reference lunar date
+     * @param zoneId the reference time zone
+     * @return the solar date on which {@code lunarDate} falls
+     * @throws NullPointerException if any argument is null
+     * @throws IllegalArgumentException if the leap month of {@code lunarDate} does not exist in its year,
+     *         or its day is beyond the length of its month
+     */
+    default LocalDate getSolarDate(LunarDate lunarDate, ZoneId zoneId) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Returns the packed lunar date of a solar date at a specified offset.
+     *
+     * <p>This is a primitive form of {@link #getLunarDate(LocalDate, ZoneId)} for bulk conversions.
+     * The default implementation delegates to it, implementations should override it to avoid
+     * allocating objects.</p>
+     *
+     * @param epochDay the solar date as a count of days from 1970-01-01
+     * @param offset the reference offset from UTC
+     * @return the packed lunar date
+     * @throws NullPointerException if {@code offset} is null
+     * @see LunarDate#pack(int, int, boolean, int)
+     */
+    default long getLunarDatePacked(long epochDay, ZoneOffset offset) {
+        Objects.requireNonNull(offset, "offset");
+        return getLunarDate(LocalDate.ofEpochDay(epochDay), offset).toPacked();
+    }
+
+    /**
+     * Returns the lunisolar dates of every solar date in a specified range at a specified time zone.
+     *
+     * <p>The default implementation converts each solar date separately. Implementations should
+     * override it to share astronomical computations between consecutive dates.</p>
+     *
+     * @param from the first solar date, inclusive
+     * @param toExclusive the last solar date, exclusive
+     * @param zoneId the reference time zone
+     * @return an unmodifiable list of lunisolar dates in ascending order of solar date
+     * @throws NullPointerException if any argument is null
+     * @throws IllegalArgumentException if {@code toExclusive} is before {@code from}
+     */
+    default List<LunisolarDate> getDates(LocalDate from, LocalDate toExclusive, ZoneId zoneId) {
+        List<LunisolarDate> dates = new ArrayList<>(DateRanges.lengthOf(from, toExclusive, zoneId));
+
+        for (LocalDate date = from; date.isBefore(toExclusive); date = date.plusDays(1))
+            dates.add(getDate(date, zoneId));
+
+        return Collections.unmodifiableList(dates);
+    }
+
+    /**
+     * Returns the lunar dates of every solar date in a specified range at a specified time zone.
+     *
+     * <p>The default implementation converts each solar date separately. Implementations should
+     * override it to share astronomical computations between consecutive dates.</p>
+     *
+     * @param from the first solar date, inclusive
+     * @param toExclusive the last solar date, exclusive
+     * @param zoneId the reference time zone
+     * @return an unmodifiable list of lunar dates in ascending order of solar date
+     * @throws NullPointerException if any argument is null
+     * @throws IllegalArgumentException if {@code toExclusive} is before {@code from}
+     */
+    default List<LunarDate> getLunarDates(LocalDate from, LocalDate toExclusive, ZoneId zoneId) {
+        List<LunarDate> dates = new ArrayList<>(DateRanges.lengthOf(from, toExclusive, zoneId));
+
+        for (LocalDate date = from; date.isBefore(toExclusive); date = date.plusDays(1))
+            dates.add(getLunarDate(date, zoneId));
+
+        return Collections.unmodifiableList(dates);
+    }
+
+    /**
+     * Returns a stream of the lunisolar dates of every solar date in a specified range at a specified
+     * time zone.
+     *
+     * <p>The stream is ordered by solar date and sized, it can be split for parallel processing.
+     * The default implementation converts each solar date separately. Implementations should
+     * override it to share astronomical computations between consecutive dates.</p>
+     *
+     * @param from the first solar date, inclusive
+     * @param toExclusive the last solar date, exclusive
+     * @param zoneId the reference time zone
+     * @return a stream of lunisolar dates in ascending order of solar date
+     * @throws NullPointerException if any argument is null
+     * @throws IllegalArgumentException if {@code toExclusive} is before {@code from}
+     */
+    default Stream<LunisolarDate> stream(LocalDate from, LocalDate toExclusive, ZoneId zoneId) {
+        int length = DateRanges.lengthOf(from, toExclusive, zoneId);
+
+        return IntStream.range(0, length)
+                .mapToObj(i -> getDate(from.plusDays(i), zoneId));
+    }
 }
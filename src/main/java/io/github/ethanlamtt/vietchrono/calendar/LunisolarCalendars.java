@@ -1,9 +1,13 @@
 package io.github.ethanlamtt.vietchrono.calendar;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.ZoneId;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.concurrent.Executor;
 
 /**
  * Represents for a lunisolar calendar system factory.
@@ -49,4 +53,53 @@ public final class LunisolarCalendars {
     public static Set<String> availableCalendarIds() {
         return CALENDARS.keySet();
     }
+
+    /**
+     * Sets the executor on which the default calendar loads the years adjacent to a requested year.
+     *
+     * <p>The default executor starts a virtual thread per task. An executor which discards its tasks
+     * disables prefetching.</p>
+     *
+     * @param executor the prefetch executor
+     * @throws NullPointerException if {@code executor} is null
+     */
+    public static void setPrefetchExecutor(Executor executor) {
+        DefaultLunisolarCalendar.setPrefetchExecutor(executor);
+    }
+
+    /**
+     * Computes the tables of the default calendar for the specified years and time zones and writes
+     * them to a snapshot file.
+     *
+     * <p>The file is replaced atomically, so that processes loading it concurrently read either the
+     * previous or the new snapshot. Set the {@code vietchrono.snapshot.path} system property to a
+     * snapshot file to load it on startup.</p>
+     *
+     * @param path the snapshot file
+     * @param fromYear the first solar year, inclusive
+     * @param toYear the last solar year, inclusive
+     * @param zoneIds the reference time zones
+     * @throws IOException if the file cannot be written
+     * @throws NullPointerException if {@code path} or {@code zoneIds} is null
+     * @throws IllegalArgumentException if {@code toYear} is before {@code fromYear}
+     */
+    public static void writeSnapshot(Path path, int fromYear, int toYear, Set<ZoneId> zoneIds) throws IOException {
+        DefaultLunisolarCalendar.writeSnapshot(path, fromYear, toYear, zoneIds);
+    }
+
+    /**
+     * Memory-maps a snapshot file written by {@link #writeSnapshot(Path, int, int, Set)} and consults it
+     * before computing the tables of the default calendar.
+     *
+     * <p>A snapshot written by another version of this library, with another solar calculator or
+     * deltaT provider, or whose checksum does not match, is ignored.</p>
+     *
+     * @param path the snapshot file
+     * @return {@code true} if the snapshot was loaded, {@code false} if it was ignored
+     * @throws IOException if the file cannot be read
+     * @throws NullPointerException if {@code path} is null
+     */
+    public static boolean loadSnapshot(Path path) throws IOException {
+        return DefaultLunisolarCalendar.loadSnapshot(path);
+    }
 }
@@ -0,0 +1,33 @@
+package io.github.ethanlamtt.vietchrono.calendar;
+
+/**
+ * Represents for a component of a lunisolar date.
+ *
+ * <p>Used to select the components computed eagerly by
+ * {@link LunisolarCalendar#getDate(java.time.LocalDate, java.time.ZoneId, java.util.Set)}.</p>
+ *
+ * @author ethanlamtt
+ * @since 1.0.0
+ */
+public enum LunisolarComponent {
+
+    /**
+     * The lunar date. It identifies a lunisolar date, so it is always computed.
+     */
+    LUNAR_DATE,
+
+    /**
+     * The solar term of the day and its transition.
+     */
+    SOLAR_TERM,
+
+    /**
+     * The sexagenary cycles of the year, month, day and hour.
+     */
+    SEXAGENARY,
+
+    /**
+     * The holidays of the day.
+     */
+    HOLIDAYS
+}
@@ -1,9 +1,12 @@
 package io.github.ethanlamtt.vietchrono.calendar;
 
+import io.github.ethanlamtt.vietchrono.holiday.DailyHolidays;
 import io.github.ethanlamtt.vietchrono.holiday.HolidayId;
+import io.github.ethanlamtt.vietchrono.holiday.HolidayRules;
 import io.github.ethanlamtt.vietchrono.sexagenary.SexagenaryDateTime;
 
 import java.time.LocalDate;
+import java.util.BitSet;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
@@ -11,6 +14,8 @@ import java.util.Objects;
 /**
  * Represents for a lunisolar date.
  *
+ * <p>The solar term, sexagenary cycles and holidays may be computed on first access and memoized.</p>
+ *
  * <p>This class is immutable and thread-safe.</p>
  *
  * @author ethanlamtt
@@ -22,26 +27,102 @@ public final class LunisolarDate implements Comparable<LunisolarDate> {
             .comparing((LunisolarDate d) -> d.solarDate)
             .thenComparing(d -> d.lunarDate);
 
+    /**
+     * Computes the components of a lunisolar date which were not given on creation.
+     *
+     * <p>Each method is called at most once per component in the absence of contention. Under
+     * contention, a component may be computed more than once, and implementations must return equal
+     * values.</p>
+     */
+    interface Resolver {
+
+        /**
+         * Computes the solar term of a date.
+         *
+         * @param date the lunisolar date
+         * @return the solar term of the date, not null
+         */
+        DailySolarTerm solarTermOf(LunisolarDate date);
+
+        /**
+         * Computes the sexagenary cycles of a date.
+         *
+         * @param date the lunisolar date
+         * @return the sexagenary cycles of the date, not null
+         */
+        SexagenaryDateTime sexagenaryDateTimeOf(LunisolarDate date);
+
+        /**
+         * Computes the holidays of a date.
+         *
+         * @param date the lunisolar date
+         * @return the holidays of the date, not null
+         */
+        DailyHolidays holidaysOf(LunisolarDate date);
+    }
+
     private final LocalDate solarDate;
     private final LunarDate lunarDate;
-    private final DailySolarTerm dailySolarTerm;
-    private final SexagenaryDateTime sexagenaryDateTime;
-    private final List<HolidayId> holidayIds;
+    private final Resolver resolver;
+    private volatile DailySolarTerm dailySolarTerm;
+    private volatile SexagenaryDateTime sexagenaryDateTime;
+    private volatile DailyHolidays holidays;
 
     private LunisolarDate(LocalDate solarDate, LunarDate lunarDate,
                           DailySolarTerm dailySolarTerm, SexagenaryDateTime sexagenaryDateTime,
-                          List<HolidayId> holidayIds) {
+                          DailyHolidays holidays) {
         this.solarDate = Objects.requireNonNull(solarDate, "solarDate");
         this.lunarDate = Objects.requireNonNull(lunarDate, "lunarDate");
         this.dailySolarTerm = Objects.requireNonNull(dailySolarTerm, "dailySolarTerm");
         this.sexagenaryDateTime = Objects.requireNonNull(sexagenaryDateTime, "sexagenaryDateTime");
-        this.holidayIds = List.copyOf(Objects.requireNonNull(holidayIds, "holidayIds"));
+        this.holidays = Objects.requireNonNull(holidays, "holidays");
+        this.resolver = null;
+    }
+
+    private LunisolarDate(LocalDate solarDate, LunarDate lunarDate, Resolver resolver) {
+        this.solarDate = Objects.requireNonNull(solarDate, "solarDate");
+        this.lunarDate = Objects.requireNonNull(lunarDate, "lunarDate");
+        this.resolver = Objects.requireNonNull(resolver, "resolver");
     }
 
     public static LunisolarDate of(LocalDate solarDate, LunarDate lunarDate,
                                    DailySolarTerm dailySolarTerm, SexagenaryDateTime sexagenaryDateTime,
                                    List<HolidayId> holidayIds) {
-        return new LunisolarDate(solarDate, lunarDate, dailySolarTerm, sexagenaryDateTime, holidayIds);
+        Objects.requireNonNull(holidayIds, "holidayIds");
+
+        return new LunisolarDate(solarDate, lunarDate, dailySolarTerm, sexagenaryDateTime,
+                                 HolidayRules.getInstance().holidaysOf(holidayIds));
+    }
+
+    /**
+     * Returns a lunisolar date with all components.
+     *
+     * @param solarDate the solar date
+     * @param lunarDate the lunar date
+     * @param dailySolarTerm the solar term
+     * @param sexagenaryDateTime the sexagenary cycles
+     * @param holidays the holidays
+     * @return a {@code LunisolarDate} instance.
+     * @throws NullPointerException if any argument is null.
+     * @see HolidayRules#holidaysOf(LocalDate, LunarDate, DailySolarTerm)
+     */
+    static LunisolarDate of(LocalDate solarDate, LunarDate lunarDate,
+                            DailySolarTerm dailySolarTerm, SexagenaryDateTime sexagenaryDateTime,
+                            DailyHolidays holidays) {
+        return new LunisolarDate(solarDate, lunarDate, dailySolarTerm, sexagenaryDateTime, holidays);
+    }
+
+    /**
+     * Returns a lunisolar date whose other components are computed on first access.
+     *
+     * @param solarDate the solar date
+     * @param lunarDate the lunar date
+     * @param resolver computes the other components
+     * @return a {@code LunisolarDate} instance.
+     * @throws NullPointerException if any argument is null.
+     */
+    static LunisolarDate ofLazy(LocalDate solarDate, LunarDate lunarDate, Resolver resolver) {
+        return new LunisolarDate(solarDate, lunarDate, resolver);
     }
 
     public LocalDate toSolarDate() {
@@ -53,15 +134,79 @@ public final class LunisolarDate implements Comparable<LunisolarDate> {
     }
 
     public SexagenaryDateTime toSexagenaryDateTime() {
-        return sexagenaryDateTime;
+        SexagenaryDateTime value = sexagenaryDateTime;
+        if (value == null) {
+            value = Objects.requireNonNull(resolver.sexagenaryDateTimeOf(this), "sexagenaryDateTime");
+            sexagenaryDateTime = value;
+        }
+
+        return value;
     }
 
     public DailySolarTerm solarTermInfo() {
-        return dailySolarTerm;
+        DailySolarTerm value = dailySolarTerm;
+        if (value == null) {
+            value = Objects.requireNonNull(resolver.solarTermOf(this), "dailySolarTerm");
+            dailySolarTerm = value;
+        }
+
+        return value;
+    }
+
+    /**
+     * Returns the holidays of this date, as ids and as the set of their ordinals.
+     *
+     * @return the holidays of this date
+     */
+    public DailyHolidays holidays() {
+        DailyHolidays value = holidays;
+        if (value == null) {
+            value = Objects.requireNonNull(resolver.holidaysOf(this), "holidays");
+            holidays = value;
+        }
+
+        return value;
     }
 
     public List<HolidayId> holidayIds() {
-        return holidayIds;
+        return holidays().ids();
+    }
+
+    /**
+     * Returns the holidays of this date as a mask, stored when the holidays are resolved.
+     *
+     * @return the mask with the bit of the {@link HolidayRules#ordinalOf ordinal} of each holiday set
+     * @throws IllegalStateException if the holidays of the rules do not fit in a mask, see
+     * {@link #holidayBits()}
+     * @see HolidayRules#listOfMask(long)
+     */
+    public long holidayMask() {
+        return holidays().mask();
+    }
+
+    /**
+     * Returns the holidays of this date as a bit set, whether the holidays of the rules fit in a mask or not.
+     *
+     * @return a new bit set with the bit of the {@link HolidayRules#ordinalOf ordinal} of each holiday set
+     * @see HolidayRules#listOfBits(BitSet)
+     */
+    public BitSet holidayBits() {
+        return holidays().bits();
+    }
+
+    /**
+     * Checks if a component of this date has already been computed.
+     *
+     * @param component the component
+     * @return {@code true} if the component is available without computation
+     */
+    boolean isResolved(LunisolarComponent component) {
+        return switch (component) {
+            case LUNAR_DATE -> true;
+            case SOLAR_TERM -> dailySolarTerm != null;
+            case SEXAGENARY -> sexagenaryDateTime != null;
+            case HOLIDAYS -> holidays != null;
+        };
     }
 
     @Override
@@ -86,7 +231,7 @@ public final class LunisolarDate implements Comparable<LunisolarDate> {
     @Override
     public String toString() {
         return String.format("LunisolarDate(solarDate=%s, lunarDate=%s, dailySolarTerm=%s, sexagenaryDateTime=%s)",
-                             solarDate, lunarDate, dailySolarTerm, sexagenaryDateTime);
+                             solarDate, lunarDate, solarTermInfo(), toSexagenaryDateTime());
     }
 
     @Override
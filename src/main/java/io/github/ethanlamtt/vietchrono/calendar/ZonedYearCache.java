@@ -0,0 +1,397 @@
+package io.github.ethanlamtt.vietchrono.calendar;
+
+import java.time.ZoneId;
+import java.time.zone.ZoneRules;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Represents for a bounded cache of values computed per year and time zone.
+ *
+ * <p>Keys are the year and the rules of the time zone, so that zone ids sharing the same rules share
+ * their values. The rules of recently seen zone ids are remembered in a bounded table. Entries are kept
+ * in sets of {@value #WAYS} slots and the least recently used entry of a full set is evicted. Lookups
+ * and insertions are lock-free, a hit does not allocate. Values are loaded outside of any lock, and
+ * concurrent misses of the same key wait for a single load instead of repeating it.</p>
+ *
+ * <p>This class is thread-safe.</p>
+ *
+ * @param <V> the type of cached values
+ * @author ethanlamtt
+ * @since 1.0.0
+ */
+final class ZonedYearCache<V> {
+
+    /**
+     * The system property setting the maximum number of entries of each cache.
+     */
+    static final String MAXIMUM_SIZE_PROPERTY = "vietchrono.cache.maximumSize";
+
+    /**
+     * The maximum number of entries of each cache if the system property is not set.
+     */
+    static final int DEFAULT_MAXIMUM_SIZE = 1024;
+
+    /**
+     * Number of entries in a set.
+     */
+    private static final int WAYS = 4;
+
+    /**
+     * Number of zone ids whose rules are remembered, a power of two.
+     */
+    private static final int ZONE_SLOTS = 256;
+
+    /**
+     * The rules of recently seen zone ids, indexed by the hash of the zone id. A zone id replaces the
+     * one in its slot, so that the table stays bounded whatever the number of zone ids.
+     */
+    private static final AtomicReferenceArray<Key> ZONES = new AtomicReferenceArray<>(ZONE_SLOTS);
+
+    /**
+     * Computes a value of a year in a time zone.
+     *
+     * @param <V> the type of computed values
+     */
+    @FunctionalInterface
+    interface Loader<V> {
+
+        /**
+         * Computes the value of a year in a time zone.
+         *
+         * @param year the year
+         * @param zoneId the time zone
+         * @return the computed value, not null
+         */
+        V load(int year, ZoneId zoneId);
+    }
+
+    /**
+     * Represents for the year and the zone rules of a cached value.
+     */
+    private static final class Key {
+
+        /**
+         * The zone id the rules were obtained from, only used to find the rules of a zone id.
+         */
+        private final ZoneId zoneId;
+
+        private final int year;
+
+        private final ZoneRules rules;
+
+        /**
+         * The hash of {@link #rules}, computed once as hashing the rules of a region walks its transitions.
+         */
+        private final int rulesHash;
+
+        Key(ZoneId zoneId, int year, ZoneRules rules, int rulesHash) {
+            this.zoneId = zoneId;
+            this.year = year;
+            this.rules = rules;
+            this.rulesHash = rulesHash;
+        }
+
+        /**
+         * Checks if this key is the key of a year with the specified zone rules.
+         *
+         * @param year the year
+         * @param rules the zone rules
+         * @param rulesHash the hash of {@code rules}
+         * @return {@code true} if the year and the rules are equal
+         */
+        boolean matches(int year, ZoneRules rules, int rulesHash) {
+            return this.year == year
+                    && this.rulesHash == rulesHash
+                    && (this.rules == rules || this.rules.equals(rules));
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key key && matches(key.year, key.rules, key.rulesHash);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * rulesHash + year;
+        }
+    }
+
+    /**
+     * Represents for a cached value with its key.
+     *
+     * @param <V> the type of the value
+     */
+    private static final class Entry<V> {
+
+        /**
+         * The year and zone rules of the value.
+         */
+        private final Key key;
+
+        /**
+         * The cached value.
+         */
+        private final V value;
+
+        /**
+         * The tick of the last access. Racy updates only affect the eviction order.
+         */
+        private long lastAccess;
+
+        Entry(Key key, V value, long lastAccess) {
+            this.key = key;
+            this.value = value;
+            this.lastAccess = lastAccess;
+        }
+    }
+
+    /**
+     * The slots, {@value #WAYS} consecutive slots form a set.
+     */
+    private final AtomicReferenceArray<Entry<V>> slots;
+
+    /**
+     * The mask selecting a set from a hash.
+     */
+    private final int setMask;
+
+    /**
+     * The access clock. Racy updates only affect the eviction order.
+     */
+    private long clock;
+
+    /**
+     * The loads in progress by key, so that concurrent misses share one load.
+     */
+    private final ConcurrentMap<Key, CompletableFuture<V>> loading = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder loadTime = new LongAdder();
+
+    /**
+     * Constructs a {@code ZonedYearCache} holding at most the specified number of entries.
+     *
+     * @param maximumSize the maximum number of entries, rounded down to a power of two not less than
+     * {@value #WAYS}
+     * @throws IllegalArgumentException if {@code maximumSize} is not positive
+     */
+    ZonedYearCache(int maximumSize) {
+        if (maximumSize < 1)
+            throw new IllegalArgumentException("maximumSize must be positive");
+
+        int sets = Integer.highestOneBit(Math.max(1, maximumSize / WAYS));
+
+        this.slots = new AtomicReferenceArray<>(sets * WAYS);
+        this.setMask = sets - 1;
+    }
+
+    /**
+     * Returns a cache sized by the {@value #MAXIMUM_SIZE_PROPERTY} system property.
+     *
+     * @param <V> the type of cached values
+     * @return a new cache
+     * @throws IllegalArgumentException if the property is not a positive integer
+     */
+    static <V> ZonedYearCache<V> ofConfiguredSize() {
+        return new ZonedYearCache<>(Integer.getInteger(MAXIMUM_SIZE_PROPERTY, DEFAULT_MAXIMUM_SIZE));
+    }
+
+    /**
+     * Returns the value of a year in a time zone, loading and caching it if absent.
+     *
+     * <p>If another thread is loading the same key, this method waits for its result.</p>
+     *
+     * @param year the year
+     * @param zoneId the time zone
+     * @param loader computes the value if absent
+     * @return the cached or loaded value
+     */
+    V get(int year, ZoneId zoneId, Loader<? extends V> loader) {
+        Key zone = zoneKeyOf(zoneId);
+        int base = setOf(year, zone.rulesHash) * WAYS;
+
+        Entry<V> entry = lookup(base, year, zone);
+        if (entry != null) {
+            hits.increment();
+            return entry.value;
+        }
+
+        Key key = new Key(zoneId, year, zone.rules, zone.rulesHash);
+        CompletableFuture<V> future = new CompletableFuture<>();
+        CompletableFuture<V> pending = loading.putIfAbsent(key, future);
+        if (pending != null) {
+            hits.increment();
+            return await(pending);
+        }
+
+        try {
+            // Another load may have completed between the lookup and the registration
+            entry = lookup(base, year, zone);
+            if (entry != null) {
+                hits.increment();
+                future.complete(entry.value);
+                return entry.value;
+            }
+
+            misses.increment();
+            long start = System.nanoTime();
+            V value = loader.load(year, zoneId);
+            loadTime.add(System.nanoTime() - start);
+
+            V cached = insert(base, new Entry<>(key, value, ++clock));
+            future.complete(cached);
+            return cached;
+        } catch (Throwable e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(key, future);
+        }
+    }
+
+    /**
+     * Checks if the value of a year in a time zone is cached or being loaded.
+     *
+     * @param year the year
+     * @param zoneId the time zone
+     * @return {@code true} if a lookup would not start a new load
+     */
+    boolean contains(int year, ZoneId zoneId) {
+        Key zone = zoneKeyOf(zoneId);
+        return lookup(setOf(year, zone.rulesHash) * WAYS, year, zone) != null
+                || loading.containsKey(new Key(zoneId, year, zone.rules, zone.rulesHash));
+    }
+
+    /**
+     * Finds the entry of a year in its set and records the access.
+     *
+     * @param base the index of the first slot of the set
+     * @param year the year
+     * @param zone the key holding the zone rules
+     * @return the entry, or null if absent
+     */
+    private Entry<V> lookup(int base, int year, Key zone) {
+        for (int i = 0; i < WAYS; i++) {
+            Entry<V> entry = slots.get(base + i);
+            if (entry != null && entry.key.matches(year, zone.rules, zone.rulesHash)) {
+                entry.lastAccess = ++clock;
+                return entry;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Waits for a load started by another thread.
+     *
+     * @param pending the result of the load
+     * @return the loaded value
+     */
+    private V await(CompletableFuture<V> pending) {
+        try {
+            return pending.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause)
+                throw cause;
+            if (e.getCause() instanceof Error cause)
+                throw cause;
+            throw e;
+        }
+    }
+
+    /**
+     * Inserts an entry into its set, evicting the least recently used entry if the set is full.
+     *
+     * @param base the index of the first slot of the set
+     * @param entry the entry to insert
+     * @return the value cached for the key of {@code entry}
+     */
+    private V insert(int base, Entry<V> entry) {
+        while (true) {
+            int victim = -1;
+            Entry<V> victimEntry = null;
+
+            for (int i = 0; i < WAYS; i++) {
+                Entry<V> current = slots.get(base + i);
+
+                if (current == null) {
+                    if (victim < 0 || victimEntry != null) {
+                        victim = base + i;
+                        victimEntry = null;
+                    }
+                } else if (current.key.equals(entry.key)) {
+                    return current.value;
+                } else if (victim < 0 || victimEntry != null && current.lastAccess < victimEntry.lastAccess) {
+                    victim = base + i;
+                    victimEntry = current;
+                }
+            }
+
+            if (slots.compareAndSet(victim, victimEntry, entry)) {
+                if (victimEntry != null)
+                    evictions.increment();
+
+                return entry.value;
+            }
+        }
+    }
+
+    /**
+     * Returns a snapshot of the statistics of this cache.
+     *
+     * @return the statistics
+     */
+    CacheStats stats() {
+        long size = 0;
+        for (int i = 0; i < slots.length(); i++) {
+            if (slots.get(i) != null)
+                size++;
+        }
+
+        return CacheStats.of(hits.sum(), misses.sum(), evictions.sum(), loadTime.sum(), size, slots.length());
+    }
+
+    /**
+     * Returns a key holding the rules of a time zone.
+     *
+     * <p>A hit does not allocate. On a miss, the rules are obtained and hashed once and replace the
+     * zone id remembered in the same slot.</p>
+     *
+     * @param zoneId the time zone
+     * @return a key holding the rules of {@code zoneId} and their hash
+     */
+    private static Key zoneKeyOf(ZoneId zoneId) {
+        int hash = zoneId.hashCode();
+        int slot = (hash ^ hash >>> 16) & ZONE_SLOTS - 1;
+
+        Key zone = ZONES.get(slot);
+        if (zone == null || !zone.zoneId.equals(zoneId)) {
+            ZoneRules rules = zoneId.getRules();
+            zone = new Key(zoneId, 0, rules, rules.hashCode());
+            ZONES.set(slot, zone);
+        }
+
+        return zone;
+    }
+
+    /**
+     * Returns the set of a year with zone rules.
+     *
+     * @param year the year
+     * @param rulesHash the hash of the zone rules
+     * @return the set index
+     */
+    private int setOf(int year, int rulesHash) {
+        // Consecutive years of a zone fall into distinct sets
+        int hash = year ^ rulesHash * 0x9E3779B9;
+        return hash & setMask;
+    }
+}
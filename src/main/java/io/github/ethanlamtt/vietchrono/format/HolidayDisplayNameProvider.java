@@ -1,6 +1,10 @@
 package io.github.ethanlamtt.vietchrono.format;
 
+import io.github.ethanlamtt.vietchrono.holiday.HolidayId;
+import io.github.ethanlamtt.vietchrono.holiday.HolidayRules;
+
 import java.util.Locale;
+import java.util.Objects;
 import java.util.ServiceLoader;
 
 /**
@@ -30,4 +34,36 @@ public abstract class HolidayDisplayNameProvider {
     }
 
     public abstract String getName(String holidayId, Locale locale);
+
+    /**
+     * Returns the name of a holiday.
+     *
+     * @param holidayId the holiday id
+     * @param locale the locale
+     * @return the name of the holiday
+     * @throws NullPointerException if any argument is null
+     */
+    public String getName(HolidayId holidayId, Locale locale) {
+        Objects.requireNonNull(holidayId, "holidayId");
+        Objects.requireNonNull(locale, "locale");
+
+        return getName(holidayId.id(), locale);
+    }
+
+    /**
+     * Returns the name of a holiday of the rules by its ordinal, so that names are resolved into arrays
+     * indexed by ordinal.
+     *
+     * @param ordinal the ordinal of the holiday
+     * @param locale the locale
+     * @return the name of the holiday
+     * @throws NullPointerException if {@code locale} is null
+     * @throws IllegalArgumentException if no holiday has the ordinal
+     * @see HolidayRules#ordinalOf(HolidayId)
+     */
+    public String getName(int ordinal, Locale locale) {
+        Objects.requireNonNull(locale, "locale");
+
+        return getName(HolidayRules.getInstance().holidayOf(ordinal).id(), locale);
+    }
 }
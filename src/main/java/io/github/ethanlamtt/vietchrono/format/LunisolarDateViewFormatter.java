@@ -1,23 +1,42 @@
 package io.github.ethanlamtt.vietchrono.format;
 
 import io.github.ethanlamtt.vietchrono.calendar.LunisolarDate;
+import io.github.ethanlamtt.vietchrono.calendar.SolarTerm;
 import io.github.ethanlamtt.vietchrono.format.views.*;
+import io.github.ethanlamtt.vietchrono.holiday.DailyHolidays;
 import io.github.ethanlamtt.vietchrono.holiday.HolidayId;
+import io.github.ethanlamtt.vietchrono.holiday.HolidayRules;
 import io.github.ethanlamtt.vietchrono.sexagenary.AuspiciousHour;
+import io.github.ethanlamtt.vietchrono.sexagenary.DoubleHour;
+import io.github.ethanlamtt.vietchrono.sexagenary.EarthlyBranch;
+import io.github.ethanlamtt.vietchrono.sexagenary.HeavenlyStem;
 import io.github.ethanlamtt.vietchrono.sexagenary.SexagenaryCycle;
 import io.github.ethanlamtt.vietchrono.sexagenary.SexagenaryDateTime;
 import io.github.ethanlamtt.vietchrono.calendar.DailySolarTerm;
 import io.github.ethanlamtt.vietchrono.calendar.LunarDate;
+import io.github.ethanlamtt.vietchrono.calendar.LunarMonth;
 
+import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.TextStyle;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Provides a lunisolar date view format.
  *
+ * <p>A formatter of a locale, obtained by {@link #ofLocale(Locale)}, resolves every name of the display
+ * providers once: the days of week, the lunar months and days, the solar terms, the sexagenary cycles,
+ * the auspicious hours of each day branch and the holidays of the rules. Formatting a date then indexes
+ * these arrays, the holidays by their {@link HolidayRules#ordinalOf ordinals}. With the default
+ * lunar date display provider, the names of the lunar months are resolved by month value and leap month
+ * flag and the names of the lunar days by day of month. Another provider may name months and days by
+ * year, so it is called for each formatted date.</p>
+ * <p>This class is immutable and thread-safe.</p>
+ *
  * @author ethanlamtt
  * @since 1.0
  */
@@ -32,89 +51,257 @@ public final class LunisolarDateViewFormatter {
     private static final HolidayDisplayNameProvider HOLIDAY_PROVIDER =
             HolidayDisplayNameProvider.getInstance();
 
-    private LunisolarDateViewFormatter() {}
+    /**
+     * Whether the names of the lunar months and days only depend on the month value, the leap month flag
+     * and the day of month, so that they are resolved once.
+     */
+    private static final boolean LUNAR_NAMES_RESOLVED_ONCE =
+            LUNAR_DATE_PROVIDER instanceof DefaultLunarDateDisplayNameProvider;
 
-    public static LunisolarDateView format(LunisolarDate lunisolarDate, ZoneId zoneId, Locale locale) {
-        Objects.requireNonNull(zoneId, "zoneId");
+    /**
+     * The maximum number of cached formatters.
+     */
+    private static final int MAX_CACHED_FORMATTERS = 64;
+
+    /**
+     * The formatters of the requested locales, at most {@value #MAX_CACHED_FORMATTERS}.
+     */
+    private static final ConcurrentMap<Locale, LunisolarDateViewFormatter> FORMATTERS = new ConcurrentHashMap<>();
+
+    private static final int BRANCHES = EarthlyBranch.values().length;
+
+    private final Locale locale;
+
+    /**
+     * The names of the days of week, by ordinal.
+     */
+    private final String[] dayOfWeekNames;
+
+    /**
+     * The names of the lunar months, by month value minus one times two plus one for a leap month, null
+     * if the provider is called for each date.
+     */
+    private final String[] lunarMonthNames;
+
+    /**
+     * The names of the lunar days, by day of month minus one, null if the provider is called for each date.
+     */
+    private final String[] lunarDayNames;
+
+    /**
+     * The names of the solar terms, by ordinal.
+     */
+    private final String[] solarTermNames;
+
+    /**
+     * The names of the sexagenary cycles, by stem ordinal times 12 plus branch ordinal.
+     */
+    private final String[] cycleNames;
+
+    /**
+     * The names of the holidays of the rules by ordinal, null for a holiday without name.
+     */
+    private final String[] holidayNames;
+
+    /**
+     * The auspicious hours of the days of each branch, by branch ordinal.
+     */
+    private final List<List<AuspiciousHourView>> auspiciousHours;
+
+    private LunisolarDateViewFormatter(Locale locale) {
+        this.locale = Objects.requireNonNull(locale, "locale");
+
+        DayOfWeek[] daysOfWeek = DayOfWeek.values();
+        this.dayOfWeekNames = new String[daysOfWeek.length];
+        for (DayOfWeek dayOfWeek : daysOfWeek)
+            dayOfWeekNames[dayOfWeek.ordinal()] = dayOfWeek.getDisplayName(TextStyle.FULL, locale);
+
+        if (LUNAR_NAMES_RESOLVED_ONCE) {
+            this.lunarMonthNames = new String[2 * 12];
+            for (int month = 1; month <= 12; month++) {
+                for (boolean isLeapMonth : new boolean[] {false, true}) {
+                    LunarDate date = LunarDate.of(2000, LunarMonth.of(month, isLeapMonth), 1);
+                    lunarMonthNames[monthIndex(month, isLeapMonth)] = LUNAR_DATE_PROVIDER.getMonthName(date, locale);
+                }
+            }
+
+            this.lunarDayNames = new String[30];
+            for (int day = 1; day <= 30; day++)
+                lunarDayNames[day - 1] = LUNAR_DATE_PROVIDER.getDayName(LunarDate.of(2000, 1, day), locale);
+        } else {
+            // Checks the locale as the names are resolved
+            LUNAR_DATE_PROVIDER.getMonthName(LunarDate.of(2000, 1, 1), locale);
+            this.lunarMonthNames = null;
+            this.lunarDayNames = null;
+        }
+
+        SolarTerm[] solarTerms = SolarTerm.values();
+        this.solarTermNames = new String[solarTerms.length];
+        for (SolarTerm solarTerm : solarTerms)
+            solarTermNames[solarTerm.ordinal()] = SOLAR_TERM_PROVIDER.getName(solarTerm, locale);
+
+        String[] branchNames = new String[BRANCHES];
+        for (EarthlyBranch branch : EarthlyBranch.values())
+            branchNames[branch.ordinal()] = SEXAGENARY_PROVIDER.getBranchName(branch, locale);
+
+        // Every pair of a stem and a branch, so that any cycle is found by index
+        HeavenlyStem[] stems = HeavenlyStem.values();
+        this.cycleNames = new String[stems.length * BRANCHES];
+        for (HeavenlyStem stem : stems) {
+            String stemName = SEXAGENARY_PROVIDER.getStemName(stem, locale);
+            for (EarthlyBranch branch : EarthlyBranch.values()) {
+                cycleNames[stem.ordinal() * BRANCHES + branch.ordinal()] =
+                        stemName + " " + branchNames[branch.ordinal()];
+            }
+        }
+
+        this.holidayNames = new String[HolidayRules.getInstance().holidayCount()];
+        for (int ordinal = 0; ordinal < holidayNames.length; ordinal++) {
+            try {
+                holidayNames[ordinal] = HOLIDAY_PROVIDER.getName(ordinal, locale);
+            } catch (IllegalStateException e) {
+                // A holiday without name only fails the formatting of its days
+            }
+        }
+
+        AuspiciousHourView[] hourViews = new AuspiciousHourView[BRANCHES];
+        for (EarthlyBranch branch : EarthlyBranch.values()) {
+            DoubleHour doubleHour = DoubleHour.of(branch);
+            hourViews[branch.ordinal()] = new AuspiciousHourView(branchNames[branch.ordinal()],
+                                                                 doubleHour.startTime().toString(),
+                                                                 doubleHour.endTime().toString());
+        }
 
-        SolarDateView solarDate = formatSolarDate(lunisolarDate.toSolarDate(), locale);
-        LunarDateView lunarDate = formatLunarDate(lunisolarDate.toLunarDate(), locale);
-        DailySolarTermView solarTermInfo = formatSolarTermInfo(lunisolarDate.solarTermInfo(), zoneId, locale);
-        SexagenaryDateTimeView sexagenaryDate = formatSexagenaryDateTime(lunisolarDate.toSexagenaryDateTime(), locale);
-        List<AuspiciousHourView> auspiciousHours =  formatAuspiciousHours(lunisolarDate.toSexagenaryDateTime().toSexagenaryDate().auspiciousHours(), locale);
-        List<HolidayView> holidays = getHolidays(lunisolarDate.holidayIds(), locale);
+        List<List<AuspiciousHourView>> hoursOfBranches = new ArrayList<>(BRANCHES);
+        for (EarthlyBranch dailyBranch : EarthlyBranch.values()) {
+            List<AuspiciousHourView> views = new ArrayList<>();
+            for (AuspiciousHour hour : AuspiciousHour.from(dailyBranch))
+                views.add(hourViews[hour.doubleHour().branch().ordinal()]);
 
-        return new LunisolarDateView(solarDate, lunarDate, solarTermInfo, sexagenaryDate, auspiciousHours, holidays);
+            hoursOfBranches.add(List.copyOf(views));
+        }
+        this.auspiciousHours = List.copyOf(hoursOfBranches);
     }
 
+    /**
+     * Obtains the formatter of a locale, with the names of the display providers resolved.
+     *
+     * <p>Formatters of up to {@value #MAX_CACHED_FORMATTERS} locales are cached, so that a locale is
+     * resolved once.</p>
+     *
+     * @param locale the locale of the names
+     * @return the formatter of {@code locale}
+     * @throws NullPointerException if {@code locale} is null
+     * @throws IllegalArgumentException if a display provider does not support {@code locale}
+     */
+    public static LunisolarDateViewFormatter ofLocale(Locale locale) {
+        Objects.requireNonNull(locale, "locale");
 
-    private static SolarDateView formatSolarDate(LocalDate solarDate, Locale locale) {
-        int year = solarDate.getYear();
-        int month = solarDate.getMonthValue();
-        int day = solarDate.getDayOfMonth();
-        int dayOfWeekValue = solarDate.getDayOfWeek().getValue();
+        LunisolarDateViewFormatter formatter = FORMATTERS.get(locale);
+        if (formatter != null)
+            return formatter;
 
-        String dayOfWeek = solarDate.getDayOfWeek()
-                .getDisplayName(TextStyle.FULL, locale);
+        if (FORMATTERS.size() >= MAX_CACHED_FORMATTERS)
+            return new LunisolarDateViewFormatter(locale);
 
-        return new SolarDateView(year, month, day, dayOfWeekValue, dayOfWeek);
+        return FORMATTERS.computeIfAbsent(locale, LunisolarDateViewFormatter::new);
     }
 
-    private static LunarDateView formatLunarDate(LunarDate lunarDate, Locale locale) {
-        String lunarMonth = LUNAR_DATE_PROVIDER.getMonthName(lunarDate, locale);
-        String lunarDay = LUNAR_DATE_PROVIDER.getDayName(lunarDate, locale);
+    public static LunisolarDateView format(LunisolarDate lunisolarDate, ZoneId zoneId, Locale locale) {
+        return ofLocale(locale).format(lunisolarDate, zoneId);
+    }
 
-        return new LunarDateView(lunarDate, lunarMonth, lunarDay);
+    /**
+     * Obtains the locale of the names of this formatter.
+     *
+     * @return the locale
+     */
+    public Locale locale() {
+        return locale;
     }
 
-    private static DailySolarTermView formatSolarTermInfo(DailySolarTerm dailySolarTerm, ZoneId zoneId, Locale locale) {
-        String termOfDay = SOLAR_TERM_PROVIDER.getName(dailySolarTerm.termOfDay(), locale);
-        ZonedDateTime transition = dailySolarTerm.transition()
-                .map(m -> m.toInstant().atZone(zoneId))
-                .orElse(null);
+    /**
+     * Formats a lunisolar date with the resolved names of this formatter.
+     *
+     * @param lunisolarDate the lunisolar date
+     * @param zoneId the time zone of the solar term transition
+     * @return the view of the date
+     * @throws NullPointerException if any argument is null
+     */
+    public LunisolarDateView format(LunisolarDate lunisolarDate, ZoneId zoneId) {
+        Objects.requireNonNull(lunisolarDate, "lunisolarDate");
+        Objects.requireNonNull(zoneId, "zoneId");
 
-        return new DailySolarTermView(termOfDay, transition);
+        SexagenaryDateTime sexagenaryDateTime = lunisolarDate.toSexagenaryDateTime();
+
+        SolarDateView solarDate = formatSolarDate(lunisolarDate.toSolarDate());
+        LunarDateView lunarDate = formatLunarDate(lunisolarDate.toLunarDate());
+        DailySolarTermView solarTermInfo = formatSolarTermInfo(lunisolarDate.solarTermInfo(), zoneId);
+        SexagenaryDateTimeView sexagenaryDate = formatSexagenaryDateTime(sexagenaryDateTime);
+        List<AuspiciousHourView> hours = auspiciousHours.get(sexagenaryDateTime.day().branch().ordinal());
+        List<HolidayView> holidays = getHolidays(lunisolarDate.holidays());
+
+        return new LunisolarDateView(solarDate, lunarDate, solarTermInfo, sexagenaryDate, hours, holidays);
     }
 
-    private static SexagenaryDateTimeView formatSexagenaryDateTime(SexagenaryDateTime sexagenaryDateTime, Locale locale) {
-        String year = getSexagenaryCycle(sexagenaryDateTime.year(), locale);
-        String month = getSexagenaryCycle(sexagenaryDateTime.month(), locale);
-        String day = getSexagenaryCycle(sexagenaryDateTime.day(), locale);
-        String hour = getSexagenaryCycle(sexagenaryDateTime.hour(), locale);
+    private SolarDateView formatSolarDate(LocalDate solarDate) {
+        DayOfWeek dayOfWeek = solarDate.getDayOfWeek();
 
-        return new SexagenaryDateTimeView(year, month, day, hour);
+        return new SolarDateView(solarDate.getYear(), solarDate.getMonthValue(), solarDate.getDayOfMonth(),
+                                 dayOfWeek.getValue(), dayOfWeekNames[dayOfWeek.ordinal()]);
     }
 
-    private static String getSexagenaryCycle(SexagenaryCycle sexagenary, Locale locale) {
-        String stem = SEXAGENARY_PROVIDER.getStemName(sexagenary.stem(), locale);
-        String branch = SEXAGENARY_PROVIDER.getBranchName(sexagenary.branch(), locale);
+    private LunarDateView formatLunarDate(LunarDate lunarDate) {
+        if (lunarMonthNames == null) {
+            return new LunarDateView(lunarDate, LUNAR_DATE_PROVIDER.getMonthName(lunarDate, locale),
+                                     LUNAR_DATE_PROVIDER.getDayName(lunarDate, locale));
+        }
+
+        String lunarMonth = lunarMonthNames[monthIndex(lunarDate.monthValue(), lunarDate.month().isLeapMonth())];
+        String lunarDay = lunarDayNames[lunarDate.dayOfMonth() - 1];
 
-        return stem + " " + branch;
+        return new LunarDateView(lunarDate, lunarMonth, lunarDay);
     }
 
-    private static List<AuspiciousHourView> formatAuspiciousHours(List<AuspiciousHour> hours, Locale locale) {
-        List<AuspiciousHourView> auspiciousHours = new ArrayList<>();
+    private static int monthIndex(int month, boolean isLeapMonth) {
+        return (month - 1) * 2 + (isLeapMonth ? 1 : 0);
+    }
 
-        for (AuspiciousHour hour : hours) {
-            String branchName = SEXAGENARY_PROVIDER.getBranchName(hour.doubleHour().branch(), locale);
-            String starTime = hour.doubleHour().startTime().toString();
-            String endTime = hour.doubleHour().endTime().toString();
+    private DailySolarTermView formatSolarTermInfo(DailySolarTerm dailySolarTerm, ZoneId zoneId) {
+        String termOfDay = solarTermNames[dailySolarTerm.termOfDay().ordinal()];
+        ZonedDateTime transition = dailySolarTerm.transition()
+                .map(m -> m.toInstant().atZone(zoneId))
+                .orElse(null);
 
-            auspiciousHours.add(new AuspiciousHourView(branchName, starTime, endTime));
-        }
+        return new DailySolarTermView(termOfDay, transition);
+    }
+
+    private SexagenaryDateTimeView formatSexagenaryDateTime(SexagenaryDateTime sexagenaryDateTime) {
+        return new SexagenaryDateTimeView(cycleName(sexagenaryDateTime.year()),
+                                          cycleName(sexagenaryDateTime.month()),
+                                          cycleName(sexagenaryDateTime.day()),
+                                          cycleName(sexagenaryDateTime.hour()));
+    }
 
-        return auspiciousHours;
+    private String cycleName(SexagenaryCycle cycle) {
+        return cycleNames[cycle.stem().ordinal() * BRANCHES + cycle.branch().ordinal()];
     }
 
-    private static List<HolidayView> getHolidays(List<HolidayId> ids, Locale locale) {
-        List<HolidayView> holidays = new ArrayList<>();
+    private List<HolidayView> getHolidays(DailyHolidays dailyHolidays) {
+        if (dailyHolidays.size() == 0)
+            return List.of();
+
+        HolidayView[] holidays = new HolidayView[dailyHolidays.size()];
+        for (int i = 0; i < holidays.length; i++) {
+            HolidayId id = dailyHolidays.ids().get(i);
+            int ordinal = dailyHolidays.ordinalAt(i);
+            String name = ordinal >= 0 && holidayNames[ordinal] != null
+                    ? holidayNames[ordinal]
+                    : HOLIDAY_PROVIDER.getName(id, locale);
 
-        for (HolidayId id : ids) {
-            String holidayName = HOLIDAY_PROVIDER.getName(id.id(), locale);
-            holidays.add(HolidayView.of(holidayName, id.type()));
+            holidays[i] = HolidayView.of(name, id.type());
         }
 
-        return holidays;
+        return List.of(holidays);
     }
-
 }
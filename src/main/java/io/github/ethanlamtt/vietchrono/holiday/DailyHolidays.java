@@ -0,0 +1,147 @@
+package io.github.ethanlamtt.vietchrono.holiday;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Represents for the holidays of a day.
+ *
+ * <p>The holidays are held both as a list of ids, in the order of the rules, and as the set of their
+ * {@link HolidayRules#ordinalOf ordinals}. While the holidays of the rules {@link HolidayRules#supportsMasks()
+ * fit in a mask}, the set is a {@code long} mask, otherwise it is a bit set.</p>
+ * <p>This class is immutable and thread-safe.</p>
+ *
+ * @author ethanlamtt
+ * @since 1.0
+ */
+public final class DailyHolidays {
+
+    /**
+     * The ids of the holidays, in the order of the rules.
+     */
+    private final List<HolidayId> ids;
+
+    /**
+     * The ordinals of the holidays by position in {@link #ids}, -1 for a holiday without rule.
+     */
+    private final int[] ordinals;
+
+    /**
+     * The mask of the holidays, only used if {@link #words} is null.
+     */
+    private final long mask;
+
+    /**
+     * The words of the bit set of the holidays if they do not fit in a mask, null otherwise.
+     */
+    private final long[] words;
+
+    private DailyHolidays(List<HolidayId> ids, int[] ordinals, long mask, long[] words) {
+        this.ids = ids;
+        this.ordinals = ordinals;
+        this.mask = mask;
+        this.words = words;
+    }
+
+    /**
+     * Returns the holidays of a day, taking ownership of the arrays.
+     *
+     * @param ids the ids of the holidays
+     * @param ordinals the ordinals of the holidays by position in {@code ids}
+     * @param mask the mask of the holidays, ignored if {@code words} is not null
+     * @param words the words of the bit set of the holidays, null if they fit in a mask
+     * @return a {@code DailyHolidays} instance
+     */
+    static DailyHolidays of(List<HolidayId> ids, int[] ordinals, long mask, long[] words) {
+        return new DailyHolidays(ids, ordinals, mask, words);
+    }
+
+    /**
+     * Obtains the ids of the holidays.
+     *
+     * @return an unmodifiable list of the ids, in the order of the rules
+     */
+    public List<HolidayId> ids() {
+        return ids;
+    }
+
+    /**
+     * Obtains the number of holidays.
+     *
+     * @return the number of holidays
+     */
+    public int size() {
+        return ordinals.length;
+    }
+
+    /**
+     * Obtains the ordinal of a holiday, without hashing its id.
+     *
+     * @param index the position of the holiday in {@link #ids()}
+     * @return the ordinal of the holiday, -1 if no rule has its id
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    public int ordinalAt(int index) {
+        Objects.checkIndex(index, ordinals.length);
+
+        return ordinals[index];
+    }
+
+    /**
+     * Checks if the holidays are held in a mask.
+     *
+     * @return {@code true} if {@link #mask()} is available
+     */
+    public boolean hasMask() {
+        return words == null;
+    }
+
+    /**
+     * Obtains the mask of the holidays.
+     *
+     * @return the mask with the bit of the ordinal of each holiday set
+     * @throws IllegalStateException if the holidays of the rules do not fit in a mask, see {@link #bits()}
+     */
+    public long mask() {
+        if (words != null)
+            throw new IllegalStateException("Holidays do not fit in a mask");
+
+        return mask;
+    }
+
+    /**
+     * Returns the bit set of the holidays, whether they fit in a mask or not.
+     *
+     * @return a new bit set with the bit of the ordinal of each holiday set
+     */
+    public BitSet bits() {
+        return words != null ? BitSet.valueOf(words) : BitSet.valueOf(new long[] {mask});
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+
+        if (!(o instanceof DailyHolidays other))
+            return false;
+
+        return ids.equals(other.ids) && mask == other.mask && Arrays.equals(words, other.words);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 17;
+        result = 31 * result + ids.hashCode();
+        result = 31 * result + Long.hashCode(mask);
+        result = 31 * result + Arrays.hashCode(words);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("DailyHolidays(ids=%s)", ids);
+    }
+}
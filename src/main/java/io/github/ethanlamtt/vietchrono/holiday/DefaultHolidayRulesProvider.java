@@ -1,6 +1,5 @@
 package io.github.ethanlamtt.vietchrono.holiday;
 
-import io.github.ethanlamtt.vietchrono.calendar.DailySolarTerm;
 import io.github.ethanlamtt.vietchrono.calendar.SolarTerm;
 
 import java.time.DayOfWeek;
@@ -69,14 +68,7 @@ final class DefaultHolidayRulesProvider implements HolidayRulesProvider {
                                 && date.getDayOfWeek() == DayOfWeek.FRIDAY;
                     }
             ),
-            HolidayRule.of(
-                    HolidayId.of("Tomb_Sweeping_Day", HolidayType.SOLAR),
-                    context -> {
-                        DailySolarTerm info = context.solarTermInfo();
-                        return info.termOfDay() == SolarTerm.PURE_BRIGHTNESS
-                                && info.transition().isPresent();
-                    }
-            )
+            HolidayRule.solarTerm("Tomb_Sweeping_Day", SolarTerm.PURE_BRIGHTNESS)
     );
 
 
@@ -1,12 +1,33 @@
 package io.github.ethanlamtt.vietchrono.holiday;
 
 
+import io.github.ethanlamtt.vietchrono.astro.SolarTime;
+import io.github.ethanlamtt.vietchrono.calendar.DailySolarTerm;
+import io.github.ethanlamtt.vietchrono.calendar.LunarDate;
+import io.github.ethanlamtt.vietchrono.calendar.LunarMonth;
+import io.github.ethanlamtt.vietchrono.calendar.LunisolarCalendar;
+import io.github.ethanlamtt.vietchrono.calendar.LunisolarCalendars;
+import io.github.ethanlamtt.vietchrono.calendar.LunisolarComponent;
+import io.github.ethanlamtt.vietchrono.calendar.LunisolarDate;
+import io.github.ethanlamtt.vietchrono.calendar.SolarTerm;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Predicate;
 
 /**
  * Represents for a holiday rule.
  *
+ * <p>A rule declares the {@link HolidayRuleKind kind} of key it is matched by, so that
+ * {@link HolidayRules} can look it up instead of testing it. The predicate of a keyed rule is
+ * derived from its key, and its dates are generated from its key by {@link #occurrences}.</p>
  * <p>This class is immutable and thread-safe.</p>
  *
  * @author ethanlamtt
@@ -16,38 +37,224 @@ public final class HolidayRule {
 
     private final HolidayId id;
     private final Predicate<HolidayRuleContext> predicate;
+    private final HolidayRuleKind kind;
+    private final int month;
+    private final int day;
+    private final SolarTerm solarTerm;
 
     private HolidayRule(HolidayId id,
-                        Predicate<HolidayRuleContext> predicate) {
+                        Predicate<HolidayRuleContext> predicate,
+                        HolidayRuleKind kind,
+                        int month,
+                        int day,
+                        SolarTerm solarTerm) {
         this.id = Objects.requireNonNull(id);
         this.predicate = Objects.requireNonNull(predicate);
+        this.kind = kind;
+        this.month = month;
+        this.day = day;
+        this.solarTerm = solarTerm;
     }
 
     public static HolidayRule of(HolidayId id,
                                  Predicate<HolidayRuleContext> predicate) {
-        return new HolidayRule(id, predicate);
+        return new HolidayRule(id, predicate, HolidayRuleKind.ARBITRARY, 0, 0, null);
     }
 
     public static HolidayRule fixedSolar(String id, int month, int day) {
+        checkMonthDay(month, day);
+
         return new HolidayRule(
                 HolidayId.of(id, HolidayType.SOLAR),
-                context -> context.solarMonth() == month && context.solarDay() == day
+                context -> context.solarMonth() == month && context.solarDay() == day,
+                HolidayRuleKind.FIXED_SOLAR, month, day, null
         );
     }
 
     public static HolidayRule fixedLunar(String id, int month, int day) {
+        checkMonthDay(month, day);
+
         return new HolidayRule(
                 HolidayId.of(id, HolidayType.LUNAR),
                 context ->
-                        context.lunarMonth() == month && context.lunarDay() == day
+                        context.lunarMonth() == month && context.lunarDay() == day,
+                HolidayRuleKind.FIXED_LUNAR, month, day, null
         );
     }
 
+    /**
+     * Returns a rule matching the day on which a solar term starts.
+     *
+     * @param id the holiday id
+     * @param solarTerm the solar term starting on the holiday
+     * @return a {@code HolidayRule} of kind {@link HolidayRuleKind#SOLAR_TERM}
+     * @throws NullPointerException if {@code id} or {@code solarTerm} is null
+     */
+    public static HolidayRule solarTerm(String id, SolarTerm solarTerm) {
+        Objects.requireNonNull(solarTerm, "solarTerm");
+
+        return new HolidayRule(
+                HolidayId.of(id, HolidayType.SOLAR),
+                context -> startsOn(context.solarTermInfo(), solarTerm),
+                HolidayRuleKind.SOLAR_TERM, 0, 0, solarTerm
+        );
+    }
+
+    /**
+     * Checks whether a solar term starts on a day.
+     *
+     * @param info the solar term of the day
+     * @param solarTerm the solar term to check
+     * @return {@code true} if {@code solarTerm} starts during the day
+     */
+    static boolean startsOn(DailySolarTerm info, SolarTerm solarTerm) {
+        return info.termOfDay() == solarTerm && info.transition().isPresent();
+    }
+
+    private static void checkMonthDay(int month, int day) {
+        if (month < 1 || month > 12 || day < 1 || day > 31)
+            throw new IllegalArgumentException("Invalid month and day: " + month + "/" + day);
+    }
+
     public HolidayId id() {
         return id;
     }
 
+    /**
+     * Obtains the kind of key this rule is matched by.
+     *
+     * @return the kind of this rule
+     */
+    public HolidayRuleKind kind() {
+        return kind;
+    }
+
+    /**
+     * Obtains the month of a fixed solar or lunar rule.
+     *
+     * @return the month, 0 for the other kinds
+     */
+    public int month() {
+        return month;
+    }
+
+    /**
+     * Obtains the day of month of a fixed solar or lunar rule.
+     *
+     * @return the day of month, 0 for the other kinds
+     */
+    public int day() {
+        return day;
+    }
+
+    /**
+     * Obtains the solar term of a {@link HolidayRuleKind#SOLAR_TERM} rule.
+     *
+     * @return the solar term, null for the other kinds
+     */
+    public SolarTerm solarTerm() {
+        return solarTerm;
+    }
+
     public boolean matches(HolidayRuleContext context) {
         return predicate.test(context);
     }
+
+    /**
+     * Returns the solar dates on which this rule matches in a range of solar years.
+     *
+     * <p>The dates of a keyed rule are generated from its key, so that the time is proportional to the
+     * number of dates: a fixed solar day is a date of each year, a fixed lunar day is converted by the
+     * default calendar, once in its month and once in a leap month of the same number, and a solar term
+     * is located by its transition. The days of an {@link HolidayRuleKind#ARBITRARY} rule are tested one
+     * by one.</p>
+     *
+     * @param fromYear the first solar year, inclusive
+     * @param toYear the last solar year, inclusive
+     * @param zoneId the reference time zone
+     * @return an unmodifiable list of the solar dates in ascending order
+     * @throws NullPointerException if {@code zoneId} is null
+     * @throws IllegalArgumentException if {@code toYear} is before {@code fromYear}
+     */
+    public List<LocalDate> occurrences(int fromYear, int toYear, ZoneId zoneId) {
+        Objects.requireNonNull(zoneId, "zoneId");
+        if (toYear < fromYear)
+            throw new IllegalArgumentException("toYear must not be before fromYear");
+
+        List<LocalDate> dates = new ArrayList<>();
+        switch (kind) {
+            case FIXED_SOLAR -> addFixedSolarOccurrences(fromYear, toYear, dates);
+            case FIXED_LUNAR -> addFixedLunarOccurrences(fromYear, toYear, zoneId, dates);
+            case SOLAR_TERM -> addSolarTermOccurrences(fromYear, toYear, zoneId, dates);
+            case ARBITRARY -> addArbitraryOccurrences(fromYear, toYear, zoneId, dates);
+        }
+
+        return List.copyOf(dates);
+    }
+
+    private void addFixedSolarOccurrences(int fromYear, int toYear, List<LocalDate> dates) {
+        for (int year = fromYear; year <= toYear; year++) {
+            // February 29 only occurs in leap years
+            if (day <= YearMonth.of(year, month).lengthOfMonth())
+                dates.add(LocalDate.of(year, month, day));
+        }
+    }
+
+    private void addFixedLunarOccurrences(int fromYear, int toYear, ZoneId zoneId, List<LocalDate> dates) {
+        LunisolarCalendar calendar = LunisolarCalendars.ofDefault();
+
+        // The lunar year before the first solar year ends in it
+        for (int year = fromYear - 1; year <= toYear; year++) {
+            LocalDate monthStart = calendar.getSolarDate(LunarDate.of(year, month, 1), zoneId);
+            addLunarDayOf(calendar, monthStart, false, fromYear, toYear, zoneId, dates);
+
+            // The month following a month of the same number, if it is a leap month
+            LocalDate nextMonthStart = monthStart.plusDays(29);
+            if (calendar.getLunarDate(nextMonthStart, zoneId).dayOfMonth() != 1)
+                nextMonthStart = nextMonthStart.plusDays(1);
+
+            if (calendar.getLunarDate(nextMonthStart, zoneId).month().isLeapMonth())
+                addLunarDayOf(calendar, nextMonthStart, true, fromYear, toYear, zoneId, dates);
+        }
+    }
+
+    /**
+     * Adds the solar date of the day of this rule in a lunar month, if the month is long enough.
+     */
+    private void addLunarDayOf(LunisolarCalendar calendar, LocalDate monthStart, boolean isLeapMonth,
+                               int fromYear, int toYear, ZoneId zoneId, List<LocalDate> dates) {
+        LocalDate date = monthStart.plusDays(day - 1);
+        if (date.getYear() < fromYear || date.getYear() > toYear)
+            return;
+
+        LunarMonth lunarMonth = calendar.getLunarDate(date, zoneId).month();
+        if (lunarMonth.value() == month && lunarMonth.isLeapMonth() == isLeapMonth)
+            dates.add(date);
+    }
+
+    private void addSolarTermOccurrences(int fromYear, int toYear, ZoneId zoneId, List<LocalDate> dates) {
+        // The transitions of a year start with Minor Cold
+        int index = Math.floorMod(solarTerm.longitude() - SolarTerm.MINOR_COLD.longitude(), 360) / 15;
+
+        for (int year = fromYear; year <= toYear; year++) {
+            long transition = SolarTime.getInstance().termEpochSecondsOfYear(year)[index];
+            LocalDate date = LocalDate.ofInstant(Instant.ofEpochSecond(transition), zoneId);
+
+            if (date.getYear() >= fromYear && date.getYear() <= toYear)
+                dates.add(date);
+        }
+    }
+
+    private void addArbitraryOccurrences(int fromYear, int toYear, ZoneId zoneId, List<LocalDate> dates) {
+        LunisolarCalendar calendar = LunisolarCalendars.ofDefault();
+        // A rule context only needs the lunar date and the solar term, not the sexagenary cycles and holidays
+        Set<LunisolarComponent> components = EnumSet.of(LunisolarComponent.SOLAR_TERM);
+
+        LocalDate end = LocalDate.of(toYear + 1, 1, 1);
+        for (LocalDate date = LocalDate.of(fromYear, 1, 1); date.isBefore(end); date = date.plusDays(1)) {
+            LunisolarDate lunisolarDate = calendar.getDate(date, zoneId, components);
+            if (matches(HolidayRuleContext.of(date, lunisolarDate.toLunarDate(), lunisolarDate.solarTermInfo())))
+                dates.add(date);
+        }
+    }
 }
@@ -0,0 +1,33 @@
+package io.github.ethanlamtt.vietchrono.holiday;
+
+/**
+ * Represents for the kind of key a holiday rule is matched by.
+ *
+ * <p>Rules of the keyed kinds are looked up directly by {@link HolidayRules}, only the
+ * {@link #ARBITRARY} rules are tested one by one.</p>
+ *
+ * @author ethanlamtt
+ * @since 1.0.0
+ */
+public enum HolidayRuleKind {
+
+    /**
+     * Matches a fixed solar month and day.
+     */
+    FIXED_SOLAR,
+
+    /**
+     * Matches a fixed lunar month and day, in leap months as well.
+     */
+    FIXED_LUNAR,
+
+    /**
+     * Matches the day on which a solar term starts.
+     */
+    SOLAR_TERM,
+
+    /**
+     * Matches by an arbitrary predicate.
+     */
+    ARBITRARY
+}
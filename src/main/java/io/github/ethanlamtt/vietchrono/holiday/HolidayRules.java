@@ -1,13 +1,31 @@
 package io.github.ethanlamtt.vietchrono.holiday;
 
+import io.github.ethanlamtt.vietchrono.calendar.DailySolarTerm;
+import io.github.ethanlamtt.vietchrono.calendar.LunarDate;
+import io.github.ethanlamtt.vietchrono.calendar.SolarTerm;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.ServiceLoader;
+import java.util.function.ToIntFunction;
 
 /**
  * Provides holiday rules.
  *
+ * <p>The rules of the provider are compiled once into lookup tables by their {@link HolidayRuleKind kind}:
+ * fixed solar days and fixed lunar days are indexed by month and day, solar term rules by solar term.
+ * The holidays of a day are looked up in these tables, and only the {@link HolidayRuleKind#ARBITRARY}
+ * rules are tested. Holidays are returned in the order of the rules of the provider.</p>
+ * <p>The distinct holidays of the provider have dense {@link #ordinalOf ordinals} in the order of their first
+ * rule. The holidays of a day are also available as the set of their ordinals, see {@link #holidaysOf}: a
+ * {@code long} mask if there are at most {@value #MASK_SIZE} holidays, otherwise a bit set.</p>
  * <p>This class is immutable and thread-safe.</p>
  *
  * @author ethanlamtt
@@ -15,6 +33,21 @@ import java.util.ServiceLoader;
  */
 public final class HolidayRules {
 
+    /**
+     * Number of holidays a mask holds.
+     */
+    public static final int MASK_SIZE = Long.SIZE;
+
+    /**
+     * The entry of a key without rules.
+     */
+    private static final int[] NO_RULES = new int[0];
+
+    /**
+     * Number of entries per month in the tables of fixed days, indexed by {@code month * 32 + day}.
+     */
+    private static final int MONTH_SLOTS = 32;
+
     private static final HolidayRules INSTANCE;
 
     static {
@@ -24,27 +57,442 @@ public final class HolidayRules {
         INSTANCE = new HolidayRules(provider);
     }
 
-    private final HolidayRulesProvider provider;
+    /**
+     * The rules of the provider, in order.
+     */
+    private final HolidayRule[] rules;
+
+    /**
+     * The distinct holidays of the rules, indexed by ordinal.
+     */
+    private final HolidayId[] holidays;
+
+    /**
+     * The ordinals of the holidays.
+     */
+    private final Map<HolidayId, Integer> ordinals;
+
+    /**
+     * The ordinal of the holiday of each rule, by rule index.
+     */
+    private final int[] ruleOrdinals;
+
+    /**
+     * The holidays of a day without holiday.
+     */
+    private final DailyHolidays noHolidays;
+
+    /**
+     * The indexes of the fixed solar rules of each month and day.
+     */
+    private final int[][] solarRules;
+
+    /**
+     * The indexes of the fixed lunar rules of each month and day.
+     */
+    private final int[][] lunarRules;
+
+    /**
+     * The indexes of the solar term rules of each solar term, by ordinal.
+     */
+    private final int[][] termRules;
 
-    private HolidayRules(HolidayRulesProvider provider) {
-        this.provider = provider;
+    /**
+     * The indexes of the arbitrary rules.
+     */
+    private final int[] arbitraryRules;
+
+    HolidayRules(HolidayRulesProvider provider) {
+        this.rules = provider.getRules()
+                .toArray(HolidayRule[]::new);
+
+        Map<HolidayId, Integer> ordinals = new HashMap<>();
+        for (HolidayRule rule : rules)
+            ordinals.putIfAbsent(rule.id(), ordinals.size());
+
+        this.ordinals = Map.copyOf(ordinals);
+        this.holidays = new HolidayId[ordinals.size()];
+        ordinals.forEach((id, ordinal) -> holidays[ordinal] = id);
+
+        this.ruleOrdinals = new int[rules.length];
+        for (int i = 0; i < rules.length; i++)
+            ruleOrdinals[i] = ordinals.get(rules[i].id());
+
+        this.noHolidays = DailyHolidays.of(List.of(), NO_RULES, 0L, supportsMasks() ? null : new long[0]);
+
+        int monthTableSize = 13 * MONTH_SLOTS;
+        this.solarRules = index(HolidayRuleKind.FIXED_SOLAR, monthTableSize,
+                                rule -> rule.month() * MONTH_SLOTS + rule.day());
+        this.lunarRules = index(HolidayRuleKind.FIXED_LUNAR, monthTableSize,
+                                rule -> rule.month() * MONTH_SLOTS + rule.day());
+        this.termRules = index(HolidayRuleKind.SOLAR_TERM, SolarTerm.values().length,
+                               rule -> rule.solarTerm().ordinal());
+        this.arbitraryRules = index(HolidayRuleKind.ARBITRARY, 1, rule -> 0)[0];
     }
 
     public static HolidayRules getInstance() {
         return INSTANCE;
     }
 
+    /**
+     * Obtains the number of distinct holidays of the rules, which is one more than the largest ordinal.
+     *
+     * @return the number of holidays
+     */
+    public int holidayCount() {
+        return holidays.length;
+    }
+
+    /**
+     * Checks if the holidays of the rules fit in a mask.
+     *
+     * @return {@code true} if there are at most {@value #MASK_SIZE} holidays
+     */
+    public boolean supportsMasks() {
+        return holidays.length <= MASK_SIZE;
+    }
+
+    /**
+     * Obtains the ordinal of a holiday.
+     *
+     * @param id the id of the holiday
+     * @return the ordinal, from 0, or -1 if no rule has {@code id}
+     * @throws NullPointerException if {@code id} is null
+     */
+    public int ordinalOf(HolidayId id) {
+        Objects.requireNonNull(id, "id");
+
+        Integer ordinal = ordinals.get(id);
+        return ordinal != null ? ordinal : -1;
+    }
+
+    /**
+     * Obtains a holiday by its ordinal.
+     *
+     * @param ordinal the ordinal
+     * @return the id of the holiday with the ordinal
+     * @throws IllegalArgumentException if no holiday has the ordinal
+     */
+    public HolidayId holidayOf(int ordinal) {
+        if (ordinal < 0 || ordinal >= holidays.length)
+            throw new IllegalArgumentException("No holiday with ordinal " + ordinal);
+
+        return holidays[ordinal];
+    }
+
+    /**
+     * Returns the mask of a holiday, with only the bit of its ordinal set.
+     *
+     * @param id the id of the holiday
+     * @return the mask of the holiday, 0 if no rule has {@code id}
+     * @throws NullPointerException if {@code id} is null
+     * @throws IllegalStateException if the holidays do not {@link #supportsMasks() fit in a mask}
+     */
+    public long maskOf(HolidayId id) {
+        requireMasks();
+
+        int ordinal = ordinalOf(id);
+        return ordinal < 0 ? 0L : 1L << ordinal;
+    }
+
+    /**
+     * Returns the holidays of the bits set in a mask, in ascending order of ordinal.
+     *
+     * @param mask the mask
+     * @return an unmodifiable list of the ids of the holidays
+     * @throws IllegalArgumentException if a bit has no holiday
+     */
+    public List<HolidayId> listOfMask(long mask) {
+        HolidayId[] ids = new HolidayId[Long.bitCount(mask)];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = holidayOf(Long.numberOfTrailingZeros(mask));
+            mask &= mask - 1;
+        }
+
+        return List.of(ids);
+    }
+
+    /**
+     * Returns the holidays of the bits set in a bit set, in ascending order of ordinal.
+     *
+     * @param bits the bit set
+     * @return an unmodifiable list of the ids of the holidays
+     * @throws NullPointerException if {@code bits} is null
+     * @throws IllegalArgumentException if a bit has no holiday
+     */
+    public List<HolidayId> listOfBits(BitSet bits) {
+        return bits.stream()
+                .mapToObj(this::holidayOf)
+                .toList();
+    }
+
+    /**
+     * Returns the holidays of a list of ids, as held by a day with these holidays.
+     *
+     * @param ids the ids of the holidays
+     * @return the holidays, with the ordinal of each id of a rule
+     * @throws NullPointerException if {@code ids} or any id is null
+     */
+    public DailyHolidays holidaysOf(List<HolidayId> ids) {
+        List<HolidayId> copy = List.copyOf(ids);
+        if (copy.isEmpty())
+            return noHolidays;
+
+        int[] holidayOrdinals = new int[copy.size()];
+        long mask = 0L;
+        long[] words = supportsMasks() ? null : new long[wordCount()];
+
+        for (int i = 0; i < holidayOrdinals.length; i++) {
+            int ordinal = ordinalOf(copy.get(i));
+            holidayOrdinals[i] = ordinal;
+            if (ordinal < 0)
+                continue;
+
+            if (words == null)
+                mask |= 1L << ordinal;
+            else
+                words[ordinal >>> 6] |= 1L << ordinal;
+        }
+
+        return DailyHolidays.of(copy, holidayOrdinals, mask, words);
+    }
+
+    private int wordCount() {
+        return (holidays.length + Long.SIZE - 1) / Long.SIZE;
+    }
+
+    private void requireMasks() {
+        if (!supportsMasks())
+            throw new IllegalStateException("More holidays than the size of a mask: " + holidays.length);
+    }
+
+    /**
+     * Builds the lookup table of the rules of a kind.
+     *
+     * @param kind the kind of the indexed rules
+     * @param size the number of keys
+     * @param key the function returning the key of a rule
+     * @return the ascending indexes of the rules of each key
+     */
+    private int[][] index(HolidayRuleKind kind, int size, ToIntFunction<HolidayRule> key) {
+        int[][] table = new int[size][];
+        Arrays.fill(table, NO_RULES);
+
+        for (int i = 0; i < rules.length; i++) {
+            if (rules[i].kind() != kind)
+                continue;
+
+            int k = key.applyAsInt(rules[i]);
+            int[] entry = Arrays.copyOf(table[k], table[k].length + 1);
+            entry[entry.length - 1] = i;
+            table[k] = entry;
+        }
+
+        return table;
+    }
+
     public List<HolidayId> applyRules(HolidayRuleContext context) {
         Objects.requireNonNull(context, "context");
 
-        List<HolidayId> ids = new ArrayList<>();
+        return collect(context.solarDate(), context.lunarDate(), context.solarTermInfo(), context)
+                .ids();
+    }
+
+    /**
+     * Returns the holidays of a day, without creating a rule context unless an arbitrary rule is tested.
+     *
+     * @param solarDate the solar date of the day
+     * @param lunarDate the lunar date of the day
+     * @param dailySolarTerm the solar term of the day
+     * @return the ids of the holidays of the day, an empty list without allocation if there is none
+     * @throws NullPointerException if any argument is null
+     */
+    public List<HolidayId> applyRules(LocalDate solarDate, LunarDate lunarDate, DailySolarTerm dailySolarTerm) {
+        Objects.requireNonNull(solarDate, "solarDate");
+        Objects.requireNonNull(lunarDate, "lunarDate");
+        Objects.requireNonNull(dailySolarTerm, "dailySolarTerm");
+
+        return collect(solarDate, lunarDate, dailySolarTerm, null).ids();
+    }
+
+    /**
+     * Returns the holidays of a day as ids and as the set of their ordinals, matching the rules once.
+     *
+     * @param solarDate the solar date of the day
+     * @param lunarDate the lunar date of the day
+     * @param dailySolarTerm the solar term of the day
+     * @return the holidays of the day, a shared instance without allocation if there is none
+     * @throws NullPointerException if any argument is null
+     */
+    public DailyHolidays holidaysOf(LocalDate solarDate, LunarDate lunarDate, DailySolarTerm dailySolarTerm) {
+        Objects.requireNonNull(solarDate, "solarDate");
+        Objects.requireNonNull(lunarDate, "lunarDate");
+        Objects.requireNonNull(dailySolarTerm, "dailySolarTerm");
+
+        return collect(solarDate, lunarDate, dailySolarTerm, null);
+    }
+
+    /**
+     * Returns the holidays of a day as a bit set, whether they fit in a mask or not.
+     *
+     * @param solarDate the solar date of the day
+     * @param lunarDate the lunar date of the day
+     * @param dailySolarTerm the solar term of the day
+     * @return a new bit set with the bit of the ordinal of each holiday of the day set
+     * @throws NullPointerException if any argument is null
+     * @see #listOfBits(BitSet)
+     */
+    public BitSet applyRulesBits(LocalDate solarDate, LunarDate lunarDate, DailySolarTerm dailySolarTerm) {
+        return holidaysOf(solarDate, lunarDate, dailySolarTerm).bits();
+    }
+
+    /**
+     * Returns the holidays of a day as a mask, without allocation.
+     *
+     * <p>The bit of the {@link #ordinalOf ordinal} of each holiday of the day is set, so that holidays are
+     * tested and combined by bit operations.</p>
+     *
+     * @param solarDate the solar date of the day
+     * @param lunarDate the lunar date of the day
+     * @param dailySolarTerm the solar term of the day
+     * @return the mask of the holidays of the day
+     * @throws NullPointerException if any argument is null
+     * @throws IllegalStateException if the holidays do not {@link #supportsMasks() fit in a mask}, see
+     * {@link #applyRulesBits}
+     * @see #listOfMask(long)
+     */
+    public long applyRulesMask(LocalDate solarDate, LunarDate lunarDate, DailySolarTerm dailySolarTerm) {
+        Objects.requireNonNull(solarDate, "solarDate");
+        Objects.requireNonNull(lunarDate, "lunarDate");
+        Objects.requireNonNull(dailySolarTerm, "dailySolarTerm");
+        requireMasks();
+
+        long mask = 0L;
+        for (int i : solarRules[solarDate.getMonthValue() * MONTH_SLOTS + solarDate.getDayOfMonth()])
+            mask |= 1L << ruleOrdinals[i];
+        for (int i : lunarRules[lunarDate.monthValue() * MONTH_SLOTS + lunarDate.dayOfMonth()])
+            mask |= 1L << ruleOrdinals[i];
+
+        if (dailySolarTerm.transition().isPresent()) {
+            for (int i : termRules[dailySolarTerm.termOfDay().ordinal()])
+                mask |= 1L << ruleOrdinals[i];
+        }
 
-        for (HolidayRule rule : provider.getRules()) {
-            if (rule.matches(context)) {
-                ids.add(rule.id());
+        HolidayRuleContext context = null;
+        for (int i : arbitraryRules) {
+            if (context == null)
+                context = HolidayRuleContext.of(solarDate, lunarDate, dailySolarTerm);
+            if (rules[i].matches(context))
+                mask |= 1L << ruleOrdinals[i];
+        }
+
+        return mask;
+    }
+
+    /**
+     * Returns the solar dates of a holiday in a range of solar years.
+     *
+     * <p>The dates are generated by the {@link HolidayRule#occurrences rules} of the holiday, without
+     * converting the other days of the range.</p>
+     *
+     * @param id the id of the holiday
+     * @param fromYear the first solar year, inclusive
+     * @param toYear the last solar year, inclusive
+     * @param zoneId the reference time zone
+     * @return an unmodifiable list of the solar dates in ascending order, empty if no rule has {@code id}
+     * @throws NullPointerException if {@code id} or {@code zoneId} is null
+     * @throws IllegalArgumentException if {@code toYear} is before {@code fromYear}
+     */
+    public List<LocalDate> occurrences(HolidayId id, int fromYear, int toYear, ZoneId zoneId) {
+        Objects.requireNonNull(id, "id");
+        Objects.requireNonNull(zoneId, "zoneId");
+        if (toYear < fromYear)
+            throw new IllegalArgumentException("toYear must not be before fromYear");
+
+        List<LocalDate> dates = new ArrayList<>();
+        int matchedRules = 0;
+
+        for (HolidayRule rule : rules) {
+            if (rule.id().equals(id)) {
+                dates.addAll(rule.occurrences(fromYear, toYear, zoneId));
+                matchedRules++;
             }
         }
 
-        return ids;
+        // Several rules of a holiday may match the same days
+        if (matchedRules > 1)
+            return dates.stream()
+                    .sorted()
+                    .distinct()
+                    .toList();
+
+        return List.copyOf(dates);
+    }
+
+    private DailyHolidays collect(LocalDate solarDate, LunarDate lunarDate, DailySolarTerm dailySolarTerm,
+                                  HolidayRuleContext context) {
+        int[] solar = solarRules[solarDate.getMonthValue() * MONTH_SLOTS + solarDate.getDayOfMonth()];
+        int[] lunar = lunarRules[lunarDate.monthValue() * MONTH_SLOTS + lunarDate.dayOfMonth()];
+        int[] term = dailySolarTerm.transition().isPresent()
+                ? termRules[dailySolarTerm.termOfDay().ordinal()]
+                : NO_RULES;
+
+        HolidayId[] ids = null;
+        int[] holidayOrdinals = null;
+        int count = 0;
+        long mask = 0L;
+        long[] words = null;
+
+        // Merges the ascending rule indexes of the candidates, so that the holidays keep the order of the rules
+        int s = 0;
+        int l = 0;
+        int t = 0;
+        int a = 0;
+        while (true) {
+            int next = Math.min(Math.min(peek(solar, s), peek(lunar, l)),
+                                Math.min(peek(term, t), peek(arbitraryRules, a)));
+            if (next == Integer.MAX_VALUE)
+                break;
+
+            if (next == peek(solar, s)) {
+                s++;
+            } else if (next == peek(lunar, l)) {
+                l++;
+            } else if (next == peek(term, t)) {
+                t++;
+            } else {
+                a++;
+                if (context == null)
+                    context = HolidayRuleContext.of(solarDate, lunarDate, dailySolarTerm);
+                if (!rules[next].matches(context))
+                    continue;
+            }
+
+            if (ids == null) {
+                int capacity = solar.length + lunar.length + term.length + arbitraryRules.length;
+                ids = new HolidayId[capacity];
+                holidayOrdinals = new int[capacity];
+                if (!supportsMasks())
+                    words = new long[wordCount()];
+            }
+
+            int ordinal = ruleOrdinals[next];
+            ids[count] = rules[next].id();
+            holidayOrdinals[count++] = ordinal;
+            if (words == null)
+                mask |= 1L << ordinal;
+            else
+                words[ordinal >>> 6] |= 1L << ordinal;
+        }
+
+        if (ids == null)
+            return noHolidays;
+
+        return DailyHolidays.of(List.of(Arrays.copyOf(ids, count)), Arrays.copyOf(holidayOrdinals, count),
+                                mask, words);
+    }
+
+    private static int peek(int[] indexes, int position) {
+        return position < indexes.length ? indexes[position] : Integer.MAX_VALUE;
     }
 }
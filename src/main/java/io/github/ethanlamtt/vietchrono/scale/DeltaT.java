@@ -7,10 +7,15 @@ import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.Objects;
 import java.util.ServiceLoader;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * Provides deltaT calculations for UT and TT conversion.
  *
+ * <p>Conversions from epoch seconds interpolate deltaT from a table of quadratics through samples at the
+ * start, the middle and the end of every year from {@value #FIRST_TABLE_YEAR} to {@value #LAST_TABLE_YEAR}.
+ * The table is filled lazily, {@value #BLOCK_YEARS} years at a time. The interpolation stays within
+ * {@value #TABLE_TOLERANCE} seconds of the provider for the default provider.</p>
  * <p>This class is instance-controlled, immutable and thread-safe.</p>
  *
  * @author ethanlamtt
@@ -28,6 +33,41 @@ public final class DeltaT {
      */
     private static final double DAYS_IN_JULIAN_YEAR = 365.25;
 
+    /**
+     * Number of seconds in a day.
+     */
+    private static final long DAY_IN_SECONDS = 86400;
+
+    /**
+     * The first year of the sample table.
+     */
+    static final int FIRST_TABLE_YEAR = -4000;
+
+    /**
+     * The last year of the sample table.
+     */
+    static final int LAST_TABLE_YEAR = 5999;
+
+    /**
+     * Number of years of the sample table filled at once.
+     */
+    static final int BLOCK_YEARS = 64;
+
+    /**
+     * The bound of the interpolation error against the default provider, in seconds.
+     */
+    static final double TABLE_TOLERANCE = 0.002;
+
+    /**
+     * Epoch day of January 1 of year 0 in the proleptic Gregorian calendar.
+     */
+    private static final long EPOCH_DAY_OF_YEAR_ZERO = -719_528;
+
+    /**
+     * The years at which the provider is sampled to identify it.
+     */
+    private static final double[] FINGERPRINT_YEARS = {1800.0, 1900.0, 2000.0, 2100.0, 2200.0};
+
     static {
         ServiceLoader<DeltaTProvider> loader = ServiceLoader.load(DeltaTProvider.class);
         DeltaTProvider provider = loader.findFirst()
@@ -40,6 +80,13 @@ public final class DeltaT {
      */
     private final DeltaTProvider provider;
 
+    /**
+     * Blocks of the sample table, null until first used. Each block holds the coefficients of the
+     * quadratics of {@value #BLOCK_YEARS} consecutive years, in the fraction of the year.
+     */
+    private final AtomicReferenceArray<double[]> sampleBlocks =
+            new AtomicReferenceArray<>((LAST_TABLE_YEAR - FIRST_TABLE_YEAR) / BLOCK_YEARS + 1);
+
     /**
      * Constructs a {@code DeltaT}.
      *
@@ -61,6 +108,55 @@ public final class DeltaT {
         return INSTANCE;
     }
 
+    /**
+     * Returns the class name of the deltaT provider in use.
+     *
+     * <p>Used to tag data precomputed with this provider.</p>
+     *
+     * @return the provider class name
+     */
+    public String providerName() {
+        return provider.getClass()
+                .getName();
+    }
+
+    /**
+     * Returns the deltaT values of the provider in use at fixed sample years.
+     *
+     * <p>Used with {@link #providerName()} to tag data precomputed with this provider, as providers of
+     * the same class may be configured with different tables.</p>
+     *
+     * @return a new array of the deltaT samples
+     * @see #matchesFingerprint(double[])
+     */
+    public double[] fingerprint() {
+        double[] samples = new double[FINGERPRINT_YEARS.length];
+        for (int i = 0; i < samples.length; i++)
+            samples[i] = atYear(FINGERPRINT_YEARS[i]);
+
+        return samples;
+    }
+
+    /**
+     * Checks whether deltaT samples were produced by the provider in use.
+     *
+     * @param samples the samples returned by {@link #fingerprint()}
+     * @return {@code true} if all samples match the provider in use
+     * @throws NullPointerException if {@code samples} is null
+     */
+    public boolean matchesFingerprint(double[] samples) {
+        Objects.requireNonNull(samples, "samples");
+        if (samples.length != FINGERPRINT_YEARS.length)
+            return false;
+
+        for (int i = 0; i < samples.length; i++) {
+            if (Double.compare(samples[i], atYear(FINGERPRINT_YEARS[i])) != 0)
+                return false;
+        }
+
+        return true;
+    }
+
     /**
      * Returns the deltaT value at a specified Julian Day number.
      *
@@ -72,6 +168,94 @@ public final class DeltaT {
         return provider.estimate(year);
     }
 
+    /**
+     * Returns the deltaT value at a specified moment, in seconds from Unix epoch.
+     *
+     * <p>The fractional year is computed arithmetically in the proleptic Gregorian calendar, and deltaT is
+     * interpolated from the quadratic of the year in the table. Moments outside the table are estimated by the
+     * provider. This method does not allocate once the block of the year is filled.</p>
+     *
+     * @param epochSecond the number of seconds from Unix epoch
+     * @return the deltaT at {@code epochSecond}
+     */
+    public double atEpochSecond(long epochSecond) {
+        long epochDay = Math.floorDiv(epochSecond, DAY_IN_SECONDS);
+        long year = yearOfEpochDay(epochDay);
+        long startOfYear = epochDayOfYear(year);
+        long daysInYear = epochDayOfYear(year + 1) - startOfYear;
+
+        double fraction = (double) (epochSecond - startOfYear * DAY_IN_SECONDS) / (daysInYear * DAY_IN_SECONDS);
+
+        if (year < FIRST_TABLE_YEAR || year > LAST_TABLE_YEAR)
+            return provider.estimate(year + fraction);
+
+        int offset = (int) (year - FIRST_TABLE_YEAR);
+        double[] block = sampleBlock(offset / BLOCK_YEARS);
+        int index = 3 * (offset % BLOCK_YEARS);
+
+        return block[index] + fraction * (block[index + 1] + fraction * block[index + 2]);
+    }
+
+    /**
+     * Returns a block of the sample table, filling it if needed.
+     *
+     * @param blockIndex the index of the block
+     * @return the samples of the block
+     */
+    private double[] sampleBlock(int blockIndex) {
+        double[] block = sampleBlocks.get(blockIndex);
+        if (block != null)
+            return block;
+
+        // The end sample is taken just before the next year, so that a year never mixes two
+        // pieces of a piecewise provider
+        block = new double[3 * BLOCK_YEARS];
+        int firstYear = FIRST_TABLE_YEAR + blockIndex * BLOCK_YEARS;
+        for (int i = 0; i < BLOCK_YEARS; i++) {
+            double start = provider.estimate(firstYear + i);
+            double middle = provider.estimate(firstYear + i + 0.5);
+            double end = provider.estimate(Math.nextDown(firstYear + i + 1.0));
+
+            block[3 * i] = start;
+            block[3 * i + 1] = 4 * middle - 3 * start - end;
+            block[3 * i + 2] = 2 * (start + end) - 4 * middle;
+        }
+
+        // Concurrent fills compute the same samples, the first one is kept
+        return sampleBlocks.compareAndExchange(blockIndex, null, block) instanceof double[] existing
+                ? existing
+                : block;
+    }
+
+    /**
+     * Returns the proleptic Gregorian year of an epoch day.
+     *
+     * @param epochDay the count of days from 1970-01-01
+     * @return the year
+     */
+    private static long yearOfEpochDay(long epochDay) {
+        // 146097 days in 400 years, the estimate is off by at most one year
+        long year = Math.floorDiv((epochDay - EPOCH_DAY_OF_YEAR_ZERO) * 400, 146_097);
+        if (epochDayOfYear(year + 1) <= epochDay)
+            return year + 1;
+        if (epochDayOfYear(year) > epochDay)
+            return year - 1;
+
+        return year;
+    }
+
+    /**
+     * Returns the epoch day of January 1 of a proleptic Gregorian year.
+     *
+     * @param year the year
+     * @return the count of days from 1970-01-01
+     */
+    private static long epochDayOfYear(long year) {
+        // Leap days of the years before the specified one
+        long leapDays = Math.floorDiv(year + 3, 4) - Math.floorDiv(year + 99, 100) + Math.floorDiv(year + 399, 400);
+        return EPOCH_DAY_OF_YEAR_ZERO + 365 * year + leapDays;
+    }
+
     /**
      * Returns the deltaT value at a specified year.
      *
@@ -91,7 +275,7 @@ public final class DeltaT {
     public double atZonedDateTime(ZonedDateTime zdt) {
         ZonedDateTime startOfYear = zdt.truncatedTo(ChronoUnit.DAYS)
                 .withDayOfYear(1);
-        ZonedDateTime startOfNextYear = zdt.plusYears(1);
+        ZonedDateTime startOfNextYear = startOfYear.plusYears(1);
 
         long nanoOfYear = Duration.between(startOfYear, zdt).toNanos();
         long nanoInYear = Duration.between(startOfYear, startOfNextYear).toNanos();
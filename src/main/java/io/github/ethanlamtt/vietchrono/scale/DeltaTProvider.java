@@ -7,6 +7,7 @@ package io.github.ethanlamtt.vietchrono.scale;
  * @since 1.0.0
  * @see EspenakMeeusDeltaTProvider
  * @see NoOpDeltaTProvider
+ * @see TabulatedDeltaTProvider
  */
 public interface DeltaTProvider {
     /**
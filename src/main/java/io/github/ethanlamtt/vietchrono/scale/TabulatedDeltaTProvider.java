@@ -0,0 +1,269 @@
+package io.github.ethanlamtt.vietchrono.scale;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Provides deltaT algorithm provider implementation using
+ * a table of historical and observed values.
+ *
+ * <p>The values are loaded from the {@value #RESOURCE} resource, evenly spaced in years. A year inside the
+ * table is answered by a cubic through the four nearest values, found by index. Outside the table the
+ * deltaT is estimated by {@link EspenakMeeusDeltaTProvider}, shifted to meet the edge of the table. The
+ * shift fades out over {@value #FADE_YEARS} years, so the estimate is continuous at both edges.</p>
+ * <p>This provider is selected by naming it in a
+ * {@code META-INF/services/io.github.ethanlamtt.vietchrono.scale.DeltaTProvider} resource.</p>
+ * <p>This class is immutable and thread-safe.</p>
+ *
+ * @author ethanlamtt
+ * @since 1.0.0
+ */
+public final class TabulatedDeltaTProvider implements DeltaTProvider {
+
+    /**
+     * The resource name of the tabulated values.
+     */
+    static final String RESOURCE = "data/delta-t.txt";
+
+    /**
+     * Number of years over which the shift of the polynomial fades out outside the table.
+     */
+    static final double FADE_YEARS = 100.0;
+
+    /**
+     * Holds the table loaded from {@value #RESOURCE}.
+     */
+    private static final class Holder {
+        private static final Table TABLE = loadResource();
+    }
+
+    /**
+     * Represents for deltaT values at evenly spaced years.
+     */
+    static final class Table {
+
+        /**
+         * The table of a missing resource, covering nothing.
+         */
+        static final Table EMPTY = new Table(0.0, 1.0, new double[0]);
+
+        /**
+         * The year of the first value.
+         */
+        private final double firstYear;
+
+        /**
+         * The number of years between two values.
+         */
+        private final double step;
+
+        /**
+         * The deltaT values in seconds.
+         */
+        private final double[] values;
+
+        Table(double firstYear, double step, double[] values) {
+            this.firstYear = firstYear;
+            this.step = step;
+            this.values = Objects.requireNonNull(values, "values");
+        }
+
+        /**
+         * Obtains the year of the first value.
+         * @return the first year
+         */
+        double firstYear() {
+            return firstYear;
+        }
+
+        /**
+         * Obtains the year of the last value.
+         * @return the last year
+         */
+        double lastYear() {
+            return firstYear + step * (values.length - 1);
+        }
+
+        /**
+         * Checks whether the table covers a year.
+         *
+         * @param year the decimal year
+         * @return {@code true} if {@code year} lies between the first and the last values
+         */
+        boolean covers(double year) {
+            return values.length >= 4 && year >= firstYear && year <= lastYear();
+        }
+
+        /**
+         * Interpolates the deltaT at a covered year.
+         *
+         * @param year the decimal year, covered by this table
+         * @return deltaT value in seconds
+         */
+        double interpolate(double year) {
+            double position = (year - firstYear) / step;
+
+            // The four values around the year, moved inwards at the edges
+            int first = Math.clamp((long) Math.floor(position) - 1, 0, values.length - 4);
+            double x = position - first;
+
+            double y0 = values[first];
+            double y1 = values[first + 1];
+            double y2 = values[first + 2];
+            double y3 = values[first + 3];
+
+            // Lagrange's cubic through the nodes 0, 1, 2 and 3
+            return -y0 * (x - 1) * (x - 2) * (x - 3) / 6
+                    + y1 * x * (x - 2) * (x - 3) / 2
+                    - y2 * x * (x - 1) * (x - 3) / 2
+                    + y3 * x * (x - 1) * (x - 2) / 6;
+        }
+
+        /**
+         * Reads a table from lines of a year and a deltaT value.
+         *
+         * <p>Blank lines and lines starting with {@code #} are skipped.</p>
+         *
+         * @param reader the reader of the lines
+         * @return the table
+         * @throws IOException if an I/O error occurs
+         * @throws IllegalArgumentException if a line is malformed, or the years are not evenly increasing
+         */
+        static Table read(Reader reader) throws IOException {
+            BufferedReader lines = new BufferedReader(reader);
+            double[] years = new double[256];
+            double[] values = new double[256];
+            int count = 0;
+
+            String line;
+            while ((line = lines.readLine()) != null) {
+                line = line.strip();
+                if (line.isEmpty() || line.startsWith("#"))
+                    continue;
+
+                String[] columns = line.split("\\s+");
+                if (columns.length != 2)
+                    throw new IllegalArgumentException("Malformed deltaT line: " + line);
+
+                if (count == years.length) {
+                    years = Arrays.copyOf(years, 2 * count);
+                    values = Arrays.copyOf(values, 2 * count);
+                }
+
+                try {
+                    years[count] = Double.parseDouble(columns[0]);
+                    values[count] = Double.parseDouble(columns[1]);
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("Malformed deltaT line: " + line, e);
+                }
+                count++;
+            }
+
+            if (count < 4)
+                throw new IllegalArgumentException("At least 4 deltaT values are required");
+
+            double step = years[1] - years[0];
+            for (int i = 1; i < count; i++) {
+                if (!(step > 0) || Math.abs(years[i] - years[i - 1] - step) > 1e-9)
+                    throw new IllegalArgumentException("Years are not evenly increasing at " + years[i]);
+            }
+
+            return new Table(years[0], step, Arrays.copyOf(values, count));
+        }
+    }
+
+    /**
+     * The table interpolated by this provider.
+     */
+    private final Table table;
+
+    /**
+     * The provider of years outside the table.
+     */
+    private final DeltaTProvider fallback;
+
+    /**
+     * The shift of the fallback meeting the table at its first year, 0 if the table is too short.
+     */
+    private final double firstShift;
+
+    /**
+     * The shift of the fallback meeting the table at its last year, 0 if the table is too short.
+     */
+    private final double lastShift;
+
+    /**
+     * Constructs a {@code TabulatedDeltaTProvider} from the shipped table.
+     *
+     * <p>This constructor is public so that {@link java.util.ServiceLoader} can instantiate this class.
+     * Instances share the loaded table.</p>
+     */
+    public TabulatedDeltaTProvider() {
+        this(Holder.TABLE);
+    }
+
+    /**
+     * Constructs a {@code TabulatedDeltaTProvider} interpolating the specified table.
+     *
+     * @param table the tabulated values
+     */
+    TabulatedDeltaTProvider(Table table) {
+        this.table = table;
+        this.fallback = EspenakMeeusDeltaTProvider.getInstance();
+
+        this.firstShift = shiftAt(table.firstYear());
+        this.lastShift = shiftAt(table.lastYear());
+    }
+
+    /**
+     * Computes the shift of the fallback meeting the table at one of its edges.
+     *
+     * @param edge the first or the last year of the table
+     * @return the shift in seconds, 0 if the table is too short to be interpolated
+     */
+    private double shiftAt(double edge) {
+        if (table.values.length < 4)
+            return 0;
+
+        return table.interpolate(edge) - fallback.estimate(edge);
+    }
+
+    /**
+     * Loads the table from the class path.
+     *
+     * @return the table, or an empty table if the resource is missing or unreadable
+     */
+    private static Table loadResource() {
+        try (InputStream is = TabulatedDeltaTProvider.class.getClassLoader().getResourceAsStream(RESOURCE)) {
+            if (is == null)
+                return Table.EMPTY;
+
+            return Table.read(new InputStreamReader(is, StandardCharsets.US_ASCII));
+        } catch (IOException | RuntimeException e) {
+            return Table.EMPTY;
+        }
+    }
+
+    @Override
+    public double estimate(double year) {
+        if (table.covers(year))
+            return table.interpolate(year);
+
+        if (table.values.length < 4)
+            return fallback.estimate(year);
+
+        boolean beforeTable = year < table.firstYear();
+        double distance = beforeTable ? table.firstYear() - year : year - table.lastYear();
+        if (distance >= FADE_YEARS)
+            return fallback.estimate(year);
+
+        double shift = beforeTable ? firstShift : lastShift;
+        return fallback.estimate(year) + shift * (1 - distance / FADE_YEARS);
+    }
+}
@@ -4,7 +4,6 @@ import io.github.ethanlamtt.vietchrono.astro.Moment;
 
 import java.time.LocalDate;
 import java.time.ZoneId;
-import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.Objects;
 
@@ -63,18 +62,26 @@ public final class SexagenaryCycle {
      * @return an {@code SexagenaryCycle} instance
      */
     public static SexagenaryCycle ofDay(Moment moment, ZoneId zoneId) {
-        LocalDate anchorDate = LocalDate.of(1970, 1, 1);
+        long epochDay = LocalDate.ofInstant(moment.toInstant(), zoneId)
+                .toEpochDay();
+
+        return ofEpochDay(epochDay);
+    }
 
+    /**
+     * Returns an {@code SexagenaryCycle} of a day, from its count of days since 1970-01-01.
+     *
+     * <p>January 1, 1970 is a Yin Metal Snake day.</p>
+     *
+     * @param epochDay the count of days from 1970-01-01
+     * @return an {@code SexagenaryCycle} instance
+     */
+    public static SexagenaryCycle ofEpochDay(long epochDay) {
         int stemOffset = HeavenlyStem.YIN_METAL.index();
         int branchOffset = EarthlyBranch.SNAKE.index();
 
-        ZonedDateTime targetDate = moment.toInstant()
-                .atZone(zoneId);
-
-        long days = ChronoUnit.DAYS.between(anchorDate, targetDate);
-
-        int stemIndex = (int) (days + stemOffset) % 10;
-        int branchIndex = (int) (days + branchOffset) % 12;
+        int stemIndex = Math.floorMod(epochDay + stemOffset, 10);
+        int branchIndex = Math.floorMod(epochDay + branchOffset, 12);
 
         HeavenlyStem stem = HeavenlyStem.ofIndex(stemIndex);
         EarthlyBranch branch = EarthlyBranch.ofIndex(branchIndex);
@@ -0,0 +1,70 @@
+package io.github.ethanlamtt.vietchrono.astro;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Modifier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChebyshevSolarCalculatorTest {
+
+    private static final SolarCalculator VSOP87 = Vsop87SolarCalculator.of(Vsop87SolarCalculator.Truncation.FULL);
+
+    /**
+     * January 1, 1900 and January 1, 2101.
+     */
+    private static final double FROM_JDE = 2415020.5;
+    private static final double TO_JDE = 2488434.5;
+
+    private static double errorInArcseconds(SolarCalculator calculator, double jde) {
+        double error = Math.abs(calculator.apparentLongitude(jde) - VSOP87.apparentLongitude(jde));
+        return Math.min(error, 360 - error) * 3600;
+    }
+
+    @Test
+    void testApparentLongitude() {
+        SolarCalculator calculator = new ChebyshevSolarCalculator();
+        assertEquals(199.907372, calculator.apparentLongitude(2448908.5), 1e-2);
+    }
+
+    @Test
+    void testMaximumError() {
+        ChebyshevSolarCalculator calculator = new ChebyshevSolarCalculator();
+        assertTrue(calculator.covers(FROM_JDE));
+        assertTrue(calculator.covers(TO_JDE - 1e-6));
+
+        double maximumError = 0.0;
+        for (double jde = FROM_JDE; jde < TO_JDE; jde += 0.37)
+            maximumError = Math.max(maximumError, errorInArcseconds(calculator, jde));
+
+        // The ends of every segment, where interpolation errors are the largest
+        for (double jde = FROM_JDE; jde < TO_JDE; jde += ChebyshevSolarCalculator.SEGMENT_DAYS) {
+            maximumError = Math.max(maximumError, errorInArcseconds(calculator, jde));
+            maximumError = Math.max(maximumError, errorInArcseconds(calculator, jde - 1e-6));
+        }
+
+        assertTrue(maximumError < ChebyshevSolarCalculator.MAXIMUM_ERROR, "Maximum error: " + maximumError);
+    }
+
+    @Test
+    void testFallback() {
+        ChebyshevSolarCalculator calculator = new ChebyshevSolarCalculator();
+        assertFalse(calculator.covers(FROM_JDE - 1));
+        assertFalse(calculator.covers(TO_JDE + ChebyshevSolarCalculator.SEGMENT_DAYS));
+
+        assertEquals(VSOP87.apparentLongitude(FROM_JDE - 1), calculator.apparentLongitude(FROM_JDE - 1));
+        assertEquals(VSOP87.apparentLongitude(2524593.5), calculator.apparentLongitude(2524593.5));
+
+        SolarCalculator empty = new ChebyshevSolarCalculator(ChebyshevSolarCalculator.Segments.EMPTY);
+        assertEquals(VSOP87.apparentLongitude(2448908.5), empty.apparentLongitude(2448908.5));
+    }
+
+    @Test
+    void testServiceProvider() throws ReflectiveOperationException {
+        // Required by ServiceLoader on the class path
+        assertTrue(Modifier.isPublic(ChebyshevSolarCalculator.class.getModifiers()));
+        SolarCalculator calculator = ChebyshevSolarCalculator.class.getConstructor()
+                .newInstance();
+        assertEquals(ChebyshevSolarCalculator.class.getName(), calculator.name());
+    }
+}
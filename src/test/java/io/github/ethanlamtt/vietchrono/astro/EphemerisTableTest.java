@@ -0,0 +1,119 @@
+package io.github.ethanlamtt.vietchrono.astro;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
+import static io.github.ethanlamtt.vietchrono.astro.EphemerisTable.NOT_COVERED;
+import static io.github.ethanlamtt.vietchrono.astro.LunarPhase.NEW_MOON;
+import static org.junit.jupiter.api.Assertions.*;
+
+class EphemerisTableTest {
+
+    private static EphemerisTable table;
+
+    @BeforeAll
+    static void generate() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            EphemerisTableGenerator.write(out, 2020, 2030);
+        }
+        table = EphemerisTable.read(ByteBuffer.wrap(bytes.toByteArray()));
+    }
+
+    private static long epochSecond(int year, int month, int day) {
+        return LocalDate.of(year, month, day)
+                .atStartOfDay()
+                .toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private static long liveNewMoonAfter(long epochSecond) {
+        long n = 0;
+        while (JulianDay.ofEphemeris(NEW_MOON.atLunation(n)).toMoment().value() > epochSecond)
+            n--;
+        while (JulianDay.ofEphemeris(NEW_MOON.atLunation(n)).toMoment().value() <= epochSecond)
+            n++;
+        return JulianDay.ofEphemeris(NEW_MOON.atLunation(n)).toMoment().value();
+    }
+
+    @Test
+    void testGetInstance() {
+        EphemerisTable instance = EphemerisTable.getInstance();
+        assertSame(instance, EphemerisTable.getInstance());
+        assertEquals(1800, instance.fromYear());
+        assertEquals(2200, instance.toYear());
+    }
+
+    @Test
+    void testRead() {
+        assertEquals(2020, table.fromYear());
+        assertEquals(2030, table.toYear());
+
+        assertThrows(IllegalArgumentException.class,
+                     () -> EphemerisTable.read(ByteBuffer.wrap(new byte[16])));
+    }
+
+    @Test
+    void testNewMoonAfter() {
+        for (long t = epochSecond(2020, 1, 1); t < epochSecond(2031, 1, 1); t += 86400L * 7) {
+            assertEquals(liveNewMoonAfter(t), table.newMoonAfter(t));
+        }
+
+        // The new moon itself is not after its own moment
+        long newMoon = table.newMoonAfter(epochSecond(2025, 1, 1));
+        assertTrue(table.newMoonAfter(newMoon) > newMoon);
+        assertEquals(newMoon, table.newMoonBefore(newMoon + 1));
+        assertTrue(table.newMoonBefore(newMoon) < newMoon);
+
+        assertEquals(NOT_COVERED, table.newMoonAfter(epochSecond(1990, 1, 1)));
+        assertEquals(NOT_COVERED, table.newMoonBefore(epochSecond(2040, 1, 1)));
+    }
+
+    @Test
+    void testNewMoonAt() {
+        // January 29, 2025 12:36 UTC
+        assertEquals(JulianDay.ofEphemeris(NEW_MOON.atLunation(311)).toMoment().value(),
+                     table.newMoonAt(311));
+        assertEquals(NOT_COVERED, table.newMoonAt(0));
+    }
+
+    @Test
+    void testTransitionNear() {
+        SolarTime solarTime = SolarTime.getInstance();
+        assertTrue(table.coversTermsOf(Vsop87SolarCalculator.getInstance()));
+
+        for (long t = epochSecond(2020, 1, 1); t < epochSecond(2031, 1, 1); t += 86400L * 11) {
+            for (int longitude = 0; longitude < 360; longitude += 45) {
+                long transition = table.transitionNear(longitude, t);
+                assertNotEquals(NOT_COVERED, transition);
+                assertTrue(Math.abs(transition - t) <= 86400L * 190);
+
+                double jde = solarTime.solveLongitude(longitude, Moment.of(transition).toEphemeris().value());
+                long live = JulianDay.ofEphemeris(jde).toMoment().value();
+                assertTrue(Math.abs(live - transition) <= 2);
+            }
+        }
+
+        // Winter solstice 2025: December 21, 15:03 UTC
+        long solstice = table.transitionNear(270, epochSecond(2025, 12, 14));
+        assertTrue(Math.abs(epochSecond(2025, 12, 21) + 15 * 3600 + 3 * 60 - solstice) <= 60);
+
+        assertEquals(NOT_COVERED, table.transitionNear(271, epochSecond(2025, 12, 14)));
+        assertEquals(NOT_COVERED, table.transitionNear(270, epochSecond(2040, 12, 14)));
+    }
+
+    @Test
+    void testEmpty() {
+        EphemerisTable empty = EphemerisTable.empty();
+        assertEquals(NOT_COVERED, empty.newMoonAfter(epochSecond(2025, 1, 1)));
+        assertEquals(NOT_COVERED, empty.newMoonBefore(epochSecond(2025, 1, 1)));
+        assertEquals(NOT_COVERED, empty.transitionNear(0, epochSecond(2025, 1, 1)));
+        assertFalse(empty.coversTermsOf(Vsop87SolarCalculator.getInstance()));
+    }
+}
@@ -0,0 +1,59 @@
+package io.github.ethanlamtt.vietchrono.astro;
+
+import java.util.Arrays;
+
+/**
+ * Compares the evaluation of consecutive lunations one by one and in a batch.
+ *
+ * <p>Run it with the test class path and the Vector API module, optionally with the number of rounds:</p>
+ * <pre>
+ * java --add-modules jdk.incubator.vector -cp target/classes:target/test-classes \
+ *     io.github.ethanlamtt.vietchrono.astro.LunarPhaseBatchBenchmark 20
+ * </pre>
+ * <p>Without the module, the batch is evaluated one by one as well. Each round evaluates the full moons
+ * of the years 1000 to 3000, the first half of the rounds warms the compiler up.</p>
+ *
+ * @author ethanlamtt
+ * @since 1.0.0
+ */
+public final class LunarPhaseBatchBenchmark {
+
+    private static final long FIRST_LUNATION = -12_400;
+
+    private static final int COUNT = 24_800;
+
+    private LunarPhaseBatchBenchmark() {}
+
+    public static void main(String[] args) {
+        int rounds = args.length > 0 ? Integer.parseInt(args[0]) : 20;
+        double[] jdes = new double[COUNT];
+        double[] scalarNanos = new double[rounds];
+        double[] batchNanos = new double[rounds];
+        double sink = 0.0;
+
+        for (int round = 0; round < rounds; round++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < COUNT; i++)
+                jdes[i] = LunarPhase.FULL_MOON.atLunation(FIRST_LUNATION + i);
+            scalarNanos[round] = (System.nanoTime() - start) / (double) COUNT;
+            sink += jdes[round];
+
+            start = System.nanoTime();
+            LunarPhase.FULL_MOON.atLunations(FIRST_LUNATION, COUNT, jdes);
+            batchNanos[round] = (System.nanoTime() - start) / (double) COUNT;
+            sink += jdes[round];
+        }
+
+        System.out.printf("vectorized: %s%n", LunarPhase.isVectorized());
+        System.out.printf("one by one: median %.1f ns per lunation%n", median(scalarNanos));
+        System.out.printf("batch:      median %.1f ns per lunation%n", median(batchNanos));
+        if (sink == 0.0)
+            System.out.println();
+    }
+
+    private static double median(double[] nanos) {
+        double[] measured = Arrays.copyOfRange(nanos, nanos.length / 2, nanos.length);
+        Arrays.sort(measured);
+        return measured[measured.length / 2];
+    }
+}
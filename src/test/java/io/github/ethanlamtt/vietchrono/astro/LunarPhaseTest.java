@@ -2,13 +2,41 @@ package io.github.ethanlamtt.vietchrono.astro;
 
 import org.junit.jupiter.api.Test;
 
-import static io.github.ethanlamtt.vietchrono.astro.LunarPhase.NEW_MOON;
+import static io.github.ethanlamtt.vietchrono.astro.LunarPhase.*;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class LunarPhaseTest {
 
     @Test
     void testAngleFraction() {
         assertEquals(0.0, NEW_MOON.angleFraction());
+        assertEquals(0.25, FIRST_QUARTER.angleFraction());
+        assertEquals(0.5, FULL_MOON.angleFraction());
+        assertEquals(0.75, LAST_QUARTER.angleFraction());
+    }
+
+    @Test
+    void testAtLunation() {
+        // Last quarter of January 2044, example 49.b of Astronomical Algorithms
+        assertEquals(2467636.49186, LAST_QUARTER.atLunation(544), 1e-3);
+
+        // First quarter on January 6, 2025 at 23:56 UTC and full moon on January 13, 2025 at 22:27 UTC
+        assertEquals(1736207760, JulianDay.ofEphemeris(FIRST_QUARTER.atLunation(309)).toMoment().value(), 60);
+        assertEquals(1736807220, JulianDay.ofEphemeris(FULL_MOON.atLunation(309)).toMoment().value(), 60);
+    }
+
+    @Test
+    void testAtLunations() {
+        double[] jdes = new double[40];
+        FULL_MOON.atLunations(300, 37, jdes);
+
+        for (int i = 0; i < 37; i++)
+            assertEquals(FULL_MOON.atLunation(300 + i), jdes[i], 1e-9);
+        assertEquals(0.0, jdes[37]);
+
+        assertThrows(IllegalArgumentException.class, () -> FULL_MOON.atLunations(300, 41, jdes));
+        assertThrows(IllegalArgumentException.class, () -> FULL_MOON.atLunations(300, -1, jdes));
+        assertThrows(NullPointerException.class, () -> FULL_MOON.atLunations(300, 1, null));
     }
 }
@@ -0,0 +1,26 @@
+package io.github.ethanlamtt.vietchrono.astro;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Runs in the {@code vector-tests} execution of the build, with the {@code jdk.incubator.vector} module.
+ */
+class LunarPhaseVectorsTest {
+
+    @Test
+    void testAtLunations() {
+        assumeTrue(LunarPhase.isVectorized(), "jdk.incubator.vector is not in the boot layer");
+
+        // Years 1000 to 3000, with a count which is not a multiple of the lane count
+        int count = 24_803;
+        double[] jdes = new double[count];
+        for (LunarPhase phase : LunarPhase.values()) {
+            phase.atLunations(-12_400, count, jdes);
+            for (int i = 0; i < count; i++)
+                assertEquals(phase.atLunation(-12_400 + i), jdes[i], LunarPhaseVectors.TOLERANCE);
+        }
+    }
+}
@@ -2,8 +2,11 @@ package io.github.ethanlamtt.vietchrono.astro;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
 
-import static io.github.ethanlamtt.vietchrono.astro.LunarPhase.NEW_MOON;
+import static io.github.ethanlamtt.vietchrono.astro.LunarPhase.*;
 import static org.junit.jupiter.api.Assertions.*;
 
 class LunarTimeTest {
@@ -34,4 +37,63 @@ class LunarTimeTest {
         // January 7, 1970, 20:35 UTC
         assertEquals(2440594.3576, jd.value(), 1e-3);
     }
+
+    @Test
+    void testBeforeAndAfterEpochSecond() {
+        LunarTime lunarTime = LunarTime.getInstance();
+        // Inside and far outside of the precomputed new moons
+        for (long anchor : new long[] {0L, 1_750_000_000L, -20_000_000_000L}) {
+            for (LunarPhase phase : LunarPhase.values()) {
+                assertEquals(lunarTime.before(Moment.of(anchor), phase).value(),
+                             lunarTime.beforeEpochSecond(anchor, phase));
+                assertEquals(lunarTime.after(Moment.of(anchor), phase).value(),
+                             lunarTime.afterEpochSecond(anchor, phase));
+                assertTrue(lunarTime.beforeEpochSecond(anchor, phase) < anchor);
+                assertTrue(lunarTime.afterEpochSecond(anchor, phase) > anchor);
+            }
+        }
+    }
+
+    @Test
+    void testEvents() {
+        LunarTime lunarTime = LunarTime.getInstance();
+        // Years 2025 and 2026
+        Moment from = Moment.of(1735689600);
+        Moment to = Moment.of(1798761600);
+
+        List<LunarPhaseEvent> events = lunarTime.events(from, to, EnumSet.allOf(LunarPhase.class))
+                .toList();
+        assertEquals(99, events.size());
+
+        LunarPhaseEvent previous = null;
+        for (LunarPhaseEvent event : events) {
+            assertTrue(event.moment().compareTo(from) >= 0);
+            assertTrue(event.moment().compareTo(to) < 0);
+
+            if (previous != null) {
+                assertTrue(event.moment().compareTo(previous.moment()) > 0);
+                assertEquals(LunarPhase.values()[(previous.phase().ordinal() + 1) % 4], event.phase());
+            }
+            previous = event;
+        }
+
+        // New moons agree with the single-event search
+        List<LunarPhaseEvent> newMoons = lunarTime.events(from, to, Set.of(NEW_MOON))
+                .toList();
+        assertEquals(24, newMoons.size());
+        for (LunarPhaseEvent newMoon : newMoons)
+            assertEquals(lunarTime.after(newMoon.moment().plusSeconds(-1), NEW_MOON), newMoon.moment());
+
+        // The range is half-open
+        Moment fullMoon = lunarTime.events(from, to, Set.of(FULL_MOON))
+                .findFirst()
+                .orElseThrow()
+                .moment();
+        assertEquals(1, lunarTime.events(fullMoon, fullMoon.plusSeconds(1), Set.of(FULL_MOON)).count());
+        assertEquals(0, lunarTime.events(fullMoon.plusSeconds(-1), fullMoon, Set.of(FULL_MOON)).count());
+
+        assertEquals(0, lunarTime.events(from, to, Set.of()).count());
+        assertThrows(IllegalArgumentException.class, () -> lunarTime.events(to, from, Set.of(NEW_MOON)));
+        assertThrows(NullPointerException.class, () -> lunarTime.events(from, to, null));
+    }
 }
@@ -129,6 +129,17 @@ class MomentTest {
         assertEquals(expectedValue, jd.value(), 1e-9);
     }
 
+    @Test
+    void testJdeOfEpochSecond() {
+        assertEquals(Moment.of(0).toEphemeris().value(), Moment.jdeOfEpochSecond(0), 0.0);
+
+        for (long epochSecond = -5_000_000_000L; epochSecond < 5_000_000_000L; epochSecond += 123_456_789L) {
+            double jde = Moment.jdeOfEpochSecond(epochSecond);
+            assertEquals(Moment.ofJulianDay(JulianDay.ofEphemeris(jde)).value(), Moment.epochSecondOfJde(jde));
+            assertTrue(Math.abs(Moment.epochSecondOfJde(jde) - epochSecond) <= 1, "epochSecond: " + epochSecond);
+        }
+    }
+
     @Test
     void testToUniversal() {
         JulianDay jd = Moment.of(0)
@@ -0,0 +1,75 @@
+package io.github.ethanlamtt.vietchrono.astro;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Compares the evaluation of apparent solar longitudes one by one, in a batch and in a batch split over
+ * the common fork-join pool.
+ *
+ * <p>Run it with the test class path and the Vector API module, optionally with the number of rounds:</p>
+ * <pre>
+ * java --add-modules jdk.incubator.vector -cp target/classes:target/test-classes \
+ *     io.github.ethanlamtt.vietchrono.astro.SolarLongitudeBatchBenchmark 20
+ * </pre>
+ * <p>Without the module, the batch is evaluated one by one as well. Each round evaluates the longitudes
+ * every hour of the years 2000 to 2004, the first half of the rounds warms the compiler up.</p>
+ *
+ * @author ethanlamtt
+ * @since 1.0.0
+ */
+public final class SolarLongitudeBatchBenchmark {
+
+    private static final long FIRST_EPOCH_SECOND = 946_684_800L;
+
+    private static final int COUNT = 43_848;
+
+    private SolarLongitudeBatchBenchmark() {}
+
+    public static void main(String[] args) {
+        int rounds = args.length > 0 ? Integer.parseInt(args[0]) : 20;
+        SolarTime solarTime = SolarTime.getInstance();
+
+        long[] epochSeconds = new long[COUNT];
+        for (int i = 0; i < COUNT; i++)
+            epochSeconds[i] = FIRST_EPOCH_SECOND + 3600L * i;
+
+        double[] longitudes = new double[COUNT];
+        double[] scalarNanos = new double[rounds];
+        double[] batchNanos = new double[rounds];
+        double[] parallelNanos = new double[rounds];
+        double sink = 0.0;
+
+        for (int round = 0; round < rounds; round++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < COUNT; i++)
+                longitudes[i] = solarTime.apparentLongitudeAtEpochSecond(epochSeconds[i]);
+            scalarNanos[round] = (System.nanoTime() - start) / (double) COUNT;
+            sink += longitudes[round];
+
+            start = System.nanoTime();
+            solarTime.apparentLongitudesAt(epochSeconds, longitudes, 0, COUNT);
+            batchNanos[round] = (System.nanoTime() - start) / (double) COUNT;
+            sink += longitudes[round];
+
+            start = System.nanoTime();
+            solarTime.apparentLongitudesAt(epochSeconds, longitudes, 0, COUNT, ForkJoinPool.commonPool());
+            parallelNanos[round] = (System.nanoTime() - start) / (double) COUNT;
+            sink += longitudes[round];
+        }
+
+        System.out.printf("vectorized: %s, parallelism: %d%n", VectorSupport.isEnabled(),
+                          ForkJoinPool.commonPool().getParallelism());
+        System.out.printf("one by one: median %.1f ns per moment%n", median(scalarNanos));
+        System.out.printf("batch:      median %.1f ns per moment%n", median(batchNanos));
+        System.out.printf("parallel:   median %.1f ns per moment%n", median(parallelNanos));
+        if (sink == 0.0)
+            System.out.println();
+    }
+
+    private static double median(double[] nanos) {
+        double[] measured = Arrays.copyOfRange(nanos, nanos.length / 2, nanos.length);
+        Arrays.sort(measured);
+        return measured[measured.length / 2];
+    }
+}
@@ -2,6 +2,9 @@ package io.github.ethanlamtt.vietchrono.astro;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
 import static io.github.ethanlamtt.vietchrono.scale.TimeScale.UTC;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -31,4 +34,80 @@ class SolarTimeTest {
         assertEquals(JulianDay.of(2440588.5, UTC).value(), jd.value(), 1e-2);
     }
 
+    @Test
+    void testAtLongitudeEpochSecond() {
+        SolarTime a = SolarTime.getInstance();
+        assertEquals(a.apparentLongitudeAt(Moment.of(0)), a.apparentLongitudeAtEpochSecond(0), 0.0);
+
+        long epochSecond = a.atLongitudeEpochSecond(281.1755766, 0);
+        assertEquals(a.atLongitude(281.1755766, Moment.of(0)).value(), epochSecond);
+
+        long[] terms = a.termEpochSecondsOfYear(2025);
+        List<Moment> moments = a.termsOfYear(2025);
+        for (int i = 0; i < terms.length; i++)
+            assertEquals(moments.get(i).value(), terms[i]);
+    }
+
+    @Test
+    void testApparentLongitudesAt() {
+        SolarTime a = SolarTime.getInstance();
+        // Every 6 hours of 2025
+        long[] epochSeconds = new long[1460];
+        for (int i = 0; i < epochSeconds.length; i++)
+            epochSeconds[i] = 1735689600L + 21600L * i;
+
+        double[] longitudes = new double[epochSeconds.length];
+        a.apparentLongitudesAt(epochSeconds, longitudes, 0, epochSeconds.length);
+        for (int i = 0; i < epochSeconds.length; i += 97)
+            assertEquals(a.apparentLongitudeAtEpochSecond(epochSeconds[i]), longitudes[i], 1e-9);
+
+        double[] parallel = new double[epochSeconds.length];
+        try (ForkJoinPool pool = new ForkJoinPool(4)) {
+            a.apparentLongitudesAt(epochSeconds, parallel, 0, epochSeconds.length, pool);
+        }
+        assertArrayEquals(longitudes, parallel);
+    }
+
+    @Test
+    void testSolveLongitude() {
+        SolarTime a = SolarTime.getInstance();
+        SolarCalculator calculator = Vsop87SolarCalculator.getInstance();
+        SolverStats before = a.solverStats();
+
+        // Years 1800 to 2200, seeded up to 15 days away from the solution
+        int solves = 0;
+        for (double jde = 2378496.5; jde < 2524593.5; jde += 397.3) {
+            double longitude = Math.floor(calculator.apparentLongitude(jde) / 15) * 15 + 15;
+            double solution = a.solveLongitude(longitude, jde);
+            solves++;
+
+            double residual = Math.abs(calculator.apparentLongitude(solution) - longitude % 360);
+            double error = Math.min(residual, 360 - residual) / calculator.apparentLongitudeRate(solution);
+            assertTrue(error * 86400 < 1.0);
+        }
+
+        SolverStats stats = a.solverStats().minus(before);
+        assertTrue(stats.solveCount() >= solves);
+        assertEquals(0, stats.failureCount());
+        assertTrue(stats.averageNewtonIterations() <= 2.0);
+    }
+
+    @Test
+    void testTermsOfYear() {
+        SolarTime a = SolarTime.getInstance();
+        List<Moment> terms = a.termsOfYear(2025);
+        assertEquals(24, terms.size());
+
+        for (int i = 0; i < terms.size(); i++) {
+            double longitude = (285 + i * 15) % 360;
+            Moment transition = terms.get(i);
+            assertEquals(transition, a.atLongitude(longitude, transition.minusDays(3)));
+            if (i > 0)
+                assertTrue(transition.compareTo(terms.get(i - 1)) > 0);
+        }
+
+        // Minor Cold on January 5, 2025 at 02:32 UTC and winter solstice on December 21, 2025 at 15:03 UTC
+        assertTrue(Math.abs(terms.getFirst().value() - 1736044320L) <= 60);
+        assertTrue(Math.abs(terms.getLast().value() - 1766329380L) <= 60);
+    }
 }
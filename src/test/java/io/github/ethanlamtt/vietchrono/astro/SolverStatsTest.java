@@ -0,0 +1,39 @@
+package io.github.ethanlamtt.vietchrono.astro;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SolverStatsTest {
+
+    @Test
+    void testOf() {
+        SolverStats stats = SolverStats.of(4, 16, 6, 1);
+        assertEquals(4, stats.solveCount());
+        assertEquals(16, stats.bracketIterationCount());
+        assertEquals(6, stats.newtonIterationCount());
+        assertEquals(1, stats.failureCount());
+        assertEquals(1.5, stats.averageNewtonIterations());
+        assertEquals(0.0, SolverStats.of(0, 0, 0, 0).averageNewtonIterations());
+
+        assertThrows(IllegalArgumentException.class, () -> SolverStats.of(-1, 0, 0, 0));
+    }
+
+    @Test
+    void testMinus() {
+        SolverStats a = SolverStats.of(4, 16, 6, 1);
+        SolverStats b = SolverStats.of(1, 4, 1, 0);
+        assertEquals(SolverStats.of(3, 12, 5, 1), a.minus(b));
+        assertThrows(IllegalArgumentException.class, () -> b.minus(a));
+    }
+
+    @Test
+    void testEquals() {
+        SolverStats a = SolverStats.of(4, 16, 6, 1);
+        SolverStats b = SolverStats.of(4, 16, 6, 1);
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), b.hashCode());
+        assertNotEquals(SolverStats.of(4, 16, 7, 1), a);
+        assertNotEquals(null, a);
+    }
+}
@@ -2,7 +2,7 @@ package io.github.ethanlamtt.vietchrono.astro;
 
 import org.junit.jupiter.api.Test;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
 
 class Vsop87SolarCalculatorTest {
 
@@ -12,4 +12,68 @@ class Vsop87SolarCalculatorTest {
         double time = calculator.apparentLongitude(2448908.5);
         assertEquals(199.907372, time, 1e-2);
     }
+
+    @Test
+    void testApparentLongitudeRate() {
+        SolarCalculator calculator = Vsop87SolarCalculator.getInstance();
+        for (double jde = 2378496.5; jde < 2524593.5; jde += 97.3) {
+            double rate = calculator.apparentLongitudeRate(jde);
+            double difference = calculator.apparentLongitude(jde + 0.01) - calculator.apparentLongitude(jde - 0.01);
+            if (difference < 0)
+                difference += 360;
+
+            assertEquals(difference / 0.02, rate, 1e-6);
+            assertTrue(rate > 0.95 && rate < 1.03);
+        }
+    }
+
+    @Test
+    void testApparentLongitudes() {
+        SolarCalculator calculator = Vsop87SolarCalculator.getInstance();
+        // Every 3.7 days from 1900, with an odd count and an offset
+        double[] jdes = new double[1003];
+        for (int i = 0; i < jdes.length; i++)
+            jdes[i] = 2415020.5 + 3.7 * i;
+
+        double[] longitudes = new double[jdes.length];
+        calculator.apparentLongitudes(jdes, longitudes, 3, jdes.length);
+        assertEquals(0.0, longitudes[2]);
+        for (int i = 3; i < jdes.length; i++) {
+            double difference = Math.abs(calculator.apparentLongitude(jdes[i]) - longitudes[i]);
+            assertTrue(Math.min(difference, 360 - difference) <= Vsop87Vectors.TOLERANCE, "jde: " + jdes[i]);
+        }
+
+        // In place
+        calculator.apparentLongitudes(jdes, jdes, 0, jdes.length);
+        assertEquals(longitudes[500], jdes[500], Vsop87Vectors.TOLERANCE);
+
+        assertThrows(IndexOutOfBoundsException.class,
+                     () -> calculator.apparentLongitudes(jdes, new double[10], 0, 20));
+    }
+
+    @Test
+    void testTruncation() {
+        SolarCalculator full = Vsop87SolarCalculator.of(Vsop87SolarCalculator.Truncation.FULL);
+        assertEquals(1080, ((Vsop87SolarCalculator) full).termCount());
+        assertEquals(Vsop87SolarCalculator.class.getName(), full.name());
+
+        int previousCount = Integer.MAX_VALUE;
+        for (Vsop87SolarCalculator.Truncation truncation : Vsop87SolarCalculator.Truncation.values()) {
+            Vsop87SolarCalculator calculator = (Vsop87SolarCalculator) Vsop87SolarCalculator.of(truncation);
+            assertSame(truncation, calculator.truncation());
+            assertTrue(calculator.termCount() < previousCount);
+            previousCount = calculator.termCount();
+
+            // Years 1800 to 2200
+            double maximumError = 0.0;
+            for (double jde = 2378496.5; jde < 2524593.5; jde += 9.7) {
+                double error = Math.abs(calculator.apparentLongitude(jde) - full.apparentLongitude(jde));
+                maximumError = Math.max(maximumError, Math.min(error, 360 - error) * 3600);
+            }
+            assertTrue(maximumError <= truncation.maximumError());
+
+            if (truncation != Vsop87SolarCalculator.Truncation.FULL)
+                assertNotEquals(full.name(), calculator.name());
+        }
+    }
 }
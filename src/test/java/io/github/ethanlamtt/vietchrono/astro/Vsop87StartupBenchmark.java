@@ -0,0 +1,106 @@
+package io.github.ethanlamtt.vietchrono.astro;
+
+import io.github.ethanlamtt.vietchrono.calendar.LunisolarCalendars;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Measures the time to the first lunar date conversion of a fresh JVM, with the binary VSOP87 terms
+ * and with the text terms parsed at class initialization.
+ *
+ * <p>Run it with the test class path, optionally with the number of JVMs to start per variant:</p>
+ * <pre>
+ * java -cp target/classes:target/test-classes io.github.ethanlamtt.vietchrono.astro.Vsop87StartupBenchmark 10
+ * </pre>
+ * <p>The text variant runs on a copy of the main classes without the binary resource.</p>
+ *
+ * @author ethanlamtt
+ * @since 1.0.0
+ */
+public final class Vsop87StartupBenchmark {
+
+    private static final String CHILD = "--child";
+
+    private Vsop87StartupBenchmark() {}
+
+    public static void main(String[] args) throws Exception {
+        if (args.length > 0 && CHILD.equals(args[0])) {
+            long start = System.nanoTime();
+            LunisolarCalendars.ofDefault()
+                    .getLunarDate(LocalDate.of(2025, 1, 29), ZoneId.of("Asia/Ho_Chi_Minh"));
+            System.out.println(System.nanoTime() - start);
+            return;
+        }
+
+        int runs = args.length > 0 ? Integer.parseInt(args[0]) : 5;
+        Path classes = Path.of(Vsop87Terms.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        String classPath = System.getProperty("java.class.path");
+
+        Path textClasses = Files.createTempDirectory("vsop87-text");
+        try {
+            copyWithoutBinaryTerms(classes, textClasses);
+            String textClassPath = Arrays.stream(classPath.split(File.pathSeparator))
+                    .map(entry -> Path.of(entry).toAbsolutePath().equals(classes) ? textClasses.toString() : entry)
+                    .collect(Collectors.joining(File.pathSeparator));
+
+            System.out.printf("text terms:   median %.1f ms%n", medianMillis(textClassPath, runs));
+            System.out.printf("binary terms: median %.1f ms%n", medianMillis(classPath, runs));
+        } finally {
+            try (Stream<Path> paths = Files.walk(textClasses)) {
+                paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+            }
+        }
+    }
+
+    private static double medianMillis(String classPath, int runs) throws IOException, InterruptedException {
+        double[] millis = new double[runs];
+        for (int i = 0; i < runs; i++) {
+            Process process = new ProcessBuilder(
+                    Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                    "-cp", classPath, Vsop87StartupBenchmark.class.getName(), CHILD)
+                    .redirectErrorStream(true)
+                    .start();
+
+            String output = new String(process.getInputStream().readAllBytes()).trim();
+            if (process.waitFor() != 0)
+                throw new IllegalStateException("Benchmark JVM failed: " + output);
+
+            millis[i] = Long.parseLong(output) / 1e6;
+        }
+
+        Arrays.sort(millis);
+        return millis[runs / 2];
+    }
+
+    private static void copyWithoutBinaryTerms(Path source, Path target) throws IOException {
+        Path binary = source.resolve(Vsop87Terms.BINARY_RESOURCE);
+        List<Path> paths = new ArrayList<>();
+        try (Stream<Path> walk = Files.walk(source)) {
+            walk.filter(path -> !path.equals(binary)).forEach(paths::add);
+        }
+
+        for (Path path : paths) {
+            Path copy = target.resolve(source.relativize(path).toString());
+            try {
+                if (Files.isDirectory(path))
+                    Files.createDirectories(copy);
+                else
+                    Files.copy(path, copy);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package io.github.ethanlamtt.vietchrono.astro;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class Vsop87TermsTest {
+
+    private static Vsop87Terms readText() throws IOException {
+        try (InputStream is = Vsop87TermsTest.class.getClassLoader()
+                .getResourceAsStream(Vsop87Terms.TEXT_RESOURCE)) {
+            return Vsop87Terms.readText(is);
+        }
+    }
+
+    @Test
+    void testReadText() throws IOException {
+        Vsop87Terms terms = readText();
+        assertArrayEquals(new int[]{0, 559, 900, 1042, 1064, 1075, 1080}, terms.seriesStarts());
+        assertEquals(1.75347045673, terms.amplitudes()[0]);
+        assertEquals(6283.07584999140, terms.frequencies()[1]);
+    }
+
+    @Test
+    void testLoad() throws IOException {
+        Vsop87Terms text = readText();
+        Vsop87Terms loaded = Vsop87Terms.load();
+
+        assertArrayEquals(text.seriesStarts(), loaded.seriesStarts());
+        assertArrayEquals(text.amplitudes(), loaded.amplitudes());
+        assertArrayEquals(text.phases(), loaded.phases());
+        assertArrayEquals(text.frequencies(), loaded.frequencies());
+    }
+
+    @Test
+    void testReadBinary() throws IOException {
+        Vsop87Terms text = readText();
+        ByteBuffer binary = text.toBinary();
+        assertEquals(ByteOrder.LITTLE_ENDIAN, binary.order());
+        assertEquals(Vsop87Terms.MAGIC, binary.getInt(0));
+
+        Vsop87Terms read = Vsop87Terms.readBinary(binary);
+        assertArrayEquals(text.amplitudes(), read.amplitudes());
+        assertArrayEquals(text.phases(), read.phases());
+        assertArrayEquals(text.frequencies(), read.frequencies());
+
+        assertThrows(IllegalArgumentException.class, () -> Vsop87Terms.readBinary(ByteBuffer.allocate(64)));
+        assertThrows(IllegalArgumentException.class,
+                     () -> Vsop87Terms.readBinary(binary.slice(0, binary.limit() - 8)));
+    }
+}
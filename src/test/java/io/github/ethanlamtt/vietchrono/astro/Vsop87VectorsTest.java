@@ -0,0 +1,36 @@
+package io.github.ethanlamtt.vietchrono.astro;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Runs in the {@code vector-tests} execution of the build, with the {@code jdk.incubator.vector} module.
+ */
+class Vsop87VectorsTest {
+
+    @Test
+    void testApparentLongitudes() {
+        assumeTrue(VectorSupport.isEnabled(), "jdk.incubator.vector is not in the boot layer");
+
+        // Every 7.3 days of the years 1000 to 3000, then beyond the range of the lanes
+        int count = 100_063;
+        double[] jdes = new double[count];
+        for (int i = 0; i < count; i++)
+            jdes[i] = 2086307.5 + 7.3 * i;
+        jdes[count - 1] = 4_500_000.0;
+
+        for (Vsop87SolarCalculator.Truncation truncation : Vsop87SolarCalculator.Truncation.values()) {
+            SolarCalculator calculator = Vsop87SolarCalculator.of(truncation);
+            double[] longitudes = new double[count];
+            calculator.apparentLongitudes(jdes, longitudes, 0, count);
+
+            for (int i = 0; i < count; i += truncation == Vsop87SolarCalculator.Truncation.FULL ? 17 : 1) {
+                double difference = Math.abs(calculator.apparentLongitude(jdes[i]) - longitudes[i]);
+                assertTrue(Math.min(difference, 360 - difference) <= Vsop87Vectors.TOLERANCE,
+                           truncation + " jde: " + jdes[i]);
+            }
+        }
+    }
+}
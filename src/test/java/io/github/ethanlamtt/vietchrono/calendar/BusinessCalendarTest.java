@@ -0,0 +1,146 @@
+package io.github.ethanlamtt.vietchrono.calendar;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BusinessCalendarTest {
+
+    private static final ZoneId ZONE_ID = ZoneId.of("Asia/Ho_Chi_Minh");
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testIsBusinessDay() {
+        BusinessCalendar calendar = BusinessCalendar.getInstance();
+
+        // Weekdays and weekends
+        assertTrue(calendar.isBusinessDay(LocalDate.of(2026, 3, 4), ZONE_ID));
+        assertFalse(calendar.isBusinessDay(LocalDate.of(2026, 3, 7), ZONE_ID));
+        assertFalse(calendar.isBusinessDay(LocalDate.of(2026, 3, 8), ZONE_ID));
+
+        // Lunar New Year 2026, from the last day of the lunar year on Monday 16 February
+        assertTrue(calendar.isBusinessDay(LocalDate.of(2026, 2, 13), ZONE_ID));
+        for (int day = 16; day <= 20; day++)
+            assertFalse(calendar.isBusinessDay(LocalDate.of(2026, 2, day), ZONE_ID), "2026-02-" + day);
+        assertTrue(calendar.isBusinessDay(LocalDate.of(2026, 2, 23), ZONE_ID));
+
+        // Hung Kings' Commemoration Day 2025, Reunification Day and International Workers' Day
+        assertFalse(calendar.isBusinessDay(LocalDate.of(2025, 4, 7), ZONE_ID));
+        assertFalse(calendar.isBusinessDay(LocalDate.of(2025, 4, 30), ZONE_ID));
+        assertFalse(calendar.isBusinessDay(LocalDate.of(2025, 5, 1), ZONE_ID));
+        assertTrue(calendar.isBusinessDay(LocalDate.of(2025, 5, 2), ZONE_ID));
+
+        // National Day 2024 on a Monday, with the day after
+        assertFalse(calendar.isBusinessDay(LocalDate.of(2024, 9, 2), ZONE_ID));
+        assertFalse(calendar.isBusinessDay(LocalDate.of(2024, 9, 3), ZONE_ID));
+        assertTrue(calendar.isBusinessDay(LocalDate.of(2024, 9, 4), ZONE_ID));
+    }
+
+    @Test
+    void testSubstituteDays() {
+        BusinessCalendar calendar = BusinessCalendar.getInstance();
+
+        // New Year's Day 2022 on a Saturday
+        assertFalse(calendar.isBusinessDay(LocalDate.of(2022, 1, 3), ZONE_ID));
+        assertTrue(calendar.isBusinessDay(LocalDate.of(2022, 1, 4), ZONE_ID));
+
+        // National Day 2023 on a Saturday, with the Friday before and the Monday after
+        assertFalse(calendar.isBusinessDay(LocalDate.of(2023, 9, 1), ZONE_ID));
+        assertFalse(calendar.isBusinessDay(LocalDate.of(2023, 9, 4), ZONE_ID));
+        assertTrue(calendar.isBusinessDay(LocalDate.of(2023, 9, 5), ZONE_ID));
+    }
+
+    @Test
+    void testPlusBusinessDays() {
+        BusinessCalendar calendar = BusinessCalendar.getInstance();
+
+        // Across the Lunar New Year
+        assertEquals(LocalDate.of(2026, 2, 23), calendar.plusBusinessDays(LocalDate.of(2026, 2, 13), 1, ZONE_ID));
+        assertEquals(LocalDate.of(2026, 2, 13), calendar.plusBusinessDays(LocalDate.of(2026, 2, 23), -1, ZONE_ID));
+
+        // Across the year and New Year's Day
+        assertEquals(LocalDate.of(2026, 1, 2), calendar.plusBusinessDays(LocalDate.of(2025, 12, 31), 1, ZONE_ID));
+        assertEquals(LocalDate.of(2025, 12, 31), calendar.plusBusinessDays(LocalDate.of(2026, 1, 2), -1, ZONE_ID));
+
+        LocalDate saturday = LocalDate.of(2026, 3, 7);
+        assertEquals(saturday, calendar.plusBusinessDays(saturday, 0, ZONE_ID));
+
+        // The reached day closes a range of as many working days
+        LocalDate date = LocalDate.of(2024, 6, 15);
+        for (int days = -700; days <= 700; days += 37) {
+            LocalDate reached = calendar.plusBusinessDays(date, days, ZONE_ID);
+            assertTrue(calendar.isBusinessDay(reached, ZONE_ID));
+
+            long between = days > 0
+                    ? calendar.businessDaysBetween(date.plusDays(1), reached.plusDays(1), ZONE_ID)
+                    : -calendar.businessDaysBetween(reached, date, ZONE_ID);
+            assertEquals(days, between, "days: " + days);
+        }
+    }
+
+    @Test
+    void testBusinessDaysBetween() {
+        BusinessCalendar calendar = BusinessCalendar.getInstance();
+        LocalDate from = LocalDate.of(2024, 11, 20);
+        LocalDate to = LocalDate.of(2026, 3, 10);
+
+        long expected = 0;
+        for (LocalDate date = from; date.isBefore(to); date = date.plusDays(1)) {
+            if (calendar.isBusinessDay(date, ZONE_ID))
+                expected++;
+        }
+
+        assertEquals(expected, calendar.businessDaysBetween(from, to, ZONE_ID));
+        assertEquals(-expected, calendar.businessDaysBetween(to, from, ZONE_ID));
+        assertEquals(0, calendar.businessDaysBetween(from, from, ZONE_ID));
+    }
+
+    @Test
+    void testOverrides() throws IOException {
+        Path path = directory.resolve("overrides.txt");
+        Files.writeString(path, """
+                # Lunar New Year 2025
+                2025-01-27 OFF
+
+                2025-02-08 WORK
+                """);
+
+        BusinessCalendar calendar = BusinessCalendar.ofOverrides(path);
+        assertFalse(calendar.isBusinessDay(LocalDate.of(2025, 1, 27), ZONE_ID));
+        assertTrue(calendar.isBusinessDay(LocalDate.of(2025, 2, 8), ZONE_ID));
+
+        BusinessCalendar statutory = BusinessCalendar.getInstance();
+        assertTrue(statutory.isBusinessDay(LocalDate.of(2025, 1, 27), ZONE_ID));
+        assertFalse(statutory.isBusinessDay(LocalDate.of(2025, 2, 8), ZONE_ID));
+    }
+
+    @Test
+    void testReadMalformed() {
+        assertThrows(IllegalArgumentException.class,
+                     () -> BusinessCalendar.read(new StringReader("2025-01-27\n")));
+        assertThrows(IllegalArgumentException.class,
+                     () -> BusinessCalendar.read(new StringReader("2025-01-27 HOLIDAY\n")));
+        assertThrows(IllegalArgumentException.class,
+                     () -> BusinessCalendar.read(new StringReader("27/01/2025 OFF\n")));
+    }
+
+    @Test
+    void testBits() {
+        long[] bits = {0b1011L, 1L, 0, 0, 0, 0};
+
+        assertEquals(4, BusinessCalendar.count(bits, 0, 65));
+        assertEquals(2, BusinessCalendar.count(bits, 1, 64));
+        assertEquals(3, BusinessCalendar.nthSetBit(bits, 0, 3));
+        assertEquals(64, BusinessCalendar.nthSetBit(bits, 2, 2));
+    }
+}
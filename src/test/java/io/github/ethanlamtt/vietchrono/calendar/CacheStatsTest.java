@@ -0,0 +1,49 @@
+package io.github.ethanlamtt.vietchrono.calendar;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CacheStatsTest {
+
+    @Test
+    void testOf() {
+        CacheStats stats = CacheStats.of(3, 1, 2, 400, 5, 8);
+        assertEquals(3, stats.hitCount());
+        assertEquals(1, stats.missCount());
+        assertEquals(2, stats.evictionCount());
+        assertEquals(400, stats.totalLoadTime());
+        assertEquals(5, stats.size());
+        assertEquals(8, stats.maximumSize());
+        assertEquals(4, stats.requestCount());
+        assertEquals(0.75, stats.hitRate());
+        assertEquals(400.0, stats.averageLoadPenalty());
+
+        assertThrows(IllegalArgumentException.class, () -> CacheStats.of(-1, 0, 0, 0, 0, 0));
+    }
+
+    @Test
+    void testEmpty() {
+        CacheStats stats = CacheStats.empty();
+        assertEquals(0, stats.requestCount());
+        assertEquals(1.0, stats.hitRate());
+        assertEquals(0.0, stats.averageLoadPenalty());
+    }
+
+    @Test
+    void testPlus() {
+        CacheStats a = CacheStats.of(3, 1, 2, 400, 5, 8);
+        CacheStats b = CacheStats.of(1, 1, 0, 100, 1, 8);
+        assertEquals(CacheStats.of(4, 2, 2, 500, 6, 16), a.plus(b));
+    }
+
+    @Test
+    void testEquals() {
+        CacheStats a = CacheStats.of(3, 1, 2, 400, 5, 8);
+        CacheStats b = CacheStats.of(3, 1, 2, 400, 5, 8);
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), b.hashCode());
+        assertNotEquals(CacheStats.of(3, 1, 2, 401, 5, 8), a);
+        assertNotEquals(null, a);
+    }
+}
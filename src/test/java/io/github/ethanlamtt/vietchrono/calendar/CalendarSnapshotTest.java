@@ -0,0 +1,106 @@
+package io.github.ethanlamtt.vietchrono.calendar;
+
+import io.github.ethanlamtt.vietchrono.astro.Moment;
+import io.github.ethanlamtt.vietchrono.astro.SolarTime;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CalendarSnapshotTest {
+
+    private static final ZoneId ZONE_ID = ZoneId.of("Asia/Ho_Chi_Minh");
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testWriteAndOpen() throws IOException {
+        Path path = directory.resolve("calendar.snapshot");
+        LunisolarCalendars.writeSnapshot(path, 2024, 2026, Set.of(ZONE_ID, ZoneOffset.UTC));
+
+        CalendarSnapshot snapshot = CalendarSnapshot.open(path);
+        assertFalse(snapshot.isEmpty());
+        assertEquals(8, snapshot.frameCount());
+        assertEquals(2023, snapshot.firstTermYear());
+
+        // The 2024 frame runs from the eleventh month of 2024 to the eleventh month of 2025, with a leap sixth month
+        int record = snapshot.findYearFrame(2024, ZONE_ID);
+        assertTrue(record >= 0);
+        long[] monthStarts = snapshot.monthStartsAt(record);
+        assertEquals(14, monthStarts.length);
+        assertEquals(LocalDate.of(2025, 1, 29).toEpochDay(), monthStarts[2]);
+        assertEquals(LocalDate.of(2025, 7, 25).toEpochDay(), monthStarts[snapshot.leapMonthIndexAt(record)]);
+
+        assertEquals(-1, snapshot.findYearFrame(2022, ZONE_ID));
+        assertEquals(-1, snapshot.findYearFrame(2024, ZoneId.of("Asia/Tokyo")));
+    }
+
+    @Test
+    void testTermsOfYear() throws IOException {
+        Path path = directory.resolve("calendar.snapshot");
+        LunisolarCalendars.writeSnapshot(path, 2025, 2025, Set.of(ZONE_ID));
+        CalendarSnapshot snapshot = CalendarSnapshot.open(path);
+
+        for (int year = 2024; year <= 2026; year++) {
+            long[] terms = snapshot.termsOfYear(year);
+            assertNotNull(terms);
+
+            List<Moment> expected = SolarTime.getInstance().termsOfYear(year);
+            for (int i = 0; i < terms.length; i++)
+                assertEquals(expected.get(i).value(), terms[i]);
+        }
+
+        assertNull(snapshot.termsOfYear(2023));
+        assertNull(snapshot.termsOfYear(2027));
+    }
+
+    @Test
+    void testLoadSnapshot() throws IOException {
+        Path path = directory.resolve("calendar.snapshot");
+        LunisolarCalendars.writeSnapshot(path, 2025, 2026, Set.of(ZONE_ID));
+        assertTrue(LunisolarCalendars.loadSnapshot(path));
+
+        LunisolarCalendar calendar = LunisolarCalendars.ofDefault();
+        assertEquals(LunarDate.of(2025, 1, 1), calendar.getLunarDate(LocalDate.of(2025, 1, 29), ZONE_ID));
+        assertEquals(LunarDate.of(2026, 1, 1), calendar.getLunarDate(LocalDate.of(2026, 2, 17), ZONE_ID));
+    }
+
+    @Test
+    void testCorruptSnapshot() throws IOException {
+        Path path = directory.resolve("calendar.snapshot");
+        LunisolarCalendars.writeSnapshot(path, 2025, 2025, Set.of(ZONE_ID));
+
+        byte[] bytes = Files.readAllBytes(path);
+        bytes[bytes.length / 2] ^= 1;
+        Files.write(path, bytes);
+
+        assertTrue(CalendarSnapshot.open(path).isEmpty());
+        assertFalse(LunisolarCalendars.loadSnapshot(path));
+
+        Files.write(path, new byte[16]);
+        assertTrue(CalendarSnapshot.open(path).isEmpty());
+    }
+
+    @Test
+    void testWriter() {
+        assertThrows(IllegalArgumentException.class,
+                     () -> new CalendarSnapshot.Writer(2025, new long[]{2, 1}));
+
+        CalendarSnapshot.Writer writer = new CalendarSnapshot.Writer(2025, new long[0]);
+        writer.addYearFrame(ZONE_ID, 2025, new long[13], -1);
+        assertThrows(IllegalArgumentException.class,
+                     () -> writer.addYearFrame(ZONE_ID, 2024, new long[13], -1));
+        assertThrows(IllegalArgumentException.class,
+                     () -> writer.addYearFrame(ZONE_ID, 2026, new long[15], -1));
+    }
+}
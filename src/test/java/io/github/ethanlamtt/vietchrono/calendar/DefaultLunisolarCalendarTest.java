@@ -1,11 +1,19 @@
 package io.github.ethanlamtt.vietchrono.calendar;
 
+import io.github.ethanlamtt.vietchrono.astro.Moment;
+import io.github.ethanlamtt.vietchrono.astro.SolarTime;
 import io.github.ethanlamtt.vietchrono.sexagenary.SexagenaryCycle;
 import io.github.ethanlamtt.vietchrono.sexagenary.SexagenaryDateTime;
 import org.junit.jupiter.api.Test;
 
 import java.time.LocalDate;
 import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.Executor;
 
 import static io.github.ethanlamtt.vietchrono.calendar.SolarTerm.*;
 import static io.github.ethanlamtt.vietchrono.sexagenary.EarthlyBranch.*;
@@ -58,6 +66,46 @@ class DefaultLunisolarCalendarTest {
         );
     }
 
+    @Test
+    void testGetDateWithComponents() {
+        LunisolarCalendar calendar = DefaultLunisolarCalendar.getInstance();
+        ZoneId zoneId = ZoneId.of("Asia/Ho_Chi_Minh");
+
+        for (LocalDate date = LocalDate.of(2026, 1, 1); date.isBefore(LocalDate.of(2026, 3, 1));
+             date = date.plusDays(1)) {
+            LunisolarDate expected = calendar.getDate(date, zoneId);
+            LunisolarDate actual = calendar.getDate(date, zoneId, EnumSet.of(LunisolarComponent.LUNAR_DATE));
+
+            assertTrue(actual.isResolved(LunisolarComponent.LUNAR_DATE));
+            assertFalse(actual.isResolved(LunisolarComponent.SOLAR_TERM));
+            assertFalse(actual.isResolved(LunisolarComponent.SEXAGENARY));
+            assertFalse(actual.isResolved(LunisolarComponent.HOLIDAYS));
+
+            assertEquals(expected, actual);
+            assertEquals(expected.toLunarDate(), actual.toLunarDate());
+            assertEquals(expected.toSexagenaryDateTime(), actual.toSexagenaryDateTime());
+            assertTrue(actual.isResolved(LunisolarComponent.SEXAGENARY));
+            assertFalse(actual.isResolved(LunisolarComponent.SOLAR_TERM));
+
+            assertEquals(expected.holidayIds(), actual.holidayIds());
+            assertTrue(actual.isResolved(LunisolarComponent.SOLAR_TERM));
+            assertEquals(expected.solarTermInfo().termOfDay(), actual.solarTermInfo().termOfDay());
+            assertSame(actual.solarTermInfo(), actual.solarTermInfo());
+        }
+
+        LunisolarDate date = calendar.getDate(LocalDate.of(2026, 2, 17), zoneId,
+                                              EnumSet.of(LunisolarComponent.SOLAR_TERM, LunisolarComponent.HOLIDAYS));
+        assertTrue(date.isResolved(LunisolarComponent.SOLAR_TERM));
+        assertTrue(date.isResolved(LunisolarComponent.HOLIDAYS));
+        assertFalse(date.isResolved(LunisolarComponent.SEXAGENARY));
+
+        assertTrue(calendar.getDate(LocalDate.of(2026, 2, 17), zoneId)
+                           .isResolved(LunisolarComponent.SEXAGENARY));
+
+        assertThrows(NullPointerException.class,
+                     () -> calendar.getDate(LocalDate.of(2026, 2, 17), zoneId, null));
+    }
+
     @Test
     void testGetLunarDate() {
         LunisolarCalendar calendar = DefaultLunisolarCalendar.getInstance();
@@ -74,4 +122,293 @@ class DefaultLunisolarCalendarTest {
         assertFalse(lunarDate.month().isLeapMonth());
         assertEquals(5, lunarDate.dayOfMonth());
     }
+
+    @Test
+    void testGetLunarDateInLeapYear() {
+        LunisolarCalendar calendar = DefaultLunisolarCalendar.getInstance();
+        ZoneId zoneId = ZoneId.of("Asia/Ho_Chi_Minh");
+
+        assertEquals(LunarDate.of(2024, 12, 29), calendar.getLunarDate(LocalDate.of(2025, 1, 28), zoneId));
+        assertEquals(LunarDate.of(2025, 1, 1), calendar.getLunarDate(LocalDate.of(2025, 1, 29), zoneId));
+        assertEquals(LunarDate.of(2025, 6, 1), calendar.getLunarDate(LocalDate.of(2025, 6, 25), zoneId));
+        assertEquals(LunarDate.of(2025, LunarMonth.of(6, true), 1),
+                     calendar.getLunarDate(LocalDate.of(2025, 7, 25), zoneId));
+        assertEquals(LunarDate.of(2025, 7, 1), calendar.getLunarDate(LocalDate.of(2025, 8, 23), zoneId));
+        assertEquals(LunarDate.of(2023, LunarMonth.of(2, true), 1),
+                     calendar.getLunarDate(LocalDate.of(2023, 3, 22), zoneId));
+        assertEquals(LunarDate.of(2020, LunarMonth.of(4, true), 1),
+                     calendar.getLunarDate(LocalDate.of(2020, 5, 23), zoneId));
+
+        // The Vietnamese and Chinese new years of 1985 differ by a month because of the time zone
+        assertEquals(LunarDate.of(1985, 1, 1), calendar.getLunarDate(LocalDate.of(1985, 1, 21), zoneId));
+        assertEquals(LunarDate.of(1985, 1, 1),
+                     calendar.getLunarDate(LocalDate.of(1985, 2, 20), ZoneId.of("Asia/Shanghai")));
+    }
+
+    @Test
+    void testGetLunarDatePacked() {
+        LunisolarCalendar calendar = DefaultLunisolarCalendar.getInstance();
+        ZoneOffset offset = ZoneOffset.ofHours(7);
+
+        for (LocalDate date = LocalDate.of(2023, 11, 1); date.isBefore(LocalDate.of(2026, 3, 1));
+             date = date.plusDays(1)) {
+            long packed = calendar.getLunarDatePacked(date.toEpochDay(), offset);
+            assertEquals(calendar.getLunarDate(date, offset), LunarDate.ofPacked(packed));
+        }
+
+        for (int year = 1600; year <= 2400; year += 50) {
+            LocalDate newYearsEve = LocalDate.of(year, 12, 31);
+            LocalDate newYearsDay = LocalDate.of(year + 1, 1, 1);
+
+            assertEquals(calendar.getLunarDate(newYearsEve, offset),
+                         LunarDate.ofPacked(calendar.getLunarDatePacked(newYearsEve.toEpochDay(), offset)));
+            assertEquals(calendar.getLunarDate(newYearsDay, offset),
+                         LunarDate.ofPacked(calendar.getLunarDatePacked(newYearsDay.toEpochDay(), offset)));
+        }
+
+        assertEquals(LunarDate.pack(2025, 1, false, 1),
+                     calendar.getLunarDatePacked(LocalDate.of(2025, 1, 29).toEpochDay(), offset));
+        assertThrows(NullPointerException.class, () -> calendar.getLunarDatePacked(0, null));
+    }
+
+    @Test
+    void testGetSolarDate() {
+        LunisolarCalendar calendar = DefaultLunisolarCalendar.getInstance();
+        ZoneId zoneId = ZoneId.of("Asia/Ho_Chi_Minh");
+
+        assertEquals(LocalDate.of(2025, 1, 28), calendar.getSolarDate(LunarDate.of(2024, 12, 29), zoneId));
+        assertEquals(LocalDate.of(2025, 1, 29), calendar.getSolarDate(LunarDate.of(2025, 1, 1), zoneId));
+        assertEquals(LocalDate.of(2025, 6, 25), calendar.getSolarDate(LunarDate.of(2025, 6, 1), zoneId));
+        assertEquals(LocalDate.of(2025, 7, 25),
+                     calendar.getSolarDate(LunarDate.of(2025, LunarMonth.of(6, true), 1), zoneId));
+
+        // The inverse of getLunarDate over leap and common years
+        for (LocalDate date = LocalDate.of(2023, 1, 1); date.getYear() < 2027; date = date.plusDays(1))
+            assertEquals(date, calendar.getSolarDate(calendar.getLunarDate(date, zoneId), zoneId));
+
+        // No leap fifth month in 2025, and the twelfth month of 2024 has 29 days
+        assertThrows(IllegalArgumentException.class,
+                     () -> calendar.getSolarDate(LunarDate.of(2025, LunarMonth.of(5, true), 1), zoneId));
+        assertThrows(IllegalArgumentException.class,
+                     () -> calendar.getSolarDate(LunarDate.of(2024, 12, 30), zoneId));
+        assertThrows(NullPointerException.class, () -> calendar.getSolarDate(null, zoneId));
+    }
+
+    @Test
+    void testSolarTermInfo() {
+        LunisolarCalendar calendar = DefaultLunisolarCalendar.getInstance();
+        SolarTime solarTime = SolarTime.getInstance();
+        ZoneId zoneId = ZoneId.of("Asia/Ho_Chi_Minh");
+
+        // Crosses the start and the end of the 2026 term table
+        for (LocalDate date = LocalDate.of(2025, 12, 15); date.isBefore(LocalDate.of(2027, 1, 15)); date = date.plusDays(1)) {
+            Moment anchor = Moment.ofInstant(date.atStartOfDay(zoneId).toInstant());
+            SolarTerm atStart = SolarTerm.from(solarTime.apparentLongitudeAt(anchor));
+            SolarTerm atEnd = SolarTerm.from(solarTime.apparentLongitudeAt(anchor.plusSeconds(86399)));
+
+            DailySolarTerm info = calendar.getDate(date, zoneId).solarTermInfo();
+            assertEquals(atEnd, info.termOfDay(), date.toString());
+            assertEquals(atStart != atEnd, info.transition().isPresent(), date.toString());
+            info.transition().ifPresent(transition -> {
+                assertTrue(transition.value() >= anchor.value());
+                assertTrue(transition.value() < anchor.value() + 86400);
+            });
+        }
+    }
+
+    @Test
+    void testCacheStats() {
+        LunisolarCalendar calendar = DefaultLunisolarCalendar.getInstance();
+        ZoneId zoneId = ZoneId.of("Asia/Ho_Chi_Minh");
+
+        Executor previous = DefaultLunisolarCalendar.getPrefetchExecutor();
+        // Background loads would change the counters between the snapshots
+        DefaultLunisolarCalendar.setPrefetchExecutor(task -> {});
+        try {
+            calendar.getLunarDate(LocalDate.of(2026, 2, 21), zoneId);
+            CacheStats before = calendar.cacheStats();
+            calendar.getLunarDate(LocalDate.of(2026, 2, 21), zoneId);
+            CacheStats after = calendar.cacheStats();
+
+            assertTrue(after.hitCount() > before.hitCount());
+            assertEquals(before.missCount(), after.missCount());
+            assertTrue(after.size() <= after.maximumSize());
+        } finally {
+            DefaultLunisolarCalendar.setPrefetchExecutor(previous);
+        }
+    }
+
+    @Test
+    void testPrefetch() {
+        LunisolarCalendar calendar = DefaultLunisolarCalendar.getInstance();
+        ZoneId zoneId = ZoneOffset.ofHoursMinutes(9, 30);
+        List<Runnable> tasks = new ArrayList<>();
+
+        Executor previous = DefaultLunisolarCalendar.getPrefetchExecutor();
+        DefaultLunisolarCalendar.setPrefetchExecutor(tasks::add);
+        try {
+            // The end of 2031 belongs to the frame anchored on 2031 only
+            assertEquals(2031, calendar.getLunarDate(LocalDate.of(2031, 12, 31), zoneId).year());
+            assertTrue(DefaultLunisolarCalendar.isYearFrameCached(2031, zoneId));
+            assertFalse(DefaultLunisolarCalendar.isYearFrameCached(2030, zoneId));
+            assertFalse(DefaultLunisolarCalendar.isYearFrameCached(2032, zoneId));
+            assertEquals(2, tasks.size());
+
+            tasks.forEach(Runnable::run);
+            assertTrue(DefaultLunisolarCalendar.isYearFrameCached(2030, zoneId));
+            assertTrue(DefaultLunisolarCalendar.isYearFrameCached(2032, zoneId));
+
+            // Prefetched frames do not prefetch their own neighbours
+            assertEquals(2, tasks.size());
+        } finally {
+            DefaultLunisolarCalendar.setPrefetchExecutor(previous);
+        }
+
+        assertThrows(NullPointerException.class, () -> LunisolarCalendars.setPrefetchExecutor(null));
+    }
+
+    @Test
+    void testWarmUp() {
+        LunisolarCalendar calendar = DefaultLunisolarCalendar.getInstance();
+        ZoneId zoneId = ZoneOffset.ofHoursMinutes(-3, -30);
+        List<Runnable> tasks = new ArrayList<>();
+
+        Executor previous = DefaultLunisolarCalendar.getPrefetchExecutor();
+        DefaultLunisolarCalendar.setPrefetchExecutor(tasks::add);
+        try {
+            calendar.warmUp(2040, 2041, zoneId);
+            for (int year = 2039; year <= 2041; year++)
+                assertTrue(DefaultLunisolarCalendar.isYearFrameCached(year, zoneId));
+            assertTrue(tasks.isEmpty());
+
+            CacheStats before = calendar.cacheStats();
+            calendar.getLunarDate(LocalDate.of(2040, 1, 1), zoneId);
+            calendar.getLunarDate(LocalDate.of(2041, 12, 31), zoneId);
+            assertEquals(before.missCount(), calendar.cacheStats().missCount());
+        } finally {
+            DefaultLunisolarCalendar.setPrefetchExecutor(previous);
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> calendar.warmUp(2041, 2040, zoneId));
+        assertThrows(NullPointerException.class, () -> calendar.warmUp(2040, 2041, null));
+    }
+
+    @Test
+    void testYearOfEpochDay() {
+        for (long epochDay = LocalDate.of(-401, 1, 1).toEpochDay();
+             epochDay <= LocalDate.of(2401, 12, 31).toEpochDay(); epochDay++) {
+            assertEquals(LocalDate.ofEpochDay(epochDay).getYear(), DefaultLunisolarCalendar.yearOfEpochDay(epochDay));
+        }
+    }
+
+    @Test
+    void testGetDates() {
+        LunisolarCalendar calendar = DefaultLunisolarCalendar.getInstance();
+        ZoneId zoneId = ZoneId.of("Asia/Ho_Chi_Minh");
+        LocalDate from = LocalDate.of(2025, 1, 1);
+        LocalDate to = LocalDate.of(2026, 1, 1);
+
+        List<LunisolarDate> dates = calendar.getDates(from, to, zoneId);
+        assertEquals(365, dates.size());
+
+        for (LunisolarDate date : dates) {
+            LunisolarDate expected = calendar.getDate(date.toSolarDate(), zoneId);
+
+            assertEquals(expected, date);
+            assertEquals(expected.toLunarDate(), date.toLunarDate());
+            assertEquals(expected.toSexagenaryDateTime(), date.toSexagenaryDateTime());
+            assertEquals(expected.holidayIds(), date.holidayIds());
+            assertEquals(expected.solarTermInfo().termOfDay(), date.solarTermInfo().termOfDay());
+            assertEquals(expected.solarTermInfo().transition().isPresent(),
+                         date.solarTermInfo().transition().isPresent());
+
+            expected.solarTermInfo().transition().ifPresent(transition -> {
+                long actual = date.solarTermInfo().transition().get().value();
+                assertTrue(Math.abs(transition.value() - actual) <= 60);
+            });
+        }
+
+        assertEquals(from, dates.get(0).toSolarDate());
+        assertEquals(to.minusDays(1), dates.get(dates.size() - 1).toSolarDate());
+        assertThrows(UnsupportedOperationException.class, () -> dates.add(dates.get(0)));
+    }
+
+    @Test
+    void testStream() {
+        LunisolarCalendar calendar = DefaultLunisolarCalendar.getInstance();
+        ZoneId zoneId = ZoneId.of("Asia/Ho_Chi_Minh");
+        LocalDate from = LocalDate.of(2020, 6, 1);
+        LocalDate to = LocalDate.of(2026, 3, 1);
+
+        List<LunisolarDate> expected = calendar.getDates(from, to, zoneId);
+        List<LunisolarDate> sequential = calendar.stream(from, to, zoneId).toList();
+        List<LunisolarDate> parallel = calendar.stream(from, to, zoneId).parallel().toList();
+
+        assertEquals(expected, sequential);
+        assertEquals(expected, parallel);
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).toSexagenaryDateTime(), parallel.get(i).toSexagenaryDateTime());
+            assertEquals(expected.get(i).solarTermInfo().termOfDay(), parallel.get(i).solarTermInfo().termOfDay());
+            assertEquals(expected.get(i).holidayIds(), parallel.get(i).holidayIds());
+        }
+
+        assertEquals(0, calendar.stream(from, from, zoneId).count());
+        assertThrows(IllegalArgumentException.class, () -> calendar.stream(to, from, zoneId));
+        assertThrows(NullPointerException.class, () -> calendar.stream(from, to, null));
+    }
+
+    @Test
+    void testStreamSplit() {
+        LunisolarCalendar calendar = DefaultLunisolarCalendar.getInstance();
+        ZoneId zoneId = ZoneId.of("Asia/Ho_Chi_Minh");
+        LocalDate from = LocalDate.of(2020, 6, 1);
+        LocalDate to = LocalDate.of(2026, 3, 1);
+
+        Spliterator<LunisolarDate> suffix = calendar.stream(from, to, zoneId).spliterator();
+        assertTrue(suffix.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED));
+        long size = suffix.getExactSizeIfKnown();
+
+        Spliterator<LunisolarDate> prefix = suffix.trySplit();
+        assertNotNull(prefix);
+        assertEquals(size, prefix.getExactSizeIfKnown() + suffix.getExactSizeIfKnown());
+
+        // The suffix starts a lunar year frame, at the first day of the eleventh month
+        suffix.tryAdvance(date -> {
+            assertEquals(11, date.toLunarDate().monthValue());
+            assertEquals(1, date.toLunarDate().dayOfMonth());
+        });
+
+        // Within a year frame, splits fall on the first day of a month
+        Spliterator<LunisolarDate> month = calendar.stream(LocalDate.of(2026, 3, 1), LocalDate.of(2026, 8, 1), zoneId)
+                .spliterator();
+        assertNotNull(month.trySplit());
+        month.tryAdvance(date -> assertEquals(1, date.toLunarDate().dayOfMonth()));
+
+        // Ranges within a month cannot be split
+        assertNull(calendar.stream(LocalDate.of(2026, 3, 20), LocalDate.of(2026, 3, 30), zoneId)
+                           .spliterator()
+                           .trySplit());
+    }
+
+    @Test
+    void testGetLunarDates() {
+        LunisolarCalendar calendar = DefaultLunisolarCalendar.getInstance();
+        ZoneId zoneId = ZoneId.of("Asia/Ho_Chi_Minh");
+        LocalDate from = LocalDate.of(2024, 12, 15);
+        LocalDate to = LocalDate.of(2026, 3, 1);
+
+        List<LunarDate> lunarDates = calendar.getLunarDates(from, to, zoneId);
+        assertEquals(to.toEpochDay() - from.toEpochDay(), lunarDates.size());
+
+        LocalDate date = from;
+        for (LunarDate lunarDate : lunarDates) {
+            assertEquals(calendar.getLunarDate(date, zoneId), lunarDate);
+            date = date.plusDays(1);
+        }
+
+        assertTrue(calendar.getLunarDates(from, from, zoneId).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> calendar.getLunarDates(to, from, zoneId));
+        assertThrows(NullPointerException.class, () -> calendar.getLunarDates(null, to, zoneId));
+        assertThrows(NullPointerException.class, () -> calendar.getDates(from, to, null));
+    }
 }
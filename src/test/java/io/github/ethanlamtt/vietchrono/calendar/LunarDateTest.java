@@ -84,4 +84,43 @@ class LunarDateTest {
         assertThrows(IllegalArgumentException.class, () -> LunarDate.of(2026, 1, 0));
         assertThrows(IllegalArgumentException.class, () -> LunarDate.of(2026, 1, 32));
     }
+
+    @Test
+    void testPack() {
+        LunarDate a = LunarDate.of(2025, LunarMonth.of(6, true), 29);
+        long packed = a.toPacked();
+        assertEquals(LunarDate.pack(2025, 6, true, 29), packed);
+        assertEquals(2025, LunarDate.unpackYear(packed));
+        assertEquals(6, LunarDate.unpackMonthValue(packed));
+        assertTrue(LunarDate.unpackLeapMonth(packed));
+        assertEquals(29, LunarDate.unpackDayOfMonth(packed));
+        assertEquals(a, LunarDate.ofPacked(packed));
+
+        LunarDate b = LunarDate.of(-1, 12, 30);
+        assertEquals(b, LunarDate.ofPacked(b.toPacked()));
+
+        assertThrows(IllegalArgumentException.class, () -> LunarDate.pack(2026, 0, false, 1));
+        assertThrows(IllegalArgumentException.class, () -> LunarDate.pack(2026, 13, false, 1));
+        assertThrows(IllegalArgumentException.class, () -> LunarDate.pack(2026, 1, false, 31));
+        assertThrows(IllegalArgumentException.class, () -> LunarDate.ofPacked(0));
+    }
+
+    @Test
+    void testPackOrder() {
+        LunarDate[] dates = {
+                LunarDate.of(-1, 12, 30),
+                LunarDate.of(0, 1, 1),
+                LunarDate.of(2025, 6, 29),
+                LunarDate.of(2025, LunarMonth.of(6, true), 1),
+                LunarDate.of(2025, 7, 1),
+                LunarDate.of(2026, 1, 1)
+        };
+
+        for (LunarDate a : dates) {
+            for (LunarDate b : dates) {
+                assertEquals(Integer.signum(a.compareTo(b)),
+                             Long.signum(Long.compare(a.toPacked(), b.toPacked())));
+            }
+        }
+    }
 }
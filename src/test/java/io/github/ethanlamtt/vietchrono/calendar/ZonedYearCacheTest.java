@@ -0,0 +1,147 @@
+package io.github.ethanlamtt.vietchrono.calendar;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ZonedYearCacheTest {
+
+    @Test
+    void testGet() {
+        ZonedYearCache<String> cache = new ZonedYearCache<>(16);
+        AtomicInteger loads = new AtomicInteger();
+        ZonedYearCache.Loader<String> loader = (year, zoneId) -> {
+            loads.incrementAndGet();
+            return year + "@" + zoneId;
+        };
+
+        ZoneId zoneId = ZoneId.of("Asia/Ho_Chi_Minh");
+        String a = cache.get(2025, zoneId, loader);
+        String b = cache.get(2025, zoneId, loader);
+
+        assertEquals("2025@Asia/Ho_Chi_Minh", a);
+        assertSame(a, b);
+        assertEquals(1, loads.get());
+
+        assertEquals("2026@Asia/Ho_Chi_Minh", cache.get(2026, zoneId, loader));
+        assertEquals("2025@Z", cache.get(2025, ZoneOffset.UTC, loader));
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void testZonesSharingRules() {
+        ZonedYearCache<String> cache = new ZonedYearCache<>(16);
+        ZonedYearCache.Loader<String> loader = (year, zoneId) -> year + "@" + zoneId;
+
+        // Asia/Saigon is a link to Asia/Ho_Chi_Minh
+        String a = cache.get(2025, ZoneId.of("Asia/Ho_Chi_Minh"), loader);
+        String b = cache.get(2025, ZoneId.of("Asia/Saigon"), loader);
+        assertSame(a, b);
+    }
+
+    @Test
+    void testEviction() {
+        ZonedYearCache<Integer> cache = new ZonedYearCache<>(8);
+        ZonedYearCache.Loader<Integer> loader = (year, zoneId) -> year;
+
+        for (int year = 1800; year < 2200; year++)
+            assertEquals(year, cache.get(year, ZoneOffset.UTC, loader));
+
+        CacheStats stats = cache.stats();
+        assertEquals(8, stats.maximumSize());
+        assertEquals(8, stats.size());
+        assertEquals(400, stats.missCount());
+        assertEquals(0, stats.hitCount());
+        assertEquals(392, stats.evictionCount());
+        assertTrue(stats.totalLoadTime() >= 0);
+    }
+
+    @Test
+    void testLeastRecentlyUsed() {
+        // A single set of 4 entries
+        ZonedYearCache<Integer> cache = new ZonedYearCache<>(4);
+        AtomicInteger loads = new AtomicInteger();
+        ZonedYearCache.Loader<Integer> loader = (year, zoneId) -> {
+            loads.incrementAndGet();
+            return year;
+        };
+
+        for (int year = 2020; year < 2024; year++)
+            cache.get(year, ZoneOffset.UTC, loader);
+
+        cache.get(2020, ZoneOffset.UTC, loader);
+        cache.get(2024, ZoneOffset.UTC, loader);
+        assertEquals(5, loads.get());
+
+        // 2021 was evicted, 2020 was kept
+        cache.get(2020, ZoneOffset.UTC, loader);
+        assertEquals(5, loads.get());
+        cache.get(2021, ZoneOffset.UTC, loader);
+        assertEquals(6, loads.get());
+    }
+
+    @Test
+    void testSingleFlight() throws Exception {
+        ZonedYearCache<Integer> cache = new ZonedYearCache<>(16);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ZonedYearCache.Loader<Integer> loader = (year, zoneId) -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            return year;
+        };
+
+        List<Thread> threads = new ArrayList<>();
+        AtomicInteger results = new AtomicInteger();
+        for (int i = 0; i < 8; i++) {
+            threads.add(Thread.startVirtualThread(() -> {
+                if (cache.get(2025, ZoneOffset.UTC, loader) == 2025)
+                    results.incrementAndGet();
+            }));
+        }
+
+        assertTrue(loading.await(10, TimeUnit.SECONDS));
+        assertTrue(cache.contains(2025, ZoneOffset.UTC));
+        release.countDown();
+        for (Thread thread : threads)
+            thread.join();
+
+        assertEquals(1, loads.get());
+        assertEquals(8, results.get());
+        assertEquals(1, cache.stats().missCount());
+        assertEquals(7, cache.stats().hitCount());
+    }
+
+    @Test
+    void testFailedLoad() {
+        ZonedYearCache<Integer> cache = new ZonedYearCache<>(16);
+
+        assertThrows(IllegalStateException.class, () -> cache.get(2025, ZoneOffset.UTC, (year, zoneId) -> {
+            throw new IllegalStateException();
+        }));
+        assertFalse(cache.contains(2025, ZoneOffset.UTC));
+        assertEquals(2025, cache.get(2025, ZoneOffset.UTC, (year, zoneId) -> year));
+    }
+
+    @Test
+    void testMaximumSize() {
+        assertEquals(4, new ZonedYearCache<>(1).stats().maximumSize());
+        assertEquals(16, new ZonedYearCache<>(16).stats().maximumSize());
+        assertEquals(16, new ZonedYearCache<>(31).stats().maximumSize());
+        assertThrows(IllegalArgumentException.class, () -> new ZonedYearCache<>(0));
+    }
+}
@@ -1,5 +1,8 @@
 package io.github.ethanlamtt.vietchrono.format;
 
+import io.github.ethanlamtt.vietchrono.holiday.HolidayId;
+import io.github.ethanlamtt.vietchrono.holiday.HolidayRules;
+import io.github.ethanlamtt.vietchrono.holiday.HolidayType;
 import org.junit.jupiter.api.Test;
 
 import java.util.Locale;
@@ -92,4 +95,30 @@ class HolidayDisplayNameProviderTest {
         HolidayDisplayNameProvider provider = HolidayDisplayNameProvider.getInstance();
         assertThrows(IllegalArgumentException.class, () -> provider.getName("Tomb_Sweeping_Day", Locale.CHINESE));
     }
+
+    @Test
+    void testGetNameByHolidayId() {
+        HolidayDisplayNameProvider provider = HolidayDisplayNameProvider.getInstance();
+        HolidayId midAutumn = HolidayId.of("Mid_Autumn", HolidayType.LUNAR);
+
+        assertEquals("Tết Trung Thu", provider.getName(midAutumn, Locale.of("vi", "VN")));
+        assertEquals("Mid-Autumn Festival", provider.getName(midAutumn, Locale.ENGLISH));
+
+        assertThrows(IllegalArgumentException.class, () -> provider.getName(midAutumn, Locale.CHINESE));
+        assertThrows(NullPointerException.class, () -> provider.getName((HolidayId) null, Locale.ENGLISH));
+    }
+
+    @Test
+    void testGetNameByOrdinal() {
+        HolidayDisplayNameProvider provider = HolidayDisplayNameProvider.getInstance();
+        HolidayRules rules = HolidayRules.getInstance();
+        int midAutumn = rules.ordinalOf(HolidayId.of("Mid_Autumn", HolidayType.LUNAR));
+
+        assertEquals("Tết Trung Thu", provider.getName(midAutumn, Locale.of("vi", "VN")));
+        assertEquals("Mid-Autumn Festival", provider.getName(midAutumn, Locale.ENGLISH));
+
+        assertThrows(IllegalArgumentException.class, () -> provider.getName(-1, Locale.ENGLISH));
+        assertThrows(IllegalArgumentException.class, () -> provider.getName(rules.holidayCount(), Locale.ENGLISH));
+        assertThrows(NullPointerException.class, () -> provider.getName(midAutumn, null));
+    }
 }
@@ -0,0 +1,105 @@
+package io.github.ethanlamtt.vietchrono.format;
+
+import io.github.ethanlamtt.vietchrono.calendar.LunisolarCalendars;
+import io.github.ethanlamtt.vietchrono.calendar.LunisolarDate;
+import io.github.ethanlamtt.vietchrono.format.views.AuspiciousHourView;
+import io.github.ethanlamtt.vietchrono.format.views.HolidayView;
+import io.github.ethanlamtt.vietchrono.format.views.LunarDateView;
+import io.github.ethanlamtt.vietchrono.format.views.LunisolarDateView;
+import io.github.ethanlamtt.vietchrono.holiday.HolidayType;
+import io.github.ethanlamtt.vietchrono.sexagenary.AuspiciousHour;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LunisolarDateViewFormatterTest {
+
+    private static final ZoneId ZONE_ID = ZoneId.of("Asia/Ho_Chi_Minh");
+
+    @Test
+    void testOfLocale() {
+        LunisolarDateViewFormatter a = LunisolarDateViewFormatter.ofLocale(Locale.of("vi", "VN"));
+        LunisolarDateViewFormatter b = LunisolarDateViewFormatter.ofLocale(Locale.of("vi", "VN"));
+        assertSame(a, b);
+        assertEquals(Locale.of("vi", "VN"), a.locale());
+
+        assertThrows(IllegalArgumentException.class, () -> LunisolarDateViewFormatter.ofLocale(Locale.CHINESE));
+        assertThrows(NullPointerException.class, () -> LunisolarDateViewFormatter.ofLocale(null));
+    }
+
+    @Test
+    void testFormat() {
+        Locale vi = Locale.of("vi");
+        // Mid-Autumn Festival of 2025
+        LunisolarDate date = LunisolarCalendars.ofDefault()
+                .getDate(LocalDate.of(2025, 10, 6), ZONE_ID);
+
+        LunisolarDateView view = LunisolarDateViewFormatter.ofLocale(vi)
+                .format(date, ZONE_ID);
+
+        assertEquals(2025, view.solarDate().year());
+        assertEquals(1, view.solarDate().dayOfWeekValue());
+        assertEquals(LunarDateDisplayNameProvider.getInstance().getMonthName(date.toLunarDate(), vi),
+                     view.lunarDate().lunarMonth());
+        assertEquals("Rằm", view.lunarDate().lunarDay());
+        assertEquals(SolarTermDisplayNameProvider.getInstance().getName(date.solarTermInfo().termOfDay(), vi),
+                     view.solarTermInfo().termOfDay());
+
+        SexagenaryDisplayNameProvider sexagenary = SexagenaryDisplayNameProvider.getInstance();
+        assertEquals(sexagenary.getStemName(date.toSexagenaryDateTime().day().stem(), vi) + " "
+                             + sexagenary.getBranchName(date.toSexagenaryDateTime().day().branch(), vi),
+                     view.sexagenaryDateTime().day());
+
+        List<AuspiciousHour> hours = date.toSexagenaryDateTime().toSexagenaryDate().auspiciousHours();
+        assertEquals(hours.size(), view.auspiciousHours().size());
+        for (int i = 0; i < hours.size(); i++) {
+            AuspiciousHourView hourView = view.auspiciousHours().get(i);
+            assertEquals(hours.get(i).doubleHour().startTime().toString(), hourView.startTime());
+            assertEquals(hours.get(i).doubleHour().endTime().toString(), hourView.endTime());
+        }
+
+        assertTrue(view.holidays().contains(HolidayView.of("Tết Trung Thu", HolidayType.LUNAR)));
+
+        // The static form formats alike
+        LunisolarDateView staticView = LunisolarDateViewFormatter.format(date, ZONE_ID, vi);
+        assertEquals(view.lunarDate().lunarDay(), staticView.lunarDate().lunarDay());
+        assertEquals(view.holidays(), staticView.holidays());
+    }
+
+    @Test
+    void testFormatLeapMonth() {
+        Locale vi = Locale.of("vi");
+        LunisolarDateViewFormatter formatter = LunisolarDateViewFormatter.ofLocale(vi);
+        LunarDateDisplayNameProvider provider = LunarDateDisplayNameProvider.getInstance();
+
+        // The leap fourth month of 2020 and the months around it
+        LunisolarCalendars.ofDefault()
+                .stream(LocalDate.of(2020, 4, 1), LocalDate.of(2020, 8, 1), ZONE_ID)
+                .forEach(date -> {
+                    LunarDateView view = formatter.format(date, ZONE_ID).lunarDate();
+                    assertEquals(provider.getMonthName(date.toLunarDate(), vi), view.lunarMonth());
+                    assertEquals(provider.getDayName(date.toLunarDate(), vi), view.lunarDay());
+                });
+    }
+
+    @Test
+    void testFormatHolidays() {
+        Locale en = Locale.ENGLISH;
+        LunisolarDateViewFormatter formatter = LunisolarDateViewFormatter.ofLocale(en);
+        HolidayDisplayNameProvider provider = HolidayDisplayNameProvider.getInstance();
+
+        LunisolarCalendars.ofDefault()
+                .stream(LocalDate.of(2025, 1, 1), LocalDate.of(2026, 1, 1), ZONE_ID)
+                .forEach(date -> {
+                    List<HolidayView> expected = date.holidayIds().stream()
+                            .map(id -> HolidayView.of(provider.getName(id.id(), en), id.type()))
+                            .toList();
+                    assertEquals(expected, formatter.format(date, ZONE_ID).holidays(), date.toString());
+                });
+    }
+}
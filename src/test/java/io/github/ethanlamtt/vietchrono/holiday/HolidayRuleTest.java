@@ -83,4 +83,43 @@ class HolidayRuleTest {
         assertThrows(NullPointerException.class, nullId);
         assertThrows(NullPointerException.class, nullType);
     }
+
+    @Test
+    void testSolarTerm() {
+        HolidayRule a = HolidayRule.solarTerm("Tomb_Sweeping_Day", SolarTerm.PURE_BRIGHTNESS);
+        assertEquals(HolidayId.of("Tomb_Sweeping_Day", HolidayType.SOLAR), a.id());
+        assertEquals(HolidayRuleKind.SOLAR_TERM, a.kind());
+        assertEquals(SolarTerm.PURE_BRIGHTNESS, a.solarTerm());
+
+        LocalDate localDate = LocalDate.of(1970, 4, 5);
+        LunarDate lunarDate = LunarDate.of(1970, 3, 1);
+        assertTrue(a.matches(HolidayRuleContext.of(
+                localDate, lunarDate, DailySolarTerm.of(SolarTerm.PURE_BRIGHTNESS, Moment.of(0)))));
+        assertFalse(a.matches(HolidayRuleContext.of(
+                localDate, lunarDate, DailySolarTerm.of(SolarTerm.PURE_BRIGHTNESS, null))));
+
+        assertThrows(NullPointerException.class, () -> HolidayRule.solarTerm("Tomb_Sweeping_Day", null));
+    }
+
+    @Test
+    void testKind() {
+        HolidayRule solar = HolidayRule.fixedSolar("New_Years_Day", 1, 1);
+        assertEquals(HolidayRuleKind.FIXED_SOLAR, solar.kind());
+        assertEquals(1, solar.month());
+        assertEquals(1, solar.day());
+
+        HolidayRule lunar = HolidayRule.fixedLunar("Mid_Autumn", 8, 15);
+        assertEquals(HolidayRuleKind.FIXED_LUNAR, lunar.kind());
+        assertEquals(8, lunar.month());
+        assertEquals(15, lunar.day());
+
+        HolidayRule arbitrary = HolidayRule.of(
+                HolidayId.of("Friday_The_13th", HolidayType.SOLAR),
+                context -> context.solarDay() == 13
+        );
+        assertEquals(HolidayRuleKind.ARBITRARY, arbitrary.kind());
+
+        assertThrows(IllegalArgumentException.class, () -> HolidayRule.fixedSolar("Invalid", 13, 1));
+        assertThrows(IllegalArgumentException.class, () -> HolidayRule.fixedLunar("Invalid", 1, 32));
+    }
 }
@@ -3,11 +3,18 @@ package io.github.ethanlamtt.vietchrono.holiday;
 import io.github.ethanlamtt.vietchrono.astro.Moment;
 import io.github.ethanlamtt.vietchrono.calendar.DailySolarTerm;
 import io.github.ethanlamtt.vietchrono.calendar.LunarDate;
+import io.github.ethanlamtt.vietchrono.calendar.LunisolarCalendar;
+import io.github.ethanlamtt.vietchrono.calendar.LunisolarCalendars;
 import io.github.ethanlamtt.vietchrono.calendar.SolarTerm;
 import org.junit.jupiter.api.Test;
 
 import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -33,4 +40,167 @@ class HolidayRulesTest {
 
         assertThrows(NullPointerException.class, () -> a.applyRules(null));
     }
+
+    @Test
+    void testApplyRulesOrder() {
+        HolidayRules a = HolidayRules.getInstance();
+        // Lunar New Year's Day of 2026, on Tuesday 17 February
+        LocalDate localDate = LocalDate.of(2026, 2, 17);
+        LunarDate lunarDate = LunarDate.of(2026, 1, 1);
+        DailySolarTerm dailySolarTerm = DailySolarTerm.of(SolarTerm.START_OF_SPRING, null);
+
+        List<HolidayId> ids = a.applyRules(localDate, lunarDate, dailySolarTerm);
+        assertEquals(a.applyRules(HolidayRuleContext.of(localDate, lunarDate, dailySolarTerm)), ids);
+        assertTrue(ids.contains(HolidayId.of("Lunar_New_Year", HolidayType.LUNAR)), ids.toString());
+    }
+
+    @Test
+    void testApplyRulesSolarTerm() {
+        HolidayRules a = HolidayRules.getInstance();
+        LocalDate localDate = LocalDate.of(2025, 4, 4);
+        LunarDate lunarDate = LunarDate.of(2025, 3, 7);
+        HolidayId tombSweepingDay = HolidayId.of("Tomb_Sweeping_Day", HolidayType.SOLAR);
+
+        assertEquals(List.of(tombSweepingDay), a.applyRules(
+                localDate, lunarDate, DailySolarTerm.of(SolarTerm.PURE_BRIGHTNESS, Moment.of(0))));
+        assertTrue(a.applyRules(localDate, lunarDate, DailySolarTerm.of(SolarTerm.PURE_BRIGHTNESS, null))
+                           .isEmpty());
+    }
+
+    @Test
+    void testApplyRulesNone() {
+        HolidayRules a = HolidayRules.getInstance();
+        LocalDate localDate = LocalDate.of(2025, 7, 8);
+        LunarDate lunarDate = LunarDate.of(2025, 6, 14);
+        DailySolarTerm dailySolarTerm = DailySolarTerm.of(SolarTerm.MINOR_HEAT, null);
+
+        List<HolidayId> ids = a.applyRules(localDate, lunarDate, dailySolarTerm);
+        assertSame(List.of(), ids);
+
+        assertThrows(NullPointerException.class, () -> a.applyRules(null, lunarDate, dailySolarTerm));
+    }
+
+    @Test
+    void testOccurrences() {
+        HolidayRules a = HolidayRules.getInstance();
+        ZoneId zoneId = ZoneId.of("Asia/Ho_Chi_Minh");
+
+        assertEquals(List.of(LocalDate.of(2024, 2, 10), LocalDate.of(2025, 1, 29), LocalDate.of(2026, 2, 17)),
+                     a.occurrences(HolidayId.of("Lunar_New_Year", HolidayType.LUNAR), 2024, 2026, zoneId));
+        assertEquals(List.of(LocalDate.of(2025, 10, 6)),
+                     a.occurrences(HolidayId.of("Mid_Autumn", HolidayType.LUNAR), 2025, 2025, zoneId));
+        assertEquals(List.of(LocalDate.of(2025, 4, 4)),
+                     a.occurrences(HolidayId.of("Tomb_Sweeping_Day", HolidayType.SOLAR), 2025, 2025, zoneId));
+        assertTrue(a.occurrences(HolidayId.of("Unknown", HolidayType.SOLAR), 2024, 2026, zoneId).isEmpty());
+
+        assertThrows(IllegalArgumentException.class,
+                     () -> a.occurrences(HolidayId.of("Lunar_New_Year", HolidayType.LUNAR), 2026, 2024, zoneId));
+        assertThrows(NullPointerException.class, () -> a.occurrences(null, 2024, 2026, zoneId));
+    }
+
+    @Test
+    void testOccurrencesMatchApplyRules() {
+        HolidayRules a = HolidayRules.getInstance();
+        LunisolarCalendar calendar = LunisolarCalendars.ofDefault();
+        ZoneId zoneId = ZoneId.of("Asia/Ho_Chi_Minh");
+
+        // Two years, 2020 has a leap fourth month and Vesak Day twice
+        Map<HolidayId, List<LocalDate>> expected = new HashMap<>();
+        calendar.stream(LocalDate.of(2020, 1, 1), LocalDate.of(2022, 1, 1), zoneId)
+                .forEach(date -> date.holidayIds().forEach(
+                        id -> expected.computeIfAbsent(id, key -> new ArrayList<>()).add(date.toSolarDate())));
+
+        assertEquals(3, expected.get(HolidayId.of("Vesak_Day", HolidayType.LUNAR)).size());
+        expected.forEach((id, dates) -> assertEquals(dates, a.occurrences(id, 2020, 2021, zoneId), id.toString()));
+    }
+
+    @Test
+    void testOrdinals() {
+        HolidayRules a = HolidayRules.getInstance();
+        assertTrue(a.supportsMasks());
+
+        for (int ordinal = 0; ordinal < a.holidayCount(); ordinal++)
+            assertEquals(ordinal, a.ordinalOf(a.holidayOf(ordinal)));
+
+        assertEquals(-1, a.ordinalOf(HolidayId.of("Unknown", HolidayType.SOLAR)));
+        assertEquals(0L, a.maskOf(HolidayId.of("Unknown", HolidayType.SOLAR)));
+        assertThrows(IllegalArgumentException.class, () -> a.holidayOf(-1));
+        assertThrows(IllegalArgumentException.class, () -> a.holidayOf(a.holidayCount()));
+    }
+
+    @Test
+    void testApplyRulesMask() {
+        HolidayRules a = HolidayRules.getInstance();
+        LunisolarCalendar calendar = LunisolarCalendars.ofDefault();
+        ZoneId zoneId = ZoneId.of("Asia/Ho_Chi_Minh");
+
+        calendar.stream(LocalDate.of(2025, 1, 1), LocalDate.of(2026, 1, 1), zoneId)
+                .forEach(date -> {
+                    long mask = a.applyRulesMask(date.toSolarDate(), date.toLunarDate(), date.solarTermInfo());
+                    assertEquals(date.holidayMask(), mask, date.toSolarDate().toString());
+                    assertEquals(date.holidayIds().size(), a.listOfMask(mask).size());
+                });
+
+        // Ids created for lookups take no bit of a mask
+        for (int i = 0; i < 2 * HolidayRules.MASK_SIZE; i++)
+            HolidayId.of("Lookup_" + i, HolidayType.SOLAR);
+
+        // Lunar New Year's Day of 2026
+        HolidayId lunarNewYear = HolidayId.of("Lunar_New_Year", HolidayType.LUNAR);
+        long mask = a.applyRulesMask(LocalDate.of(2026, 2, 17), LunarDate.of(2026, 1, 1),
+                                     DailySolarTerm.of(SolarTerm.START_OF_SPRING, null));
+        assertNotEquals(0L, mask & a.maskOf(lunarNewYear));
+        assertTrue(a.listOfMask(mask).contains(lunarNewYear));
+        assertEquals(mask, calendar.getDate(LocalDate.of(2026, 2, 17), zoneId).holidayMask());
+    }
+
+    @Test
+    void testHolidaysOf() {
+        HolidayRules a = HolidayRules.getInstance();
+        LunisolarCalendar calendar = LunisolarCalendars.ofDefault();
+        ZoneId zoneId = ZoneId.of("Asia/Ho_Chi_Minh");
+
+        calendar.stream(LocalDate.of(2025, 1, 1), LocalDate.of(2026, 1, 1), zoneId)
+                .forEach(date -> {
+                    DailyHolidays holidays = a.holidaysOf(date.toSolarDate(), date.toLunarDate(),
+                                                          date.solarTermInfo());
+                    assertEquals(a.applyRules(date.toSolarDate(), date.toLunarDate(), date.solarTermInfo()),
+                                 holidays.ids());
+                    assertEquals(date.holidays(), holidays);
+                    for (int i = 0; i < holidays.size(); i++)
+                        assertEquals(a.ordinalOf(holidays.ids().get(i)), holidays.ordinalAt(i));
+                    assertEquals(holidays.bits(), BitSet.valueOf(new long[] {holidays.mask()}));
+                });
+
+        assertEquals(a.holidaysOf(LocalDate.of(2025, 9, 2), LunarDate.of(2025, 7, 11),
+                                  DailySolarTerm.of(SolarTerm.AWAKENING_OF_INSECTS, null)),
+                     a.holidaysOf(List.of(HolidayId.of("Vietnam_National_Day", HolidayType.SOLAR))));
+    }
+
+    @Test
+    void testHolidaysBeyondMask() {
+        // One holiday on each of the first 70 days of the year
+        List<HolidayRule> rules = new ArrayList<>();
+        for (LocalDate date = LocalDate.of(2025, 1, 1); rules.size() < 70; date = date.plusDays(1))
+            rules.add(HolidayRule.fixedSolar("Day_" + date.getDayOfYear(), date.getMonthValue(),
+                                             date.getDayOfMonth()));
+
+        HolidayRules a = new HolidayRules(() -> rules);
+        assertFalse(a.supportsMasks());
+
+        LocalDate solarDate = LocalDate.of(2025, 3, 10);
+        DailySolarTerm solarTerm = DailySolarTerm.of(SolarTerm.AWAKENING_OF_INSECTS, null);
+        DailyHolidays holidays = a.holidaysOf(solarDate, LunarDate.of(2025, 2, 11), solarTerm);
+        HolidayId id = HolidayId.of("Day_69", HolidayType.SOLAR);
+
+        assertEquals(List.of(id), holidays.ids());
+        assertFalse(holidays.hasMask());
+        assertThrows(IllegalStateException.class, holidays::mask);
+        assertEquals(BitSet.valueOf(new long[] {0L, 1L << 4}), holidays.bits());
+        assertEquals(holidays.bits(), a.applyRulesBits(solarDate, LunarDate.of(2025, 2, 11), solarTerm));
+        assertEquals(List.of(id), a.listOfBits(holidays.bits()));
+        assertEquals(holidays, a.holidaysOf(List.of(id)));
+        assertThrows(IllegalStateException.class,
+                     () -> a.applyRulesMask(solarDate, LunarDate.of(2025, 2, 11), solarTerm));
+    }
 }
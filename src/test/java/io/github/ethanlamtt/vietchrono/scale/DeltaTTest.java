@@ -2,11 +2,15 @@ package io.github.ethanlamtt.vietchrono.scale;
 
 import org.junit.jupiter.api.Test;
 
+import java.time.Instant;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class DeltaTTest {
 
@@ -39,4 +43,45 @@ class DeltaTTest {
         double value = deltaT.atZonedDateTime(zdt);
         assertEquals(63.86, value, 1e-9);
     }
+
+    @Test
+    void testAtZonedDateTimeWithinYear() {
+        DeltaT deltaT = DeltaT.getInstance();
+        ZonedDateTime zdt = ZonedDateTime.of(2024, 7, 2, 0,
+                0, 0, 0, ZoneOffset.UTC);
+        // July 2 starts the 184th of 366 days
+        double value = deltaT.atZonedDateTime(zdt);
+        assertEquals(deltaT.atYear(2024 + 183.0 / 366), value, 1e-9);
+    }
+
+    @Test
+    void testAtEpochSecond() {
+        DeltaT deltaT = DeltaT.getInstance();
+        assertEquals(63.86, deltaT.atEpochSecond(946684800L), 1e-9);
+
+        long from = ZonedDateTime.of(-3999, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC).toEpochSecond();
+        long to = ZonedDateTime.of(5999, 12, 31, 0, 0, 0, 0, ZoneOffset.UTC).toEpochSecond();
+        for (long epochSecond = from; epochSecond < to; epochSecond += 3_000_017L) {
+            ZonedDateTime zdt = Instant.ofEpochSecond(epochSecond).atZone(ZoneOffset.UTC);
+            double expected = deltaT.atZonedDateTime(zdt);
+            double actual = deltaT.atEpochSecond(epochSecond);
+            assertTrue(Math.abs(expected - actual) <= DeltaT.TABLE_TOLERANCE, zdt + ": " + actual);
+        }
+
+        // Outside of the table
+        long epochSecond = ZonedDateTime.of(8000, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC).toEpochSecond();
+        assertEquals(deltaT.atYear(8000), deltaT.atEpochSecond(epochSecond), 1e-9);
+    }
+
+    @Test
+    void testFingerprint() {
+        DeltaT deltaT = DeltaT.getInstance();
+        double[] samples = deltaT.fingerprint();
+        assertTrue(deltaT.matchesFingerprint(samples));
+
+        samples[0] += 1e-6;
+        assertFalse(deltaT.matchesFingerprint(samples));
+        assertFalse(deltaT.matchesFingerprint(new double[0]));
+        assertThrows(NullPointerException.class, () -> deltaT.matchesFingerprint(null));
+    }
 }
@@ -0,0 +1,73 @@
+package io.github.ethanlamtt.vietchrono.scale;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TabulatedDeltaTProviderTest {
+
+    @Test
+    void testEstimate() {
+        DeltaTProvider provider = new TabulatedDeltaTProvider();
+
+        // Tabulated values
+        assertEquals(121.0, provider.estimate(1620), 1e-9);
+        assertEquals(-2.8, provider.estimate(1900), 1e-9);
+        assertEquals(63.8, provider.estimate(2000), 1e-9);
+        assertEquals(69.2, provider.estimate(2024), 1e-9);
+
+        // Between the values of 1970 and 1972
+        double value = provider.estimate(1971);
+        assertTrue(value > 40.2 && value < 42.2, "1971: " + value);
+    }
+
+    @Test
+    void testEstimateOutsideTable() {
+        DeltaTProvider provider = new TabulatedDeltaTProvider();
+        DeltaTProvider polynomial = EspenakMeeusDeltaTProvider.getInstance();
+
+        // Continuous at the edges
+        assertEquals(provider.estimate(2024), provider.estimate(Math.nextUp(2024.0)), 1e-6);
+        assertEquals(provider.estimate(1620), provider.estimate(Math.nextDown(1620.0)), 1e-6);
+
+        // The polynomial once the shift has faded out
+        assertEquals(polynomial.estimate(2200), provider.estimate(2200), 1e-9);
+        assertEquals(polynomial.estimate(1000), provider.estimate(1000), 1e-9);
+    }
+
+    @Test
+    void testRead() throws IOException {
+        TabulatedDeltaTProvider.Table table = TabulatedDeltaTProvider.Table.read(new StringReader("""
+                # comment
+                2000 1.0
+                2001 8.0
+
+                2002 27.0
+                2003 64.0
+                2004 125.0
+                """));
+
+        assertEquals(2000.0, table.firstYear(), 1e-9);
+        assertEquals(2004.0, table.lastYear(), 1e-9);
+
+        // A cubic is interpolated exactly
+        assertEquals(3.375, table.interpolate(2000.5), 1e-9);
+        assertEquals(91.125, table.interpolate(2003.5), 1e-9);
+    }
+
+    @Test
+    void testReadMalformed() {
+        assertThrows(IllegalArgumentException.class,
+                     () -> TabulatedDeltaTProvider.Table.read(new StringReader("2000 1.0\n2001\n")));
+        assertThrows(IllegalArgumentException.class,
+                     () -> TabulatedDeltaTProvider.Table.read(new StringReader("2000 1.0\n2001 2.0\n")));
+        assertThrows(IllegalArgumentException.class,
+                     () -> TabulatedDeltaTProvider.Table.read(
+                             new StringReader("2000 1.0\n2001 2.0\n2003 3.0\n2004 4.0\n")));
+    }
+}
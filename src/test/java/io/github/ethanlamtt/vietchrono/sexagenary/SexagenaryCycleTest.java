@@ -69,6 +69,16 @@ class SexagenaryCycleTest {
         assertEquals(SNAKE, a.branch());
     }
 
+    @Test
+    void testOfEpochDay() {
+        assertEquals(SexagenaryCycle.of(YIN_METAL, SNAKE), SexagenaryCycle.ofEpochDay(0));
+        // 60 days earlier and later
+        assertEquals(SexagenaryCycle.of(YIN_METAL, SNAKE), SexagenaryCycle.ofEpochDay(-60));
+        assertEquals(SexagenaryCycle.of(YIN_METAL, SNAKE), SexagenaryCycle.ofEpochDay(60));
+        // December 31, 1969
+        assertEquals(SexagenaryCycle.of(YANG_METAL, DRAGON), SexagenaryCycle.ofEpochDay(-1));
+    }
+
     @Test
     void testOfMonth() {
         SexagenaryCycle cyclicYear = SexagenaryCycle.ofYear(2026);